@@ -0,0 +1,167 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jetbrains.annotations.NotNull;
+import org.openapi4j.core.util.TreeUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates production-scale spec and response fixtures based on <code>site-api.yaml</code>.
+ */
+final class BenchmarkFixtures {
+
+  static final String SMALL_SPEC = "site-api-spec/site-api.yaml";
+  static final String SMALL_RESPONSE = "json-samples/valid-response.json";
+
+  /**
+   * Number of suffixes in the generated large spec.
+   */
+  static final int LARGE_SPEC_SUFFIXES = 200;
+
+  /**
+   * Number of array entries in the generated large responses.
+   */
+  static final int LARGE_RESPONSE_ITEMS = 5000;
+
+  /**
+   * Suffix of the large spec used for the generated responses.
+   */
+  static final String LARGE_SUFFIX = "generated0";
+
+  private static final String INDEX_PATH = "{contentPath}.site.v1.api/index.json";
+  private static final String SCHEMA_POINTER = "/get/responses/200/content/application~1json/schema";
+
+  private BenchmarkFixtures() {
+    // static methods only
+  }
+
+  static @NotNull URL getResource(@NotNull String path) {
+    URL url = BenchmarkFixtures.class.getClassLoader().getResource(path);
+    if (url == null) {
+      throw new IllegalArgumentException("Resource not found: " + path);
+    }
+    return url;
+  }
+
+  static byte @NotNull [] readResource(@NotNull String path) throws IOException {
+    try (InputStream is = getResource(path).openStream()) {
+      return is.readAllBytes();
+    }
+  }
+
+  /**
+   * Writes a large spec derived from <code>site-api.yaml</code>: The index path is kept, and
+   * {@link #LARGE_SPEC_SUFFIXES} additional paths are added, each returning an array of items
+   * with its own component schema.
+   * @param directory Target directory
+   * @return Spec file
+   * @throws IOException I/O exception
+   */
+  static @NotNull Path writeLargeSpec(@NotNull Path directory) throws IOException {
+    ObjectNode rootNode = (ObjectNode)TreeUtil.yaml.readTree(getResource(SMALL_SPEC));
+    ObjectNode paths = (ObjectNode)rootNode.get("paths");
+    ObjectNode schemas = (ObjectNode)rootNode.get("components").get("schemas");
+    JsonNode indexPath = paths.get(INDEX_PATH);
+    schemas.set("Link", linkSchema());
+
+    for (int i = 0; i < LARGE_SPEC_SUFFIXES; i++) {
+      String suffix = "generated" + i;
+      String schemaName = "Item" + i;
+      ObjectNode path = indexPath.deepCopy();
+      ObjectNode schema = (ObjectNode)path.at(SCHEMA_POINTER);
+      schema.removeAll();
+      schema.put("type", "array");
+      schema.putObject("items").put("$ref", "#/components/schemas/" + schemaName);
+      paths.set("{contentPath}.site.v1.api/" + suffix + ".json", path);
+      schemas.set(schemaName, itemSchema(i));
+    }
+
+    Path specFile = directory.resolve("site-api-large.yaml");
+    // JSON is valid YAML
+    Files.write(specFile, TreeUtil.json.writeValueAsBytes(rootNode));
+    return specFile;
+  }
+
+  private static ObjectNode linkSchema() {
+    ObjectNode schema = TreeUtil.json.createObjectNode();
+    schema.put("type", "object");
+    ObjectNode properties = schema.putObject("properties");
+    properties.putObject("href").put("type", "string").put("pattern", "^http(|s)://.+");
+    properties.putObject("title").put("type", "string").put("nullable", true);
+    schema.putArray("required").add("href");
+    schema.put("additionalProperties", false);
+    return schema;
+  }
+
+  private static ObjectNode itemSchema(int index) {
+    ObjectNode schema = TreeUtil.json.createObjectNode();
+    schema.put("type", "object");
+    schema.put("description", "Generated item schema " + index);
+    ObjectNode properties = schema.putObject("properties");
+    properties.putObject("suffix").put("type", "string").put("minLength", 1);
+    properties.putObject("url").put("type", "string").put("pattern", "^http(|s)://.+");
+    properties.putObject("title").put("type", "string").put("maxLength", 200);
+    properties.putObject("order").put("type", "integer").put("minimum", 0);
+    properties.putObject("hidden").put("type", "boolean");
+    properties.putObject("tags").put("type", "array").putObject("items").put("type", "string");
+    properties.putObject("link").put("$ref", "#/components/schemas/Link");
+    schema.putArray("required").add("suffix").add("url").add("order");
+    schema.put("additionalProperties", false);
+    return schema;
+  }
+
+  /**
+   * Generates a response for suffix {@link #LARGE_SUFFIX} of the large spec.
+   * @param valid If false, every 10th item violates the schema
+   * @return JSON response
+   * @throws IOException I/O exception
+   */
+  static byte @NotNull [] largeResponse(boolean valid) throws IOException {
+    ArrayNode response = TreeUtil.json.createArrayNode();
+    for (int i = 0; i < LARGE_RESPONSE_ITEMS; i++) {
+      boolean invalidItem = !valid && i % 10 == 0;
+      ObjectNode item = response.addObject();
+      item.put("suffix", "item" + i);
+      item.put("url", (invalidItem ? "ftp" : "http") + "://localhost:4502/content/siteapi-test/en/page" + i + ".html");
+      item.put("title", "Page " + i);
+      item.put("order", invalidItem ? -1 : i);
+      item.put("hidden", i % 2 == 0);
+      item.putArray("tags").add("tag" + (i % 7)).add("tag" + (i % 13));
+      ObjectNode link = item.putObject("link");
+      link.put("href", "https://localhost/content/siteapi-test/en/page" + i + ".html");
+      link.putNull("title");
+      if (invalidItem) {
+        item.put("unexpected", true);
+      }
+    }
+    return TreeUtil.json.writeValueAsBytes(response);
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator.benchmark;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.wcm.siteapi.openapi.validator.OpenApiSpecVersions;
+
+/**
+ * Benchmarks spec file discovery in classpath.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecDiscoveryBenchmark {
+
+  /**
+   * Spec file discovery with a classpath scan: A fresh context class loader bypasses the scan cache.
+   * @return Spec versions
+   * @throws IOException I/O exception
+   */
+  @Benchmark
+  public OpenApiSpecVersions discoveryClasspathScan() throws IOException {
+    Thread thread = Thread.currentThread();
+    ClassLoader original = thread.getContextClassLoader();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], original)) {
+      thread.setContextClassLoader(classLoader);
+      return new OpenApiSpecVersions();
+    }
+    finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  /**
+   * Spec file discovery with cached classpath scan result.
+   * @return Spec versions
+   */
+  @Benchmark
+  public OpenApiSpecVersions discoveryCached() {
+    return new OpenApiSpecVersions();
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.wcm.siteapi.openapi.validator.OpenApiSpec;
+import io.wcm.siteapi.openapi.validator.OpenApiSpecOptions;
+import io.wcm.siteapi.openapi.validator.OpenApiSpecSnapshot;
+
+/**
+ * Benchmarks spec loading.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecLoadingBenchmark {
+
+  private static final OpenApiSpecOptions UNCACHED = OpenApiSpecOptions.DEFAULT.withConformanceCache(false);
+
+  @Param({ "small", "large" })
+  public String spec;
+
+  private Path tempDir;
+  private URL specUrl;
+  private URL snapshotUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("openapi-validator-jmh");
+    if ("large".equals(spec)) {
+      specUrl = BenchmarkFixtures.writeLargeSpec(tempDir).toUri().toURL();
+    }
+    else {
+      specUrl = BenchmarkFixtures.getResource(BenchmarkFixtures.SMALL_SPEC);
+    }
+    Path snapshotFile = tempDir.resolve("spec.snapshot");
+    try (OutputStream os = Files.newOutputStream(snapshotFile)) {
+      OpenApiSpecSnapshot.write(new OpenApiSpec(specUrl, ""), os);
+    }
+    snapshotUrl = snapshotFile.toUri().toURL();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    PathUtils.deleteDirectory(tempDir);
+  }
+
+  /**
+   * Spec loading including full OAS3 conformance validation.
+   * @return Spec
+   */
+  @Benchmark
+  public OpenApiSpec loadSpec() {
+    return new OpenApiSpec(specUrl, "", UNCACHED);
+  }
+
+  /**
+   * Spec loading with conformance check skipped via content hash cache.
+   * @return Spec
+   */
+  @Benchmark
+  public OpenApiSpec loadSpecConformanceCached() {
+    return new OpenApiSpec(specUrl, "");
+  }
+
+  /**
+   * Spec loading from binary snapshot.
+   * @return Spec
+   */
+  @Benchmark
+  public OpenApiSpec loadSpecSnapshot() {
+    return OpenApiSpecSnapshot.read(snapshotUrl);
+  }
+
+}
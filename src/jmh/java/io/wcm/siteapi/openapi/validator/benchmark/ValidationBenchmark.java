@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator.benchmark;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.wcm.siteapi.openapi.validator.ConformanceCheck;
+import io.wcm.siteapi.openapi.validator.ContentValidationException;
+import io.wcm.siteapi.openapi.validator.OpenApiSchemaValidator;
+import io.wcm.siteapi.openapi.validator.OpenApiSpec;
+import io.wcm.siteapi.openapi.validator.OpenApiSpecOptions;
+
+/**
+ * Benchmarks schema validator compilation and response validation against the generated large spec.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+  private static final OpenApiSpecOptions NO_CONFORMANCE_CHECK = OpenApiSpecOptions.DEFAULT
+      .withConformanceCheck(ConformanceCheck.DISABLED);
+
+  private Path tempDir;
+  private URL largeSpecUrl;
+  private OpenApiSpec largeSpec;
+  private OpenApiSchemaValidator smallValidator;
+  private OpenApiSchemaValidator largeValidator;
+  private byte[] smallResponse;
+  private byte[] largeResponse;
+  private byte[] largeInvalidResponse;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("openapi-validator-jmh");
+    largeSpecUrl = BenchmarkFixtures.writeLargeSpec(tempDir).toUri().toURL();
+    largeSpec = new OpenApiSpec(largeSpecUrl, "");
+    largeValidator = largeSpec.getSchemaValidator(BenchmarkFixtures.LARGE_SUFFIX);
+    smallValidator = new OpenApiSpec(BenchmarkFixtures.SMALL_SPEC, "").getSchemaValidator("index");
+    smallResponse = BenchmarkFixtures.readResource(BenchmarkFixtures.SMALL_RESPONSE);
+    largeResponse = BenchmarkFixtures.largeResponse(true);
+    largeInvalidResponse = BenchmarkFixtures.largeResponse(false);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    PathUtils.deleteDirectory(tempDir);
+  }
+
+  /**
+   * Fresh spec instance per invocation, so {@link #getSchemaValidatorFirstCall} measures the schema compilation.
+   * Note that the reported allocation rate includes the allocations of this setup.
+   */
+  @State(Scope.Thread)
+  public static class FreshSpec {
+
+    OpenApiSpec spec;
+
+    @Setup(Level.Invocation)
+    public void setUp(ValidationBenchmark benchmark) {
+      spec = new OpenApiSpec(benchmark.largeSpecUrl, "", NO_CONFORMANCE_CHECK);
+    }
+
+  }
+
+  @Benchmark
+  public OpenApiSchemaValidator getSchemaValidatorFirstCall(FreshSpec freshSpec) {
+    return freshSpec.spec.getSchemaValidator(BenchmarkFixtures.LARGE_SUFFIX);
+  }
+
+  @Benchmark
+  public OpenApiSchemaValidator getSchemaValidatorCached() {
+    return largeSpec.getSchemaValidator(BenchmarkFixtures.LARGE_SUFFIX);
+  }
+
+  @Benchmark
+  public void validateSmall() throws ContentValidationException {
+    smallValidator.validate(smallResponse);
+  }
+
+  @Benchmark
+  public void validateLarge() throws ContentValidationException {
+    largeValidator.validate(largeResponse);
+  }
+
+  @Benchmark
+  public ContentValidationException validateLargeInvalid() {
+    try {
+      largeValidator.validate(largeInvalidResponse);
+      throw new IllegalStateException("Expected validation failure.");
+    }
+    catch (ContentValidationException ex) {
+      return ex;
+    }
+  }
+
+}
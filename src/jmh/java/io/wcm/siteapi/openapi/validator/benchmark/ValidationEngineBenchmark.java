@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.openapi4j.core.util.TreeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.wcm.siteapi.openapi.validator.ConformanceCheck;
+import io.wcm.siteapi.openapi.validator.OpenApiSchemaValidator;
+import io.wcm.siteapi.openapi.validator.OpenApiSpec;
+import io.wcm.siteapi.openapi.validator.OpenApiSpecOptions;
+import io.wcm.siteapi.openapi.validator.ValidationEngine;
+import io.wcm.siteapi.openapi.validator.ValidationOutcome;
+
+/**
+ * Compares the validation engines on the large response of the generated large spec.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationEngineBenchmark {
+
+  @Param({ "TREE", "STREAMING", "COMPILED" })
+  public ValidationEngine engine;
+
+  private Path tempDir;
+  private OpenApiSchemaValidator validator;
+  private byte[] largeResponse;
+  private byte[] largeInvalidResponse;
+  private JsonNode largeResponseTree;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("openapi-validator-jmh");
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT
+        .withConformanceCheck(ConformanceCheck.DISABLED)
+        .withValidationEngine(engine);
+    OpenApiSpec spec = new OpenApiSpec(BenchmarkFixtures.writeLargeSpec(tempDir).toUri().toURL(), "", options);
+    validator = spec.getSchemaValidator(BenchmarkFixtures.LARGE_SUFFIX);
+    if (engine == ValidationEngine.STREAMING && !validator.isStreaming()
+        || engine == ValidationEngine.COMPILED && !validator.isCompiled()) {
+      throw new IllegalStateException("Schema not supported by engine " + engine);
+    }
+    largeResponse = BenchmarkFixtures.largeResponse(true);
+    largeInvalidResponse = BenchmarkFixtures.largeResponse(false);
+    largeResponseTree = TreeUtil.json.readTree(largeResponse);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    PathUtils.deleteDirectory(tempDir);
+  }
+
+  /**
+   * Parsing and validation of the serialized response.
+   * @return Outcome
+   */
+  @Benchmark
+  public ValidationOutcome validateBytes() {
+    return validator.check(largeResponse);
+  }
+
+  /**
+   * Parsing and validation of the serialized response with errors in every 10th item.
+   * @return Outcome
+   */
+  @Benchmark
+  public ValidationOutcome validateBytesInvalid() {
+    return validator.check(largeInvalidResponse);
+  }
+
+  /**
+   * Validation of the already parsed response. The streaming engine validates trees with the tree engine.
+   * @return Outcome
+   */
+  @Benchmark
+  public ValidationOutcome validateTree() {
+    return validator.check(largeResponseTree);
+  }
+
+}
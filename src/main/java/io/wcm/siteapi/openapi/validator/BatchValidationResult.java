@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Aggregated result of a batch validation via {@link BatchValidator}.
+ */
+public final class BatchValidationResult {
+
+  private final Map<String, SuffixValidationResult> suffixResults;
+
+  BatchValidationResult(@NotNull Map<String, SuffixValidationResult> suffixResults) {
+    this.suffixResults = suffixResults;
+  }
+
+  /**
+   * @return Results by suffix, sorted by suffix
+   */
+  public @NotNull Map<String, SuffixValidationResult> getSuffixResults() {
+    return this.suffixResults;
+  }
+
+  /**
+   * @param suffix Suffix
+   * @return Result for suffix, or null if no content item with this suffix was validated
+   */
+  public @Nullable SuffixValidationResult getSuffixResult(@NotNull String suffix) {
+    return suffixResults.get(suffix);
+  }
+
+  /**
+   * @return Total number of valid content items
+   */
+  public long getValidCount() {
+    return suffixResults.values().stream().mapToLong(SuffixValidationResult::getValidCount).sum();
+  }
+
+  /**
+   * @return Total number of invalid content items
+   */
+  public long getInvalidCount() {
+    return suffixResults.values().stream().mapToLong(SuffixValidationResult::getInvalidCount).sum();
+  }
+
+  /**
+   * @return Total number of content items that were not validated because the spec defines no schema for their suffix
+   */
+  public long getSkippedCount() {
+    return suffixResults.values().stream().mapToLong(SuffixValidationResult::getSkippedCount).sum();
+  }
+
+  /**
+   * @return true if all content items were validated and are valid
+   */
+  public boolean isValid() {
+    return suffixResults.values().stream().allMatch(SuffixValidationResult::isValid);
+  }
+
+  @Override
+  public String toString() {
+    return getValidCount() + " valid, " + getInvalidCount() + " invalid, " + getSkippedCount() + " skipped";
+  }
+
+}
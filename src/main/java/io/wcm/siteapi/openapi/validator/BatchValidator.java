@@ -0,0 +1,275 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validates large numbers of content items, e.g. all JSON files of a site export, in parallel.
+ *
+ * <p>
+ * Content items are read from the input stream in the calling thread and validated using the configured executor.
+ * The number of content items submitted but not yet validated is bounded, so the input stream is only consumed
+ * as fast as the items can be validated. The schema validators are shared between all threads,
+ * see {@link OpenApiSchemaValidator}.
+ * </p>
+ *
+ * <p>
+ * Create instance via {@link OpenApiSpec#batchValidator()}. Instances are immutable,
+ * each <code>with...</code> method returns a copy with the changed option.
+ * </p>
+ */
+public final class BatchValidator {
+
+  private static final int DEFAULT_MAX_FAILURES_PER_SUFFIX = 1000;
+
+  private final OpenApiSpec spec;
+  private Executor executor = ForkJoinPool.commonPool();
+  private int maxInFlight = ForkJoinPool.getCommonPoolParallelism() * 4;
+  private int maxErrors;
+  private int maxFailuresPerSuffix = DEFAULT_MAX_FAILURES_PER_SUFFIX;
+
+  BatchValidator(@NotNull OpenApiSpec spec) {
+    this.spec = spec;
+  }
+
+  private BatchValidator(@NotNull BatchValidator batchValidator) {
+    this.spec = batchValidator.spec;
+    this.executor = batchValidator.executor;
+    this.maxInFlight = batchValidator.maxInFlight;
+    this.maxErrors = batchValidator.maxErrors;
+    this.maxFailuresPerSuffix = batchValidator.maxFailuresPerSuffix;
+  }
+
+  /**
+   * @param value Executor for validating the content items. Default: common fork join pool.
+   *          On Java 21 or higher, a virtual-thread-per-task executor can be used as well.
+   * @return Batch validator
+   */
+  public @NotNull BatchValidator withExecutor(@NotNull Executor value) {
+    BatchValidator copy = new BatchValidator(this);
+    copy.executor = value;
+    return copy;
+  }
+
+  /**
+   * @param value Maximum number of content items submitted to the executor but not yet validated.
+   *          Default: 4 times the parallelism of the common fork join pool.
+   * @return Batch validator
+   */
+  public @NotNull BatchValidator withMaxInFlight(int value) {
+    if (value < 1) {
+      throw new IllegalArgumentException("Max in flight must be at least 1: " + value);
+    }
+    BatchValidator copy = new BatchValidator(this);
+    copy.maxInFlight = value;
+    return copy;
+  }
+
+  /**
+   * @param value Maximum number of errors collected per content item, see {@link OpenApiSchemaValidator#withMaxErrors(int)}.
+   *          Default: 0 (unlimited)
+   * @return Batch validator
+   */
+  public @NotNull BatchValidator withMaxErrors(int value) {
+    BatchValidator copy = new BatchValidator(this);
+    copy.maxErrors = value;
+    return copy;
+  }
+
+  /**
+   * @param value Maximum number of validation outcomes of invalid content items kept per suffix.
+   *          Invalid content items are still counted when the limit is reached. Default: 1000
+   * @return Batch validator
+   */
+  public @NotNull BatchValidator withMaxFailuresPerSuffix(int value) {
+    BatchValidator copy = new BatchValidator(this);
+    copy.maxFailuresPerSuffix = Math.max(value, 0);
+    return copy;
+  }
+
+  /**
+   * Validates all content items. Blocks until all content items are validated.
+   * @param items Content items. The stream is consumed, but not closed.
+   * @return Results aggregated by suffix
+   * @throws InterruptedException If the calling thread is interrupted while waiting for validation
+   */
+  public @NotNull BatchValidationResult validate(@NotNull Stream<ContentItem> items) throws InterruptedException {
+    Semaphore permits = new Semaphore(maxInFlight);
+    Map<String, Optional<OpenApiSchemaValidator>> validators = new ConcurrentHashMap<>();
+    Map<String, SuffixAccumulator> accumulators = new ConcurrentHashMap<>();
+    AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+    long sequence = 0;
+    Iterator<ContentItem> iterator = items.iterator();
+    while (iterator.hasNext() && error.get() == null) {
+      ContentItem item = iterator.next();
+      long itemSequence = sequence++;
+      permits.acquire();
+      try {
+        executor.execute(() -> {
+          try {
+            validateItem(item, itemSequence, validators, accumulators);
+          }
+          catch (RuntimeException ex) {
+            error.compareAndSet(null, ex);
+          }
+          finally {
+            permits.release();
+          }
+        });
+      }
+      catch (RejectedExecutionException ex) {
+        permits.release();
+        throw ex;
+      }
+    }
+
+    // wait for all submitted content items
+    permits.acquire(maxInFlight);
+    if (error.get() != null) {
+      throw error.get();
+    }
+
+    Map<String, SuffixValidationResult> suffixResults = new TreeMap<>();
+    accumulators.forEach((suffix, accumulator) -> suffixResults.put(suffix, accumulator.toResult()));
+    return new BatchValidationResult(suffixResults);
+  }
+
+  private void validateItem(@NotNull ContentItem item, long sequence,
+      @NotNull Map<String, Optional<OpenApiSchemaValidator>> validators,
+      @NotNull Map<String, SuffixAccumulator> accumulators) {
+    SuffixAccumulator accumulator = accumulators.computeIfAbsent(item.getSuffix(),
+        suffix -> new SuffixAccumulator(suffix, maxFailuresPerSuffix));
+    Optional<OpenApiSchemaValidator> validator = validators.computeIfAbsent(item.getSuffix(), this::getValidator);
+    if (validator.isEmpty()) {
+      accumulator.skipped.increment();
+      return;
+    }
+    ValidationOutcome outcome = validator.get().check(item.getPayload());
+    if (outcome.isValid()) {
+      accumulator.valid.increment();
+    }
+    else {
+      accumulator.addFailure(sequence, item.getId(), outcome);
+    }
+  }
+
+  private @NotNull Optional<OpenApiSchemaValidator> getValidator(@NotNull String suffix) {
+    try {
+      return Optional.of(spec.getSchemaValidator(suffix, maxErrors));
+    }
+    catch (IllegalArgumentException ex) {
+      // no schema defined for this suffix
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Collects results for a suffix from multiple threads.
+   */
+  private static final class SuffixAccumulator {
+
+    private final String suffix;
+    private final int maxFailures;
+    private final LongAdder valid = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    // keeps the failures of the first content items in input order (highest sequence on top)
+    private final PriorityQueue<Failure> failures = new PriorityQueue<>(
+        Comparator.comparingLong((Failure failure) -> failure.sequence).reversed());
+
+    SuffixAccumulator(@NotNull String suffix, int maxFailures) {
+      this.suffix = suffix;
+      this.maxFailures = maxFailures;
+    }
+
+    void addFailure(long sequence, @NotNull String id, @NotNull ValidationOutcome outcome) {
+      invalid.increment();
+      if (maxFailures == 0) {
+        return;
+      }
+      synchronized (failures) {
+        if (failures.size() < maxFailures) {
+          failures.add(new Failure(sequence, id, outcome));
+        }
+        else if (failures.peek().sequence > sequence) {
+          failures.poll();
+          failures.add(new Failure(sequence, id, outcome));
+        }
+      }
+    }
+
+    @NotNull SuffixValidationResult toResult() {
+      Map<String, ValidationOutcome> failureMap = new LinkedHashMap<>();
+      failures.stream()
+          .sorted(Comparator.comparingLong(failure -> failure.sequence))
+          .forEach(failure -> failureMap.put(failureKey(failureMap, failure), failure.outcome));
+      return new SuffixValidationResult(suffix, valid.sum(), invalid.sum(), skipped.sum(),
+          Collections.unmodifiableMap(failureMap));
+    }
+
+    /**
+     * Content items may share an ID, e.g. entries of a TAR archive appended with an updated version.
+     * Failures of an ID already reported are keyed by the ID and the position of the item in the input.
+     */
+    private static @NotNull String failureKey(@NotNull Map<String, ValidationOutcome> failureMap,
+        @NotNull Failure failure) {
+      String key = failure.id;
+      while (failureMap.containsKey(key)) {
+        key = key + "#" + failure.sequence;
+      }
+      return key;
+    }
+
+  }
+
+  private static final class Failure {
+
+    private final long sequence;
+    private final String id;
+    private final ValidationOutcome outcome;
+
+    Failure(long sequence, @NotNull String id, @NotNull ValidationOutcome outcome) {
+      this.sequence = sequence;
+      this.id = id;
+      this.outcome = outcome;
+    }
+
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openapi4j.core.validation.ValidationResult;
+
+/**
+ * Pattern of the <code>pattern</code> keyword with an optional step limit for each match.
+ *
+ * <p>
+ * The JDK regex engine backtracks, so some patterns need exponential time for certain strings. With a step limit,
+ * the text is wrapped in a char sequence that counts the characters read by the regex engine and aborts the match
+ * once the limit is exceeded, which bounds the time spent for a single match. A text exceeding the limit is
+ * reported as not respecting the pattern.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ */
+final class BoundedPattern {
+
+  private final Pattern pattern;
+  private final int stepLimit;
+
+  /**
+   * @param pattern Compiled pattern
+   * @param stepLimit Maximum number of characters read per match, 0 if unlimited
+   */
+  BoundedPattern(@NotNull Pattern pattern, int stepLimit) {
+    this.pattern = pattern;
+    this.stepLimit = stepLimit;
+  }
+
+  /**
+   * @return Regular expression
+   */
+  @NotNull String pattern() {
+    return pattern.pattern();
+  }
+
+  /**
+   * Checks if the pattern is found in the given text.
+   * The error takes the text and the regular expression as arguments.
+   * @param text Text
+   * @return null if the pattern was found, {@link KeywordErrors#PATTERN} if not, or
+   *         {@link KeywordErrors#PATTERN_STEP_LIMIT} if the step limit was exceeded
+   */
+  @Nullable ValidationResult check(@NotNull String text) {
+    if (stepLimit <= 0) {
+      return pattern.matcher(text).find() ? null : KeywordErrors.PATTERN;
+    }
+    try {
+      return pattern.matcher(new CountingCharSequence(text, stepLimit)).find() ? null : KeywordErrors.PATTERN;
+    }
+    catch (StepLimitExceededException ex) {
+      return KeywordErrors.PATTERN_STEP_LIMIT;
+    }
+  }
+
+  /**
+   * Char sequence that counts the characters read by the regex engine.
+   */
+  private static final class CountingCharSequence implements CharSequence {
+
+    private final String text;
+    private int remainingSteps;
+
+    CountingCharSequence(@NotNull String text, int stepLimit) {
+      this.text = text;
+      this.remainingSteps = stepLimit;
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (--remainingSteps < 0) {
+        throw StepLimitExceededException.INSTANCE;
+      }
+      return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+      return text.length();
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int start, int end) {
+      return text.subSequence(start, end);
+    }
+
+    @Override
+    public @NotNull String toString() {
+      return text;
+    }
+
+  }
+
+  /**
+   * Thrown to abort a match once the step limit is exceeded.
+   */
+  private static final class StepLimitExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final StepLimitExceededException INSTANCE = new StepLimitExceededException();
+
+    private StepLimitExceededException() {
+      super(null, null, false, false);
+    }
+
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.jetbrains.annotations.NotNull;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.schema.validator.JsonValidator;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Validator for the <code>pattern</code> keyword that is registered in front of the openapi4j pattern validator.
+ *
+ * <p>
+ * It matches strings with the shared compiled pattern and the optional step limit
+ * (see {@link OpenApiSpecOptions#withPatternStepLimit(int)}), reports errors with the same code and crumb as
+ * openapi4j and stops the validator chain, so the openapi4j pattern validator is skipped.
+ * Invalid regular expressions are left to the openapi4j pattern validator, which reports them per validated value.
+ * </p>
+ *
+ * <p>
+ * openapi4j always instantiates its own pattern validator for the keyword as well, which compiles a private copy of
+ * the pattern when the schema validator is built. This copy cannot be avoided, but is never used for matching.
+ * </p>
+ */
+final class BoundedPatternValidator implements JsonValidator {
+
+  private static final String KEYWORD = "pattern";
+
+  private final BoundedPattern pattern;
+
+  private BoundedPatternValidator(@NotNull BoundedPattern pattern) {
+    this.pattern = pattern;
+  }
+
+  /**
+   * Registers the validator for the <code>pattern</code> keyword in the given validation context.
+   * @param context Validation context
+   * @param patternCache Cache for sharing compiled patterns
+   * @param stepLimit Maximum number of characters read per match, 0 if unlimited
+   */
+  static void register(@NotNull ValidationContext<OAI3> context, @NotNull PatternCache patternCache, int stepLimit) {
+    context.addValidator(KEYWORD, (validationContext, schemaNode, schemaParentNode, parentSchema) -> {
+      if (schemaNode.isTextual()) {
+        try {
+          return new BoundedPatternValidator(patternCache.get(schemaNode.textValue(), stepLimit));
+        }
+        catch (PatternSyntaxException ex) {
+          // reported by openapi4j pattern validator
+        }
+      }
+      return PassThrough.INSTANCE;
+    });
+  }
+
+  /**
+   * @return false to skip the openapi4j pattern validator
+   */
+  @Override
+  public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+    if (valueNode.isTextual()) {
+      String text = valueNode.textValue();
+      ValidationResult error = pattern.check(text);
+      if (error != null) {
+        validation.add(KeywordErrors.PATTERN_CRUMB, error, text, pattern.pattern());
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void validate(JsonNode valueNode) {
+    // nothing to validate
+  }
+
+  /**
+   * Continues with the openapi4j pattern validator.
+   */
+  private static final class PassThrough implements JsonValidator {
+
+    static final PassThrough INSTANCE = new PassThrough();
+
+    @Override
+    public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+      return true;
+    }
+
+    @Override
+    public void validate(JsonNode valueNode) {
+      // nothing to validate
+    }
+
+  }
+
+}
@@ -0,0 +1,422 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Schema model for the keyword subset used in Site API specs, evaluated by the validation engines
+ * other than {@link ValidationEngine#TREE}.
+ *
+ * <p>
+ * Supported keywords: <code>type</code>, <code>nullable</code>, <code>properties</code>, <code>required</code>,
+ * <code>additionalProperties</code>, <code>items</code>, <code>pattern</code>, <code>minLength</code>,
+ * <code>maxLength</code>, <code>minimum</code>, <code>maximum</code> (with <code>exclusiveMinimum</code> and
+ * <code>exclusiveMaximum</code>) and local <code>$ref</code> references. Annotation keywords like <code>description</code> or <code>example</code> and extensions are
+ * ignored. If a schema uses any other keyword, it cannot be compiled and the openapi4j schema validator is used.
+ * The semantics of each keyword follow the openapi4j validators, including codes and messages of validation errors.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable after compilation and thread-safe.
+ * </p>
+ */
+final class CompiledSchema {
+
+  static final String TYPE_OBJECT = "object";
+  static final String TYPE_ARRAY = "array";
+  static final String TYPE_STRING = "string";
+  static final String TYPE_INTEGER = "integer";
+  static final String TYPE_NUMBER = "number";
+  static final String TYPE_BOOLEAN = "boolean";
+
+  private static final Set<String> TYPES = Set.of(TYPE_OBJECT, TYPE_ARRAY, TYPE_STRING, TYPE_INTEGER,
+      TYPE_NUMBER, TYPE_BOOLEAN);
+  private static final Set<String> ANNOTATIONS = Set.of("description", "example", "title", "default",
+      "deprecated", "externalDocs", "xml", "readOnly", "writeOnly", "abs$ref");
+  private static final String REF = "$ref";
+  private static final String EXTENSION_PREFIX = "x-";
+
+  private String reference;
+  private CompiledSchema referenced;
+  private String type;
+  private boolean nullable;
+  private Map<String, CompiledSchema> properties = Collections.emptyMap();
+  private String[] required = new String[0];
+  private Map<String, Integer> requiredIndex = Collections.emptyMap();
+  private boolean additionalPropertiesAllowed = true;
+  private CompiledSchema additionalProperties;
+  private CompiledSchema items;
+  private BoundedPattern pattern;
+  private Integer minLength;
+  private Integer maxLength;
+  private BigDecimal minimum;
+  private boolean exclusiveMinimum;
+  private BigDecimal maximum;
+  private boolean exclusiveMaximum;
+
+  private CompiledSchema() {
+    // compiled via compile method
+  }
+
+  /**
+   * @return Value of <code>$ref</code>, or null if this schema is not a reference
+   */
+  @Nullable String getReference() {
+    return this.reference;
+  }
+
+  /**
+   * @return Referenced schema, or null if this schema is not a reference
+   */
+  @Nullable CompiledSchema getReferenced() {
+    return this.referenced;
+  }
+
+  /**
+   * @return Type or null if not defined
+   */
+  @Nullable String getType() {
+    return this.type;
+  }
+
+  /**
+   * @return Value of <code>nullable</code> keyword, null values are not allowed if not defined
+   */
+  boolean isNullable() {
+    return this.nullable;
+  }
+
+  /**
+   * @return Names of defined properties
+   */
+  @NotNull Set<String> getPropertyNames() {
+    return properties.keySet();
+  }
+
+  /**
+   * @param name Property name
+   * @return Schema for property or null if not defined
+   */
+  @Nullable CompiledSchema getProperty(@NotNull String name) {
+    return properties.get(name);
+  }
+
+  /**
+   * @return Names of required properties
+   */
+  @NotNull String @NotNull [] getRequired() {
+    return this.required;
+  }
+
+  /**
+   * @param name Property name
+   * @return Index in {@link #getRequired()} or -1 if not required
+   */
+  int getRequiredIndex(@NotNull String name) {
+    Integer index = requiredIndex.get(name);
+    return index != null ? index : -1;
+  }
+
+  /**
+   * @return false if <code>additionalProperties: false</code> is defined
+   */
+  boolean isAdditionalPropertiesAllowed() {
+    return this.additionalPropertiesAllowed;
+  }
+
+  /**
+   * @return Schema for additional properties, or null if not defined
+   */
+  @Nullable CompiledSchema getAdditionalProperties() {
+    return this.additionalProperties;
+  }
+
+  /**
+   * @return Schema for array items, or null if not defined
+   */
+  @Nullable CompiledSchema getItems() {
+    return this.items;
+  }
+
+  /**
+   * @return Pattern or null if not defined
+   */
+  @Nullable BoundedPattern getPattern() {
+    return this.pattern;
+  }
+
+  /**
+   * @return Minimum length of strings or null if not defined
+   */
+  @Nullable Integer getMinLength() {
+    return this.minLength;
+  }
+
+  /**
+   * @return Maximum length of strings or null if not defined
+   */
+  @Nullable Integer getMaxLength() {
+    return this.maxLength;
+  }
+
+  /**
+   * @return Minimum of numbers or null if not defined
+   */
+  @Nullable BigDecimal getMinimum() {
+    return this.minimum;
+  }
+
+  /**
+   * @return true if the minimum itself is not allowed
+   */
+  boolean isExclusiveMinimum() {
+    return this.exclusiveMinimum;
+  }
+
+  /**
+   * @return Maximum of numbers or null if not defined
+   */
+  @Nullable BigDecimal getMaximum() {
+    return this.maximum;
+  }
+
+  /**
+   * @return true if the maximum itself is not allowed
+   */
+  boolean isExclusiveMaximum() {
+    return this.exclusiveMaximum;
+  }
+
+  /**
+   * Compiles the given schema.
+   * @param schemaNode Schema node
+   * @param rootNode Spec root node for resolving references
+   * @return Compiled schema, or null if the schema uses unsupported keywords
+   */
+  static @Nullable CompiledSchema compile(@NotNull JsonNode schemaNode, @NotNull JsonNode rootNode) {
+    return compile(schemaNode, rootNode, new PatternCache(), 0);
+  }
+
+  /**
+   * Compiles the given schema.
+   * @param schemaNode Schema node
+   * @param rootNode Spec root node for resolving references
+   * @param patternCache Cache for sharing compiled patterns
+   * @param patternStepLimit Maximum number of characters read per pattern match, 0 if unlimited
+   * @return Compiled schema, or null if the schema uses unsupported keywords
+   */
+  static @Nullable CompiledSchema compile(@NotNull JsonNode schemaNode, @NotNull JsonNode rootNode,
+      @NotNull PatternCache patternCache, int patternStepLimit) {
+    try {
+      return new Compiler(rootNode, patternCache, patternStepLimit).compile(schemaNode);
+    }
+    catch (UnsupportedSchemaException ex) {
+      return null;
+    }
+  }
+
+  private static final class Compiler {
+
+    private final JsonNode rootNode;
+    private final PatternCache patternCache;
+    private final int patternStepLimit;
+    // compiled schemas per schema node, for shared and recursive references
+    private final Map<JsonNode, CompiledSchema> compiled = new IdentityHashMap<>();
+
+    Compiler(@NotNull JsonNode rootNode, @NotNull PatternCache patternCache, int patternStepLimit) {
+      this.rootNode = rootNode;
+      this.patternCache = patternCache;
+      this.patternStepLimit = patternStepLimit;
+    }
+
+    @NotNull CompiledSchema compile(@NotNull JsonNode schemaNode) {
+      if (!schemaNode.isObject()) {
+        throw new UnsupportedSchemaException();
+      }
+      CompiledSchema result = compiled.get(schemaNode);
+      if (result != null) {
+        return result;
+      }
+      result = new CompiledSchema();
+      compiled.put(schemaNode, result);
+      JsonNode ref = schemaNode.get(REF);
+      if (ref != null) {
+        compileReference(result, schemaNode, ref);
+        return result;
+      }
+      Iterator<Map.Entry<String, JsonNode>> fields = schemaNode.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        compileKeyword(result, field.getKey(), field.getValue());
+      }
+      return result;
+    }
+
+    private void compileReference(@NotNull CompiledSchema schema, @NotNull JsonNode schemaNode, @NotNull JsonNode ref) {
+      Iterator<String> names = schemaNode.fieldNames();
+      while (names.hasNext()) {
+        String name = names.next();
+        if (!REF.equals(name) && !ANNOTATIONS.contains(name)) {
+          // keywords next to a reference
+          throw new UnsupportedSchemaException();
+        }
+      }
+      if (!ref.isTextual() || !ref.textValue().startsWith("#")) {
+        // only references within the same spec are resolved via the root node
+        throw new UnsupportedSchemaException();
+      }
+      schema.reference = ref.textValue();
+      schema.referenced = compile(rootNode.at(ref.textValue().substring(1)));
+      for (CompiledSchema item = schema.referenced; item != null; item = item.referenced) {
+        if (item == schema) {
+          // reference cycle without any schema in between
+          throw new UnsupportedSchemaException();
+        }
+      }
+    }
+
+    private void compileKeyword(@NotNull CompiledSchema schema, @NotNull String keyword, @NotNull JsonNode value) {
+      switch (keyword) {
+        case "type":
+          if (!value.isTextual() || !TYPES.contains(value.textValue())) {
+            throw new UnsupportedSchemaException();
+          }
+          schema.type = value.textValue();
+          break;
+        case "nullable":
+          schema.nullable = value.isBoolean() && value.booleanValue();
+          break;
+        case "properties":
+          Map<String, CompiledSchema> properties = new LinkedHashMap<>();
+          Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+          while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            properties.put(field.getKey(), compile(field.getValue()));
+          }
+          schema.properties = properties;
+          break;
+        case "required":
+          if (!value.isArray()) {
+            throw new UnsupportedSchemaException();
+          }
+          String[] required = new String[value.size()];
+          Map<String, Integer> requiredIndex = new HashMap<>();
+          for (int i = 0; i < required.length; i++) {
+            required[i] = value.get(i).asText();
+            requiredIndex.put(required[i], i);
+          }
+          schema.required = required;
+          schema.requiredIndex = requiredIndex;
+          break;
+        case "additionalProperties":
+          if (value.isBoolean()) {
+            schema.additionalPropertiesAllowed = value.booleanValue();
+          }
+          else {
+            schema.additionalProperties = compile(value);
+          }
+          break;
+        case "items":
+          schema.items = compile(value);
+          break;
+        case "pattern":
+          try {
+            schema.pattern = patternCache.get(value.asText(), patternStepLimit);
+          }
+          catch (PatternSyntaxException ex) {
+            // openapi4j reports invalid patterns per validated value
+            throw new UnsupportedSchemaException();
+          }
+          break;
+        case "minLength":
+          schema.minLength = toInteger(value);
+          break;
+        case "maxLength":
+          schema.maxLength = toInteger(value);
+          break;
+        case "minimum":
+          schema.minimum = toDecimal(value);
+          break;
+        case "exclusiveMinimum":
+          schema.exclusiveMinimum = toBoolean(value);
+          break;
+        case "maximum":
+          schema.maximum = toDecimal(value);
+          break;
+        case "exclusiveMaximum":
+          schema.exclusiveMaximum = toBoolean(value);
+          break;
+        default:
+          if (!ANNOTATIONS.contains(keyword) && !keyword.startsWith(EXTENSION_PREFIX)) {
+            throw new UnsupportedSchemaException();
+          }
+      }
+    }
+
+  }
+
+  private static int toInteger(@NotNull JsonNode value) {
+    if (!value.isIntegralNumber()) {
+      throw new UnsupportedSchemaException();
+    }
+    return value.intValue();
+  }
+
+  private static @NotNull BigDecimal toDecimal(@NotNull JsonNode value) {
+    if (!value.isNumber()) {
+      throw new UnsupportedSchemaException();
+    }
+    return value.decimalValue();
+  }
+
+  private static boolean toBoolean(@NotNull JsonNode value) {
+    if (!value.isBoolean()) {
+      throw new UnsupportedSchemaException();
+    }
+    return value.booleanValue();
+  }
+
+  /**
+   * Thrown if a schema uses keywords that are not supported.
+   */
+  private static final class UnsupportedSchemaException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnsupportedSchemaException() {
+      super(null, null, false, false);
+    }
+
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Remembers content hashes of specs that passed the OAS3 conformance validation,
+ * in memory and optionally as marker files in a directory.
+ *
+ * <p>
+ * Only self-contained specs are cached: a spec with references to external files may become invalid when the
+ * referenced files change, without any change of its own content.
+ * </p>
+ */
+final class ConformanceCache {
+
+  private static final Set<String> VALIDATED_HASHES = ConcurrentHashMap.newKeySet();
+  private static final String MARKER_FILE_EXTENSION = ".valid";
+  private static final String REF = "$ref";
+
+  private ConformanceCache() {
+    // static methods only
+  }
+
+  /**
+   * @param content Spec content
+   * @return SHA-256 hash of content as hex string
+   */
+  static @NotNull String hash(@NotNull String content) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+      StringBuilder result = new StringBuilder(digest.length * 2);
+      for (byte b : digest) {
+        result.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+      }
+      return result.toString();
+    }
+    catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 not supported.", ex);
+    }
+  }
+
+  /**
+   * @param rootNode Spec root node
+   * @return true if the spec contains no references to external files
+   */
+  static boolean isSelfContained(@NotNull JsonNode rootNode) {
+    Deque<JsonNode> stack = new ArrayDeque<>();
+    stack.push(rootNode);
+    while (!stack.isEmpty()) {
+      JsonNode node = stack.pop();
+      JsonNode ref = node.get(REF);
+      if (node.isObject() && ref != null && ref.isTextual() && !ref.textValue().startsWith("#")) {
+        return false;
+      }
+      if (node.isContainerNode()) {
+        node.forEach(stack::push);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param hash Content hash
+   * @param directory Cache directory or null
+   * @return true if spec with this content hash was already validated successfully
+   */
+  static boolean isValidated(@NotNull String hash, @Nullable Path directory) {
+    if (VALIDATED_HASHES.contains(hash)) {
+      return true;
+    }
+    if (directory != null && Files.exists(directory.resolve(hash + MARKER_FILE_EXTENSION))) {
+      VALIDATED_HASHES.add(hash);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Remember that spec with this content hash was validated successfully.
+   * @param hash Content hash
+   * @param directory Cache directory or null
+   */
+  static void markValidated(@NotNull String hash, @Nullable Path directory) {
+    VALIDATED_HASHES.add(hash);
+    if (directory != null) {
+      try {
+        Files.createDirectories(directory);
+        Path markerFile = directory.resolve(hash + MARKER_FILE_EXTENSION);
+        if (!Files.exists(markerFile)) {
+          Files.createFile(markerFile);
+        }
+      }
+      catch (IOException ex) {
+        // cache directory is only an optimization - ignore
+      }
+    }
+  }
+
+  /**
+   * Clears the in-memory cache.
+   */
+  static void clear() {
+    VALIDATED_HASHES.clear();
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+/**
+ * Defines how the OAS3 conformance of a spec is checked when loading it.
+ */
+public enum ConformanceCheck {
+
+  /**
+   * Validate spec when loading it, loading fails if the spec is invalid.
+   */
+  ENABLED,
+
+  /**
+   * Validate spec in background after loading it. The result is available via
+   * {@link OpenApiSpec#getConformanceValidation()}.
+   */
+  BACKGROUND,
+
+  /**
+   * Do not validate the spec. Use only for trusted specs that were already validated, e.g. at build time.
+   */
+  DISABLED
+
+}
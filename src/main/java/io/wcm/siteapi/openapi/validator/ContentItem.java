@@ -0,0 +1,88 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.nio.ByteBuffer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * JSON content to be validated against the schema of a suffix, e.g. a file of a site export.
+ * Used for batch validation via {@link BatchValidator}.
+ */
+public final class ContentItem {
+
+  private final String id;
+  private final String suffix;
+  private final ByteBuffer payload;
+
+  private ContentItem(@NotNull String id, @NotNull String suffix, @NotNull ByteBuffer payload) {
+    this.id = id;
+    this.suffix = suffix;
+    this.payload = payload;
+  }
+
+  /**
+   * @param id ID of the content item used for reporting, e.g. file name or URL
+   * @param suffix Suffix
+   * @param payload JSON content (UTF-8, UTF-16 or UTF-32 encoded). The remaining bytes of the buffer are validated.
+   * @return Content item
+   */
+  public static @NotNull ContentItem of(@NotNull String id, @NotNull String suffix, @NotNull ByteBuffer payload) {
+    return new ContentItem(id, suffix, payload);
+  }
+
+  /**
+   * @param id ID of the content item used for reporting, e.g. file name or URL
+   * @param suffix Suffix
+   * @param payload JSON content (UTF-8, UTF-16 or UTF-32 encoded)
+   * @return Content item
+   */
+  public static @NotNull ContentItem of(@NotNull String id, @NotNull String suffix, byte @NotNull [] payload) {
+    return new ContentItem(id, suffix, ByteBuffer.wrap(payload));
+  }
+
+  /**
+   * @return ID of the content item used for reporting
+   */
+  public @NotNull String getId() {
+    return this.id;
+  }
+
+  /**
+   * @return Suffix
+   */
+  public @NotNull String getSuffix() {
+    return this.suffix;
+  }
+
+  /**
+   * @return JSON content
+   */
+  public @NotNull ByteBuffer getPayload() {
+    return this.payload;
+  }
+
+  @Override
+  public String toString() {
+    return id + " (" + suffix + ")";
+  }
+
+}
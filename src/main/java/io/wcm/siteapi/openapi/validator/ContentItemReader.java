@@ -0,0 +1,350 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads JSON files from a directory, ZIP or TAR archive as content items.
+ *
+ * <p>
+ * The suffix of each file is derived from its file name: the <code>.json</code> extension is removed,
+ * and the part after the last remaining dot is used as suffix, e.g. <code>en.site.v1.api.index.json</code>
+ * or <code>index.json</code> both map to suffix <code>index</code>. Files without <code>.json</code>
+ * extension are ignored.
+ * </p>
+ *
+ * <p>
+ * Large files and TAR archives are memory-mapped, so the JSON content is parsed directly from the mapped buffers.
+ * Entries of ZIP archives are compressed, so they cannot be mapped: each entry is inflated into a byte array when
+ * the content item is read from the stream, and is released after validation.
+ * </p>
+ */
+final class ContentItemReader {
+
+  private static final String JSON_EXTENSION = ".json";
+  private static final long MAP_THRESHOLD = 64 * 1024;
+  private static final int TAR_BLOCK_SIZE = 512;
+  // POSIX ustar magic, old GNU headers use "ustar  \0" and have no name prefix field
+  private static final byte[] TAR_USTAR_MAGIC = "ustar\0".getBytes(StandardCharsets.US_ASCII);
+
+  private ContentItemReader() {
+    // static methods only
+  }
+
+  /**
+   * Reads content items from a directory (recursively), a ZIP archive (<code>.zip</code>, <code>.jar</code>)
+   * or a TAR archive (<code>.tar</code>). The returned stream has to be closed after use.
+   * @param input Directory or archive file
+   * @return Content items, read lazily
+   * @throws IOException I/O exception
+   */
+  static @NotNull Stream<ContentItem> read(@NotNull Path input) throws IOException {
+    if (Files.isDirectory(input)) {
+      return readDirectory(input);
+    }
+    String filename = input.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (filename.endsWith(".zip") || filename.endsWith(".jar")) {
+      return readZip(input);
+    }
+    if (filename.endsWith(".tar")) {
+      return readTar(input);
+    }
+    throw new IllegalArgumentException("Unsupported input (expected directory, ZIP or TAR archive): " + input);
+  }
+
+  /**
+   * @param path File path or name
+   * @return Suffix or null if the file is not a JSON file
+   */
+  static @Nullable String getSuffix(@NotNull String path) {
+    String filename = StringUtils.substringAfterLast("/" + path, "/");
+    if (!filename.endsWith(JSON_EXTENSION) || filename.length() == JSON_EXTENSION.length()) {
+      return null;
+    }
+    String name = filename.substring(0, filename.length() - JSON_EXTENSION.length());
+    return StringUtils.substringAfterLast("." + name, ".");
+  }
+
+  private static @NotNull Stream<ContentItem> readDirectory(@NotNull Path directory) throws IOException {
+    Stream<Path> files = Files.walk(directory);
+    return files
+        .filter(Files::isRegularFile)
+        .map(file -> {
+          String id = directory.relativize(file).toString().replace('\\', '/');
+          String suffix = getSuffix(id);
+          if (suffix == null) {
+            return null;
+          }
+          return ContentItem.of(id, suffix, readFile(file));
+        })
+        .filter(Objects::nonNull);
+  }
+
+  private static @NotNull ByteBuffer readFile(@NotNull Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size >= MAP_THRESHOLD) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      }
+      // small files: reading into a heap buffer is cheaper than mapping
+      ByteBuffer buffer = ByteBuffer.allocate((int)size);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // read fully
+      }
+      buffer.flip();
+      return buffer;
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException("Unable to read " + file, ex);
+    }
+  }
+
+  private static @NotNull Stream<ContentItem> readZip(@NotNull Path file) throws IOException {
+    ZipFile zipFile = new ZipFile(file.toFile());
+    return zipFile.stream()
+        .filter(entry -> !entry.isDirectory() && getSuffix(entry.getName()) != null)
+        .map(entry -> ContentItem.of(entry.getName(), getSuffix(entry.getName()), readZipEntry(zipFile, entry)))
+        .onClose(() -> {
+          try {
+            zipFile.close();
+          }
+          catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+  }
+
+  private static byte @NotNull [] readZipEntry(@NotNull ZipFile zipFile, @NotNull ZipEntry entry) {
+    try (InputStream is = zipFile.getInputStream(entry)) {
+      return is.readAllBytes();
+    }
+    catch (IOException ex) {
+      throw new UncheckedIOException("Unable to read " + entry.getName(), ex);
+    }
+  }
+
+  private static @NotNull Stream<ContentItem> readTar(@NotNull Path file) throws IOException {
+    MappedByteBuffer archive;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("TAR archives larger than 2 GB are not supported: " + file);
+      }
+      archive = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    List<ContentItem> items = new ArrayList<>();
+    for (TarEntry entry : readTarEntries(archive)) {
+      String suffix = getSuffix(entry.name);
+      if (suffix != null) {
+        // slice of the mapped archive, the content is not copied
+        ByteBuffer payload = archive.duplicate();
+        payload.position(entry.offset).limit(entry.offset + entry.size);
+        items.add(ContentItem.of(entry.name, suffix, payload.slice()));
+      }
+    }
+    return items.stream();
+  }
+
+  /**
+   * Reads the headers of a TAR archive in ustar, GNU or PAX format.
+   * @param archive TAR archive
+   * @return Regular file entries
+   * @throws IOException If the archive is corrupt
+   */
+  private static @NotNull List<TarEntry> readTarEntries(@NotNull ByteBuffer archive) throws IOException {
+    List<TarEntry> entries = new ArrayList<>();
+    String longName = null;
+    Long paxSize = null;
+    int position = 0;
+    while (position + TAR_BLOCK_SIZE <= archive.limit()) {
+      String name = readTarString(archive, position, 100);
+      if (name.isEmpty()) {
+        // end of archive
+        break;
+      }
+      long size = readTarOctal(archive, position + 124, 12);
+      char type = (char)archive.get(position + 156);
+      if (paxSize != null && type != 'x' && type != 'g' && type != 'L') {
+        size = paxSize;
+        paxSize = null;
+      }
+      int offset = position + TAR_BLOCK_SIZE;
+      if (size < 0 || offset + size > archive.limit()) {
+        throw new IOException("Unexpected end of TAR archive at entry: " + name);
+      }
+      if (type == 'L') {
+        // GNU long file name for the next entry
+        longName = readTarString(archive, offset, (int)size);
+      }
+      else if (type == 'x') {
+        // PAX extended header for the next entry
+        for (Map.Entry<String, String> record : readPaxRecords(archive, offset, (int)size).entrySet()) {
+          if ("path".equals(record.getKey())) {
+            longName = record.getValue();
+          }
+          else if ("size".equals(record.getKey())) {
+            paxSize = parsePaxSize(record.getValue());
+          }
+        }
+      }
+      else if (type != 'g') {
+        // PAX global headers are ignored, they contain no attributes needed for reading the entries
+        if (isUstarHeader(archive, position)) {
+          String prefix = readTarString(archive, position + 345, 155);
+          if (!prefix.isEmpty()) {
+            name = prefix + "/" + name;
+          }
+        }
+        if (longName != null) {
+          name = longName;
+          longName = null;
+        }
+        if (type == '0' || type == '\0') {
+          entries.add(new TarEntry(name, offset, (int)size));
+        }
+      }
+      position = offset + (int)((size + TAR_BLOCK_SIZE - 1) / TAR_BLOCK_SIZE * TAR_BLOCK_SIZE);
+    }
+    return entries;
+  }
+
+  /**
+   * @param archive TAR archive
+   * @param position Start of the header
+   * @return true if the header is in POSIX ustar or PAX format, which has a name prefix field
+   */
+  private static boolean isUstarHeader(@NotNull ByteBuffer archive, int position) {
+    for (int i = 0; i < TAR_USTAR_MAGIC.length; i++) {
+      if (archive.get(position + 257 + i) != TAR_USTAR_MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the records of a PAX extended header. Each record has the format <code>"%d %s=%s\n"</code>, starting
+   * with the record length in bytes.
+   * @param archive TAR archive
+   * @param offset Start of the header content
+   * @param length Length of the header content
+   * @return Values by keyword
+   * @throws IOException If the header is corrupt
+   */
+  private static @NotNull Map<String, String> readPaxRecords(@NotNull ByteBuffer archive, int offset, int length)
+      throws IOException {
+    Map<String, String> records = new LinkedHashMap<>();
+    int position = offset;
+    int end = offset + length;
+    while (position < end && archive.get(position) != 0) {
+      int space = position;
+      while (space < end && archive.get(space) != ' ') {
+        space++;
+      }
+      int recordLength;
+      try {
+        recordLength = Integer.parseInt(readTarString(archive, position, space - position));
+      }
+      catch (NumberFormatException ex) {
+        throw new IOException("Invalid PAX header record length.", ex);
+      }
+      int recordEnd = position + recordLength;
+      if (recordLength <= space - position || recordEnd > end || archive.get(recordEnd - 1) != '\n') {
+        throw new IOException("Invalid PAX header record.");
+      }
+      String record = readTarString(archive, space + 1, recordEnd - 1 - (space + 1));
+      int equals = record.indexOf('=');
+      if (equals < 0) {
+        throw new IOException("Invalid PAX header record: " + record);
+      }
+      records.put(record.substring(0, equals), record.substring(equals + 1));
+      position = recordEnd;
+    }
+    return records;
+  }
+
+  private static long parsePaxSize(@NotNull String value) throws IOException {
+    try {
+      return Long.parseLong(value);
+    }
+    catch (NumberFormatException ex) {
+      throw new IOException("Invalid PAX header size: " + value, ex);
+    }
+  }
+
+  private static @NotNull String readTarString(@NotNull ByteBuffer archive, int offset, int length) {
+    int end = offset;
+    while (end < offset + length && archive.get(end) != 0) {
+      end++;
+    }
+    byte[] bytes = new byte[end - offset];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = archive.get(offset + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static long readTarOctal(@NotNull ByteBuffer archive, int offset, int length) throws IOException {
+    String value = readTarString(archive, offset, length).trim();
+    try {
+      return value.isEmpty() ? 0 : Long.parseLong(value, 8);
+    }
+    catch (NumberFormatException ex) {
+      throw new IOException("Invalid TAR header value: " + value, ex);
+    }
+  }
+
+  private static final class TarEntry {
+
+    private final String name;
+    private final int offset;
+    private final int size;
+
+    TarEntry(@NotNull String name, int offset, int size) {
+      this.name = name;
+      this.offset = offset;
+      this.size = size;
+    }
+
+  }
+
+}
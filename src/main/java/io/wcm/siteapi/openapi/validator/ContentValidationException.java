@@ -20,6 +20,7 @@
 package io.wcm.siteapi.openapi.validator;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * JSON content does not conform OpenAPI3 specification.
@@ -27,11 +28,14 @@ import org.jetbrains.annotations.NotNull;
 public final class ContentValidationException extends Exception {
   private static final long serialVersionUID = 1L;
 
+  private final transient ValidationOutcome outcome;
+
   /**
    * @param message Message
    */
   public ContentValidationException(@NotNull String message) {
     super(message);
+    this.outcome = null;
   }
 
   /**
@@ -40,6 +44,32 @@ public final class ContentValidationException extends Exception {
    */
   public ContentValidationException(@NotNull String message, @NotNull Throwable cause) {
     super(message, cause);
+    this.outcome = null;
+  }
+
+  /**
+   * Creates exception for a validation outcome. Does not capture a stack trace,
+   * the message is built from the outcome on first access.
+   * @param outcome Validation outcome
+   */
+  ContentValidationException(@NotNull ValidationOutcome outcome) {
+    super(null, outcome.getParseError(), false, false);
+    this.outcome = outcome;
+  }
+
+  @Override
+  public String getMessage() {
+    if (outcome != null) {
+      return outcome.getMessage();
+    }
+    return super.getMessage();
+  }
+
+  /**
+   * @return Validation outcome with structured validation items, or null if not available.
+   */
+  public @Nullable ValidationOutcome getOutcome() {
+    return this.outcome;
   }
 
 }
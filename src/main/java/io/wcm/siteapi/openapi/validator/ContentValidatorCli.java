@@ -0,0 +1,194 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Command line tool for validating all JSON files in a directory, ZIP or TAR archive against a spec.
+ *
+ * <p>
+ * The suffix of each file is derived from its file name, e.g. <code>en.site.v1.api.index.json</code> or
+ * <code>index.json</code> are validated against the schema of suffix <code>index</code>.
+ * Files with a suffix not defined in the spec are reported as skipped.
+ * </p>
+ *
+ * <pre>
+ * Usage: ContentValidatorCli [options] &lt;directory|zip|tar&gt;
+ *   --spec &lt;file|url&gt;       Spec file. If not set, the spec is discovered via {@link OpenApiSpecVersions}.
+ *   --version &lt;version&gt;     Spec version (default: latest version when discovering the spec)
+ *   --threads &lt;n&gt;           Number of worker threads (default: number of processors)
+ *   --max-errors &lt;n&gt;        Maximum number of errors reported per file (default: unlimited)
+ *   --json-report &lt;file&gt;    Write report in JSON format
+ *   --junit-report &lt;file&gt;   Write report in JUnit XML format
+ * </pre>
+ *
+ * <p>
+ * The process exits with status 1 if invalid files are found.
+ * </p>
+ */
+public final class ContentValidatorCli {
+
+  private static final String USAGE = "Usage: " + ContentValidatorCli.class.getName() + " [options] <directory|zip|tar>\n"
+      + "  --spec <file|url>       Spec file (default: discover via " + OpenApiSpecVersions.class.getSimpleName() + ")\n"
+      + "  --version <version>     Spec version (default: latest version when discovering the spec)\n"
+      + "  --threads <n>           Number of worker threads (default: number of processors)\n"
+      + "  --max-errors <n>        Maximum number of errors reported per file (default: unlimited)\n"
+      + "  --json-report <file>    Write report in JSON format\n"
+      + "  --junit-report <file>   Write report in JUnit XML format";
+
+  private String spec;
+  private String version;
+  private int threads = Runtime.getRuntime().availableProcessors();
+  private int maxErrors;
+  private Path jsonReport;
+  private Path junitReport;
+  private Path input;
+
+  private ContentValidatorCli() {
+    // use main method
+  }
+
+  /**
+   * Validates all JSON files and writes the reports.
+   * @param args Command line arguments
+   * @throws IOException I/O exception
+   * @throws InterruptedException Interrupted while waiting for validation
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    ValidationReport report = run(args);
+    System.out.print(report.getSummary());
+    if (report.getResult().getInvalidCount() > 0) {
+      System.exit(1);
+    }
+  }
+
+  static @NotNull ValidationReport run(String @NotNull [] args) throws IOException, InterruptedException {
+    ContentValidatorCli cli = new ContentValidatorCli();
+    cli.parseArgs(args);
+    return cli.execute();
+  }
+
+  private void parseArgs(String @NotNull [] args) {
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      if (!arg.startsWith("--")) {
+        if (input != null) {
+          throw new IllegalArgumentException(USAGE);
+        }
+        input = Paths.get(arg);
+        continue;
+      }
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Missing value for " + arg + "\n" + USAGE);
+      }
+      String value = args[++i];
+      switch (arg) {
+        case "--spec":
+          spec = value;
+          break;
+        case "--version":
+          version = value;
+          break;
+        case "--threads":
+          threads = parseInt(arg, value, 1);
+          break;
+        case "--max-errors":
+          maxErrors = parseInt(arg, value, 0);
+          break;
+        case "--json-report":
+          jsonReport = Paths.get(value);
+          break;
+        case "--junit-report":
+          junitReport = Paths.get(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option: " + arg + "\n" + USAGE);
+      }
+    }
+    if (input == null) {
+      throw new IllegalArgumentException(USAGE);
+    }
+  }
+
+  private static int parseInt(@NotNull String arg, @NotNull String value, int minValue) {
+    try {
+      int result = Integer.parseInt(value);
+      if (result >= minValue) {
+        return result;
+      }
+    }
+    catch (NumberFormatException ex) {
+      // report usage below
+    }
+    throw new IllegalArgumentException("Invalid value for " + arg + " (expected number >= " + minValue + "): "
+        + value + "\n" + USAGE);
+  }
+
+  private @NotNull ValidationReport execute() throws IOException, InterruptedException {
+    OpenApiSpec openApiSpec = loadSpec();
+    openApiSpec.precompileAll();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    LongAdder totalBytes = new LongAdder();
+    long startTime = System.nanoTime();
+    BatchValidationResult result;
+    try (Stream<ContentItem> items = ContentItemReader.read(input)) {
+      result = openApiSpec.batchValidator()
+          .withExecutor(executor)
+          .withMaxInFlight(threads * 4)
+          .withMaxErrors(maxErrors)
+          .validate(items.peek(item -> totalBytes.add(item.getPayload().remaining())));
+    }
+    finally {
+      executor.shutdown();
+    }
+    long duration = System.nanoTime() - startTime;
+
+    ValidationReport report = new ValidationReport(input.toString(), openApiSpec, result, duration, totalBytes.sum());
+    if (jsonReport != null) {
+      report.writeJson(jsonReport);
+    }
+    if (junitReport != null) {
+      report.writeJUnitXml(junitReport);
+    }
+    return report;
+  }
+
+  private @NotNull OpenApiSpec loadSpec() throws MalformedURLException {
+    if (spec != null) {
+      URL specUrl = spec.contains("://") ? new URL(spec) : Paths.get(spec).toUri().toURL();
+      return new OpenApiSpec(specUrl, version != null ? version : "");
+    }
+    OpenApiSpecVersions specVersions = new OpenApiSpecVersions();
+    return version != null ? specVersions.get(version) : specVersions.getLatest();
+  }
+
+}
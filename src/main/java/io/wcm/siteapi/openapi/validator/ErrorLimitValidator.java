@@ -0,0 +1,86 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.openapi4j.core.model.v3.OAI3;
+import org.openapi4j.schema.validator.JsonValidator;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.ValidationData;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Guard validator that is registered in front of each core keyword validator of openapi4j.
+ *
+ * <p>
+ * If the validation data carries an error limit as delegate (see {@link OpenApiSchemaValidator#withMaxErrors(int)})
+ * and the number of collected errors has reached this limit, the guard stops the validator chain for the keyword.
+ * This way the remaining keywords and subtrees are skipped once the limit is reached.
+ * Without error limit the guard always continues the chain.
+ * </p>
+ */
+final class ErrorLimitValidator implements JsonValidator {
+
+  /**
+   * All keywords supported by the openapi4j core validators.
+   */
+  private static final List<String> CORE_KEYWORDS = List.of(
+      "additionalProperties", "allOf", "anyOf", "dependencies", "enum", "format", "items",
+      "maximum", "maxItems", "maxLength", "maxProperties", "minimum", "minItems", "minLength",
+      "minProperties", "multipleOf", "not", "nullable", "oneOf", "pattern", "patternProperties",
+      "properties", "$ref", "required", "type", "uniqueItems");
+
+  private static final ErrorLimitValidator INSTANCE = new ErrorLimitValidator();
+
+  private ErrorLimitValidator() {
+    // singleton
+  }
+
+  /**
+   * Registers the guard validator for all core keywords in the given validation context.
+   * @param context Validation context
+   */
+  static void register(@NotNull ValidationContext<OAI3> context) {
+    for (String keyword : CORE_KEYWORDS) {
+      context.addValidator(keyword, (validationContext, schemaNode, schemaParentNode, parentSchema) -> INSTANCE);
+    }
+  }
+
+  /**
+   * @return true to continue with the keyword validator, false to skip it
+   */
+  @Override
+  public boolean validate(JsonNode valueNode, ValidationData<?> validation) {
+    Object maxErrors = validation.delegate();
+    if (maxErrors instanceof Integer) {
+      return validation.results().size() < (Integer)maxErrors;
+    }
+    return true;
+  }
+
+  @Override
+  public void validate(JsonNode valueNode) {
+    // nothing to validate
+  }
+
+}
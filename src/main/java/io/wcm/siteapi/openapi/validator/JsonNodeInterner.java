@@ -0,0 +1,273 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Shares identical JSON subtrees and strings between spec trees.
+ *
+ * <p>
+ * {@link #intern(JsonNode)} returns a copy of the given tree in which all field names and text values are
+ * canonical string instances, and all subtrees that are equal to a subtree of a previously interned tree are
+ * replaced by the instance of that tree. Subtrees containing <code>$ref</code> are never shared, because openapi4j
+ * adds the absolute reference URL (which depends on the spec URL) to these nodes when resolving the spec.
+ * Shared subtrees must not be modified.
+ * </p>
+ *
+ * <p>
+ * Each canonical node and string counts the interned trees using it. Trees that are no longer used should be
+ * passed to {@link #release(JsonNode)}, otherwise their canonical nodes are kept as long as the interner is
+ * referenced. Instances are thread-safe.
+ * </p>
+ */
+final class JsonNodeInterner {
+
+  private static final String REF = "$ref";
+
+  // all fields are guarded by this
+  private final Map<String, String> strings = new HashMap<>();
+  private final Map<NodeKey, JsonNode> nodes = new HashMap<>();
+  private final Map<Object, Usage> usages = new IdentityHashMap<>();
+
+  /**
+   * @param root Tree
+   * @return Copy of tree with shared subtrees
+   */
+  synchronized @NotNull JsonNode intern(@NotNull JsonNode root) {
+    JsonNode result = internNode(root).node;
+    for (Object instance : canonicalInstances(result)) {
+      usages.get(instance).count++;
+    }
+    return result;
+  }
+
+  /**
+   * Releases the canonical nodes and strings of a tree that is no longer used.
+   * Nodes and strings not used by any other tree are removed from the pool.
+   * @param root Tree returned by {@link #intern(JsonNode)}
+   */
+  synchronized void release(@NotNull JsonNode root) {
+    for (Object instance : canonicalInstances(root)) {
+      Usage usage = usages.get(instance);
+      if (--usage.count == 0) {
+        usages.remove(instance);
+        if (usage.key instanceof NodeKey) {
+          nodes.remove(usage.key);
+        }
+        else {
+          strings.remove(usage.key);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return Identity set of all canonical nodes used by more than one tree
+   */
+  synchronized @NotNull Set<JsonNode> getSharedNodes() {
+    Set<JsonNode> result = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (JsonNode node : nodes.values()) {
+      if (usages.get(node).count > 1) {
+        result.add(node);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return Number of canonical nodes and strings in the pool
+   */
+  synchronized int size() {
+    return usages.size();
+  }
+
+  /**
+   * @param root Tree
+   * @return Identity set of canonical nodes and strings in the tree
+   */
+  private @NotNull Set<Object> canonicalInstances(@NotNull JsonNode root) {
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Object> result = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<JsonNode> stack = new ArrayDeque<>();
+    stack.push(root);
+    while (!stack.isEmpty()) {
+      JsonNode node = stack.pop();
+      if (!visited.add(node)) {
+        continue;
+      }
+      addCanonical(node, result);
+      if (node.isObject()) {
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          addCanonical(field.getKey(), result);
+          stack.push(field.getValue());
+        }
+      }
+      else if (node.isArray()) {
+        node.forEach(stack::push);
+      }
+      else if (node.isTextual()) {
+        addCanonical(node.textValue(), result);
+      }
+    }
+    return result;
+  }
+
+  private void addCanonical(@NotNull Object instance, @NotNull Set<Object> result) {
+    if (usages.containsKey(instance)) {
+      result.add(instance);
+    }
+  }
+
+  private @NotNull String internString(@NotNull String value) {
+    String existing = strings.putIfAbsent(value, value);
+    if (existing != null) {
+      return existing;
+    }
+    usages.put(value, new Usage(value));
+    return value;
+  }
+
+  private @NotNull Interned internNode(@NotNull JsonNode node) {
+    if (node.isObject()) {
+      ObjectNode copy = JsonNodeFactory.instance.objectNode();
+      // order-independent like ObjectNode.equals
+      int hash = 0;
+      boolean shareable = true;
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        String name = internString(field.getKey());
+        Interned child = internNode(field.getValue());
+        copy.set(name, child.node);
+        hash += name.hashCode() ^ child.hash;
+        shareable &= child.shareable && !REF.equals(name);
+      }
+      return canonical(copy, hash, shareable);
+    }
+    if (node.isArray()) {
+      ArrayNode copy = JsonNodeFactory.instance.arrayNode(node.size());
+      int hash = 1;
+      boolean shareable = true;
+      for (JsonNode item : node) {
+        Interned child = internNode(item);
+        copy.add(child.node);
+        hash = 31 * hash + child.hash;
+        shareable &= child.shareable;
+      }
+      return canonical(copy, hash, shareable);
+    }
+    if (node.isTextual()) {
+      String text = internString(node.textValue());
+      return canonical(TextNode.valueOf(text), text.hashCode(), true);
+    }
+    // numbers, booleans and null are small or singletons already
+    return new Interned(node, node.hashCode(), true);
+  }
+
+  private @NotNull Interned canonical(@NotNull JsonNode node, int hash, boolean shareable) {
+    if (!shareable) {
+      return new Interned(node, hash, false);
+    }
+    NodeKey key = new NodeKey(node, hash);
+    JsonNode existing = nodes.putIfAbsent(key, node);
+    if (existing != null) {
+      return new Interned(existing, hash, true);
+    }
+    usages.put(node, new Usage(key));
+    return new Interned(node, hash, true);
+  }
+
+  /**
+   * Pool key of a canonical node or string and the number of trees using it.
+   */
+  private static final class Usage {
+
+    private final Object key;
+    private int count;
+
+    Usage(@NotNull Object key) {
+      this.key = key;
+    }
+
+  }
+
+  private static final class Interned {
+
+    private final JsonNode node;
+    private final int hash;
+    private final boolean shareable;
+
+    Interned(@NotNull JsonNode node, int hash, boolean shareable) {
+      this.node = node;
+      this.hash = hash;
+      this.shareable = shareable;
+    }
+
+  }
+
+  /**
+   * Map key with hash code computed from the children's hash codes, to avoid deep hashing on each lookup.
+   */
+  private static final class NodeKey {
+
+    private final JsonNode node;
+    private final int hash;
+
+    NodeKey(@NotNull JsonNode node, int hash) {
+      this.node = node;
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof NodeKey)) {
+        return false;
+      }
+      NodeKey other = (NodeKey)obj;
+      // children are canonical instances already, so equals mostly compares by identity
+      return hash == other.hash && node.getNodeType() == other.node.getNodeType() && node.equals(other.node);
+    }
+
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.core.validation.ValidationResults.CrumbInfo;
+import org.openapi4j.core.validation.ValidationSeverity;
+
+/**
+ * Validation errors and schema crumbs of the keywords supported by {@link CompiledSchema}.
+ * Codes and messages are identical to the ones reported by the openapi4j schema validators.
+ */
+final class KeywordErrors {
+
+  static final ValidationResult NULLABLE = new ValidationResult(ValidationSeverity.ERROR, 1021,
+      "Null value is not allowed.");
+  static final ValidationResult TYPE = new ValidationResult(ValidationSeverity.ERROR, 1027,
+      "Type expected '%s', found '%s'.");
+  static final ValidationResult REQUIRED = new ValidationResult(ValidationSeverity.ERROR, 1026,
+      "Field '%s' is required.");
+  static final ValidationResult ADDITIONAL_PROPERTY = new ValidationResult(ValidationSeverity.ERROR, 1000,
+      "Additional property '%s' is not allowed.");
+  static final ValidationResult PATTERN = new ValidationResult(ValidationSeverity.ERROR, 1025,
+      "'%s' does not respect pattern '%s'.");
+  // same code as pattern errors, the text did not match within the step limit
+  static final ValidationResult PATTERN_STEP_LIMIT = new ValidationResult(ValidationSeverity.ERROR, 1025,
+      "'%s' does not respect pattern '%s' within the step limit.");
+  static final ValidationResult MIN_LENGTH = new ValidationResult(ValidationSeverity.ERROR, 1017,
+      "Min length is '%s', found '%s'.");
+  static final ValidationResult MAX_LENGTH = new ValidationResult(ValidationSeverity.ERROR, 1012,
+      "Max length is '%s', found '%s'.");
+  static final ValidationResult MINIMUM = new ValidationResult(ValidationSeverity.ERROR, 1015,
+      "Minimum is '%s', found '%s'.");
+  static final ValidationResult EXCLUSIVE_MINIMUM = new ValidationResult(ValidationSeverity.ERROR, 1014,
+      "Excluded minimum is '%s', found '%s'.");
+  static final ValidationResult MAXIMUM = new ValidationResult(ValidationSeverity.ERROR, 1010,
+      "Maximum is '%s', found '%s'.");
+  static final ValidationResult EXCLUSIVE_MAXIMUM = new ValidationResult(ValidationSeverity.ERROR, 1009,
+      "Excluded maximum is '%s', found '%s'.");
+
+  static final CrumbInfo NULLABLE_CRUMB = new CrumbInfo("nullable", true);
+  static final CrumbInfo TYPE_CRUMB = new CrumbInfo("type", true);
+  static final CrumbInfo REQUIRED_CRUMB = new CrumbInfo("required", true);
+  static final CrumbInfo ADDITIONAL_PROPERTIES_CRUMB = new CrumbInfo("additionalProperties", true);
+  static final CrumbInfo ITEMS_CRUMB = new CrumbInfo("items", true);
+  static final CrumbInfo PATTERN_CRUMB = new CrumbInfo("pattern", true);
+  static final CrumbInfo MIN_LENGTH_CRUMB = new CrumbInfo("minLength", true);
+  static final CrumbInfo MAX_LENGTH_CRUMB = new CrumbInfo("maxLength", true);
+  static final CrumbInfo MINIMUM_CRUMB = new CrumbInfo("minimum", true);
+  static final CrumbInfo MAXIMUM_CRUMB = new CrumbInfo("maximum", true);
+
+  private KeywordErrors() {
+    // constants only
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram for latency values in nanoseconds with log-linear buckets.
+ *
+ * <p>
+ * Similar to HdrHistogram, each power of two is divided into 16 linear sub-buckets, so percentiles are reported
+ * with a relative error below 6.25% over the full range of long values. Recording a value does not allocate.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a value.
+   * @param value Value in nanoseconds. Negative values are recorded as 0.
+   */
+  public void record(long value) {
+    long nonNegativeValue = Math.max(value, 0);
+    counts.incrementAndGet(bucketIndex(nonNegativeValue));
+    count.increment();
+    sum.add(nonNegativeValue);
+    if (nonNegativeValue > max.get()) {
+      max.accumulateAndGet(nonNegativeValue, Math::max);
+    }
+  }
+
+  /**
+   * @return Number of recorded values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return Sum of all recorded values
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * @return Mean of recorded values, 0 if no values are recorded
+   */
+  public double getMean() {
+    long currentCount = count.sum();
+    return currentCount > 0 ? (double)sum.sum() / currentCount : 0;
+  }
+
+  /**
+   * @return Maximum recorded value
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the value at the given percentile. The result is the upper bound of the bucket containing the percentile,
+   * but not higher than the maximum recorded value.
+   * @param percentile Percentile (0-100)
+   * @return Value, 0 if no values are recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long totalCount = 0;
+    long[] snapshot = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      totalCount += snapshot[i];
+    }
+    if (totalCount == 0) {
+      return 0;
+    }
+    long targetCount = Math.max(1, (long)Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * totalCount));
+    long accumulatedCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      accumulatedCount += snapshot[i];
+      if (accumulatedCount >= targetCount) {
+        return Math.min(bucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int)value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketLowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  private static long bucketUpperBound(int index) {
+    if (index + 1 >= BUCKET_COUNT) {
+      return Long.MAX_VALUE;
+    }
+    return bucketLowerBound(index + 1) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + getCount() + ", mean=" + (long)getMean() + ", p50=" + getValueAtPercentile(50)
+        + ", p99=" + getValueAtPercentile(99) + ", max=" + getMax();
+  }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps request URLs like <code>/content/page1.site.v1.api/index.json</code> to the path definitions of one or
+ * more specs, and gives access to the schema validator, the bound path parameters and the spec version
+ * in a single lookup.
+ *
+ * <p>
+ * All path keys are compiled into a trie of path segments when the router is created. The trie is matched from
+ * the last segment of the URL to the first, so the literal suffix segments are resolved by hash lookups before
+ * any template segment is matched. Literal segments take precedence over template segments.
+ * </p>
+ *
+ * <p>
+ * A <code>{contentPath}</code> parameter at the beginning of a path key may span multiple URL segments,
+ * because the Site API spec uses path keys like <code>{contentPath}.site.v1.api/index.json</code> where the
+ * content path includes slashes (see {@link OpenApiSpec}). Its bound value includes the leading slash.
+ * Parameter values are not URL-decoded.
+ * </p>
+ *
+ * <p>
+ * Instances are thread-safe. Schema validators are built on first access of {@link RouteMatch#getValidator()}.
+ * </p>
+ */
+public final class OpenApiRouter {
+
+  private static final String CONTENT_PATH_PREFIX = "/{contentPath}";
+
+  private static final Pattern PARAMETER = Pattern.compile("\\{([^}]+)\\}");
+
+  private final Node root = new Node();
+
+  /**
+   * Creates a router for all path definitions with a JSON schema for the HTTP 200 GET response.
+   * @param specs Specs. If the same path is defined in multiple specs, the first spec wins.
+   */
+  public OpenApiRouter(@NotNull Collection<OpenApiSpec> specs) {
+    for (OpenApiSpec spec : specs) {
+      for (String path : spec.getSchemaPaths()) {
+        add(new Route(spec, path));
+      }
+    }
+  }
+
+  private void add(@NotNull Route route) {
+    String[] segments = splitPath(route.pathTemplate);
+    Node node = root;
+    for (int i = segments.length - 1; i >= 0; i--) {
+      String segment = segments[i];
+      if (segment.indexOf('{') < 0) {
+        node = node.literalChildren.computeIfAbsent(segment, key -> new Node());
+      }
+      else {
+        boolean greedy = (i == 0 && route.pathTemplate.startsWith(CONTENT_PATH_PREFIX));
+        node = node.getTemplateChild(segment, greedy);
+      }
+    }
+    if (node.route == null) {
+      node.route = route;
+    }
+  }
+
+  /**
+   * Matches the given request URL against the path definitions.
+   * @param url Request URL or path, may include scheme, host, query string and fragment
+   * @return Match or null if no path definition matches
+   */
+  public @Nullable RouteMatch match(@NotNull String url) {
+    String path = toPath(url);
+    if (path.isEmpty() || path.charAt(0) != '/') {
+      return null;
+    }
+    String[] segments = splitPath(path);
+    Map<String, String> boundParameters = new HashMap<>();
+    Route route = match(root, segments, segments.length - 1, boundParameters);
+    if (route == null) {
+      return null;
+    }
+    // segments are matched from last to first, so order the parameters as defined in the path
+    Map<String, String> pathParameters = new LinkedHashMap<>();
+    for (String name : route.parameterNames) {
+      pathParameters.put(name, boundParameters.get(name));
+    }
+    return new RouteMatch(route, pathParameters);
+  }
+
+  private static @Nullable Route match(@NotNull Node node, @NotNull String[] segments, int index,
+      @NotNull Map<String, String> pathParameters) {
+    if (index < 0) {
+      return node.route;
+    }
+    Node literalChild = node.literalChildren.get(segments[index]);
+    if (literalChild != null) {
+      Route route = match(literalChild, segments, index - 1, pathParameters);
+      if (route != null) {
+        return route;
+      }
+    }
+    for (TemplateEdge edge : node.templateChildren) {
+      if (edge.greedy) {
+        // content path spans all remaining segments
+        if (edge.node.route != null && edge.bind(joinSegments(segments, index), pathParameters)) {
+          return edge.node.route;
+        }
+      }
+      else if (edge.bind(segments[index], pathParameters)) {
+        Route route = match(edge.node, segments, index - 1, pathParameters);
+        if (route != null) {
+          return route;
+        }
+        edge.unbind(pathParameters);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Strips scheme, authority, query string and fragment from the URL.
+   * @param url URL
+   * @return Path
+   */
+  private static @NotNull String toPath(@NotNull String url) {
+    int start = 0;
+    int schemeEnd = url.indexOf("://");
+    if (schemeEnd >= 0) {
+      start = url.indexOf('/', schemeEnd + 3);
+      if (start < 0) {
+        return "";
+      }
+    }
+    int end = url.length();
+    for (int i = start; i < end; i++) {
+      char c = url.charAt(i);
+      if (c == '?' || c == '#') {
+        end = i;
+      }
+    }
+    return url.substring(start, end);
+  }
+
+  private static @NotNull String[] splitPath(@NotNull String path) {
+    return path.substring(1).split("/", -1);
+  }
+
+  private static @NotNull String joinSegments(@NotNull String[] segments, int lastIndex) {
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i <= lastIndex; i++) {
+      result.append('/').append(segments[i]);
+    }
+    return result.toString();
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> literalChildren = new HashMap<>();
+    private final List<TemplateEdge> templateChildren = new ArrayList<>();
+    private Route route;
+
+    @NotNull Node getTemplateChild(@NotNull String segment, boolean greedy) {
+      for (TemplateEdge edge : templateChildren) {
+        if (edge.segment.equals(segment) && edge.greedy == greedy) {
+          return edge.node;
+        }
+      }
+      TemplateEdge edge = new TemplateEdge(segment, greedy);
+      templateChildren.add(edge);
+      return edge.node;
+    }
+
+  }
+
+  /**
+   * Path segment with parameters, e.g. <code>{contentPath}.site.v1.api</code> or <code>{id}.json</code>.
+   */
+  private static final class TemplateEdge {
+
+    private final String segment;
+    private final boolean greedy;
+    private final Pattern pattern;
+    private final List<String> parameterNames = new ArrayList<>();
+    private final Node node = new Node();
+
+    TemplateEdge(@NotNull String segment, boolean greedy) {
+      this.segment = segment;
+      this.greedy = greedy;
+      StringBuilder regex = new StringBuilder();
+      Matcher matcher = PARAMETER.matcher(segment);
+      int pos = 0;
+      while (matcher.find()) {
+        regex.append(Pattern.quote(segment.substring(pos, matcher.start())));
+        // the greedy content path includes the leading slash of the URL
+        regex.append(greedy && parameterNames.isEmpty() ? "(/.+)" : "([^/]+)");
+        parameterNames.add(matcher.group(1));
+        pos = matcher.end();
+      }
+      regex.append(Pattern.quote(segment.substring(pos)));
+      this.pattern = Pattern.compile(regex.toString());
+    }
+
+    boolean bind(@NotNull String value, @NotNull Map<String, String> pathParameters) {
+      Matcher matcher = pattern.matcher(value);
+      if (!matcher.matches()) {
+        return false;
+      }
+      for (int i = 0; i < parameterNames.size(); i++) {
+        pathParameters.put(parameterNames.get(i), matcher.group(i + 1));
+      }
+      return true;
+    }
+
+    void unbind(@NotNull Map<String, String> pathParameters) {
+      for (String name : parameterNames) {
+        pathParameters.remove(name);
+      }
+    }
+
+  }
+
+  /**
+   * Path definition of a spec.
+   */
+  static final class Route {
+
+    private final OpenApiSpec spec;
+    private final String pathTemplate;
+    private final List<String> parameterNames = new ArrayList<>();
+    private volatile OpenApiSchemaValidator validator;
+
+    Route(@NotNull OpenApiSpec spec, @NotNull String pathTemplate) {
+      this.spec = spec;
+      this.pathTemplate = pathTemplate;
+      Matcher matcher = PARAMETER.matcher(pathTemplate);
+      while (matcher.find()) {
+        parameterNames.add(matcher.group(1));
+      }
+    }
+
+    @NotNull OpenApiSpec getSpec() {
+      return this.spec;
+    }
+
+    @NotNull String getPathTemplate() {
+      return this.pathTemplate;
+    }
+
+    @NotNull OpenApiSchemaValidator getValidator() {
+      OpenApiSchemaValidator result = validator;
+      if (result == null) {
+        // validators are cached in the spec, so concurrent first calls get the same instance
+        result = spec.getSchemaValidatorForPath(pathTemplate);
+        validator = result;
+      }
+      return result;
+    }
+
+  }
+
+}
@@ -19,29 +19,83 @@
  */
 package io.wcm.siteapi.openapi.validator;
 
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults;
 import org.openapi4j.core.validation.ValidationResults.ValidationItem;
 import org.openapi4j.schema.validator.ValidationData;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Validates JSON response for a given path definition and suffix against the JSON.
  * Create instance via {@link OpenApiSpec} class.
+ *
+ * <p>
+ * Instances are immutable and thread-safe, a single instance can be shared by any number of threads.
+ * The compiled openapi4j <code>SchemaValidator</code> is only read during validation, all state of a
+ * validation run is kept in a separate <code>ValidationData</code> instance per call.
+ * </p>
+ *
+ * <p>
+ * With the {@link ValidationEngine#STREAMING} engine, JSON strings, bytes, streams and readers are validated while
+ * parsing them, without building a JSON tree, if the schema supports it (see {@link #isStreaming()}).
+ * With the {@link ValidationEngine#COMPILED} engine, JSON trees are validated with a validation plan compiled from
+ * the schema instead of the openapi4j schema validator (see {@link #isCompiled()}).
+ * </p>
  */
 public final class OpenApiSchemaValidator {
 
+  // streams and readers are owned by the caller
+  private static final ObjectReader JSON_READER = TreeUtil.json.reader()
+      .without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+  private final String version;
   private final String suffix;
   private final SchemaValidator schemaValidator;
+  private final StreamingValidator streamingValidator;
+  private final ValidationPlan validationPlan;
+  private final ValidationOutcome validOutcome;
+  private final Integer maxErrors;
+  private final ValidationMetricsListener metricsListener;
+  private final boolean metricsEnabled;
+
+  OpenApiSchemaValidator(@NotNull String version, @NotNull String suffix, @NotNull SchemaValidator schemaValidator,
+      @Nullable StreamingValidator streamingValidator, @Nullable ValidationPlan validationPlan,
+      @NotNull ValidationMetricsListener metricsListener) {
+    this(version, suffix, schemaValidator, streamingValidator, validationPlan, ValidationOutcome.valid(suffix), null,
+        metricsListener);
+  }
 
-  OpenApiSchemaValidator(@NotNull String suffix, @NotNull SchemaValidator schemaValidator) {
+  private OpenApiSchemaValidator(@NotNull String version, @NotNull String suffix, @NotNull SchemaValidator schemaValidator,
+      @Nullable StreamingValidator streamingValidator, @Nullable ValidationPlan validationPlan,
+      @NotNull ValidationOutcome validOutcome, @Nullable Integer maxErrors,
+      @NotNull ValidationMetricsListener metricsListener) {
+    this.version = version;
     this.suffix = suffix;
     this.schemaValidator = schemaValidator;
+    this.streamingValidator = streamingValidator;
+    this.validationPlan = validationPlan;
+    this.validOutcome = validOutcome;
+    this.maxErrors = maxErrors;
+    this.metricsListener = metricsListener;
+    this.metricsEnabled = metricsListener != ValidationMetricsListener.NOOP;
   }
 
   /**
@@ -51,35 +105,374 @@ public final class OpenApiSchemaValidator {
     return this.suffix;
   }
 
+  /**
+   * @return true if JSON strings, bytes, streams and readers are validated with the
+   *         {@link ValidationEngine#STREAMING} engine.
+   */
+  public boolean isStreaming() {
+    return this.streamingValidator != null;
+  }
+
+  /**
+   * @return true if JSON trees are validated with a validation plan compiled by the
+   *         {@link ValidationEngine#COMPILED} engine.
+   */
+  public boolean isCompiled() {
+    return this.validationPlan != null;
+  }
+
+  /**
+   * @return Maximum number of errors collected per validation, 0 if unlimited.
+   */
+  public int getMaxErrors() {
+    return maxErrors != null ? maxErrors : 0;
+  }
+
+  /**
+   * Returns a validator that stops validation once the given number of errors was collected.
+   * Remaining keywords and subtrees are skipped, which is much faster for large invalid documents
+   * with systematic errors. The returned validator shares the compiled schema with this instance.
+   * @param limit Maximum number of errors to collect. 0 or a negative value means unlimited.
+   * @return Validator with error limit
+   */
+  public @NotNull OpenApiSchemaValidator withMaxErrors(int limit) {
+    Integer newMaxErrors = limit > 0 ? limit : null;
+    if (Objects.equals(newMaxErrors, this.maxErrors)) {
+      return this;
+    }
+    return new OpenApiSchemaValidator(version, suffix, schemaValidator, streamingValidator, validationPlan,
+        validOutcome, newMaxErrors, metricsListener);
+  }
+
+  /**
+   * Returns a validator that stops validation at the first error.
+   * Useful when only the information whether the content is valid is required.
+   * @return Validator with error limit 1
+   */
+  public @NotNull OpenApiSchemaValidator failFast() {
+    return withMaxErrors(1);
+  }
+
   /**
    * Validate the given JSON response against the operation's JSON schema.
    * @param jsonValue JSON response
    * @throws ContentValidationException Validation failed
    */
   public void validate(@NotNull String jsonValue) throws ContentValidationException {
-    JsonNode node = readJson(jsonValue);
-    validateAgainstSchema(node);
+    check(jsonValue).throwIfInvalid();
+  }
+
+  /**
+   * Validate the given JSON response against the operation's JSON schema.
+   * The JSON is parsed directly from the stream, the stream is not closed.
+   * @param jsonStream JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(@NotNull InputStream jsonStream) throws ContentValidationException {
+    check(jsonStream).throwIfInvalid();
+  }
+
+  /**
+   * Validate the given JSON response against the operation's JSON schema.
+   * @param jsonBytes JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(byte @NotNull [] jsonBytes) throws ContentValidationException {
+    check(jsonBytes).throwIfInvalid();
+  }
+
+  /**
+   * Validate the given JSON response against the operation's JSON schema.
+   * The remaining bytes of the buffer are parsed, the buffer position is not changed.
+   * @param jsonBuffer JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(@NotNull ByteBuffer jsonBuffer) throws ContentValidationException {
+    check(jsonBuffer).throwIfInvalid();
+  }
+
+  /**
+   * Validate the given JSON response against the operation's JSON schema.
+   * The JSON is parsed directly from the reader, the reader is not closed.
+   * @param jsonReader JSON response
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(@NotNull Reader jsonReader) throws ContentValidationException {
+    check(jsonReader).throwIfInvalid();
+  }
+
+  /**
+   * Validate the given JSON tree against the operation's JSON schema.
+   * @param node JSON response as Jackson tree
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(@NotNull JsonNode node) throws ContentValidationException {
+    check(node).throwIfInvalid();
+  }
+
+  /**
+   * Validate the JSON representation of the given object against the operation's JSON schema.
+   * The object is converted to a JSON tree using {@link ObjectMapper#valueToTree(Object)},
+   * no intermediate JSON string is produced.
+   * @param value Object to be serialized as JSON response
+   * @param objectMapper Object mapper used for converting the object to a JSON tree
+   * @throws ContentValidationException Validation failed
+   */
+  public void validate(@Nullable Object value, @NotNull ObjectMapper objectMapper) throws ContentValidationException {
+    check(value, objectMapper).throwIfInvalid();
   }
 
-  private JsonNode readJson(@NotNull String jsonValue) throws ContentValidationException {
+  /**
+   * Validate the changes of the given JSON tree compared to a previous version of the same document,
+   * see {@link #checkChanges(JsonNode, JsonNode)}.
+   * @param previousNode Previous version of the JSON response, which was validated successfully
+   * @param node JSON response as Jackson tree
+   * @throws ContentValidationException Validation failed
+   */
+  public void validateChanges(@NotNull JsonNode previousNode, @NotNull JsonNode node)
+      throws ContentValidationException {
+    checkChanges(previousNode, node).throwIfInvalid();
+  }
+
+  /**
+   * Check the changes of the given JSON tree compared to a previous version of the same document without throwing an
+   * exception, e.g. when a page is re-published. Subtrees that are equal to the subtree at the same position in the
+   * previous tree are skipped, array items are compared by index. Objects containing changes are still checked for
+   * required and additional properties.
+   *
+   * <p>
+   * The previous tree must have been validated successfully with this validator, otherwise errors in unchanged parts
+   * are not reported. Only the {@link ValidationEngine#COMPILED} engine validates changes, for other engines and for
+   * schemas not supported by the compiled engine (see {@link #isCompiled()}) the whole tree is validated.
+   * </p>
+   * @param previousNode Previous version of the JSON response, which was validated successfully
+   * @param node JSON response as Jackson tree
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome checkChanges(@NotNull JsonNode previousNode, @NotNull JsonNode node) {
+    return check(node, previousNode, 0);
+  }
+
+  /**
+   * Check the given JSON response against the operation's JSON schema without throwing an exception.
+   * @param jsonValue JSON response
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@NotNull String jsonValue) {
+    if (streamingValidator != null) {
+      try (JsonParser parser = TreeUtil.json.createParser(jsonValue)) {
+        return checkStreaming(parser, jsonValue);
+      }
+      catch (IOException ex) {
+        return ValidationOutcome.parseError(suffix, ex, jsonValue);
+      }
+    }
+    long parseStart = startTimer();
+    JsonNode node;
     try {
-      return TreeUtil.json.readTree(jsonValue);
+      node = TreeUtil.json.readTree(jsonValue);
     }
     catch (JsonProcessingException ex) {
-      throw new ContentValidationException("Unable to parse JSON:\n" + jsonValue, ex);
+      return parseError(ValidationOutcome.parseError(suffix, ex, jsonValue), parseStart);
+    }
+    return check(node, null, elapsed(parseStart));
+  }
+
+  /**
+   * Check the given JSON response against the operation's JSON schema without throwing an exception.
+   * The JSON is parsed directly from the stream, the stream is not closed.
+   * @param jsonStream JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@NotNull InputStream jsonStream) {
+    if (streamingValidator != null) {
+      try (JsonParser parser = JSON_READER.createParser(jsonStream)) {
+        return checkStreaming(parser, null);
+      }
+      catch (IOException ex) {
+        return ValidationOutcome.parseError(suffix, ex, null);
+      }
+    }
+    long parseStart = startTimer();
+    JsonNode node;
+    try {
+      node = JSON_READER.readTree(jsonStream);
+    }
+    catch (IOException ex) {
+      return parseError(ValidationOutcome.parseError(suffix, ex, null), parseStart);
+    }
+    return check(node, null, elapsed(parseStart));
+  }
+
+  /**
+   * Check the given JSON response against the operation's JSON schema without throwing an exception.
+   * @param jsonBytes JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(byte @NotNull [] jsonBytes) {
+    return check(jsonBytes, 0, jsonBytes.length);
+  }
+
+  /**
+   * Check the given JSON response against the operation's JSON schema without throwing an exception.
+   * The remaining bytes of the buffer are parsed, the buffer position is not changed.
+   * @param jsonBuffer JSON response (UTF-8, UTF-16 or UTF-32 encoded)
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@NotNull ByteBuffer jsonBuffer) {
+    if (jsonBuffer.hasArray()) {
+      return check(jsonBuffer.array(), jsonBuffer.arrayOffset() + jsonBuffer.position(), jsonBuffer.remaining());
     }
+    return check(new ByteBufferBackedInputStream(jsonBuffer.duplicate()));
   }
 
-  private void validateAgainstSchema(@NotNull JsonNode node) throws ContentValidationException {
-    ValidationData<Void> validation = new ValidationData<>();
+  private @NotNull ValidationOutcome check(byte @NotNull [] jsonBytes, int offset, int length) {
+    if (streamingValidator != null) {
+      try (JsonParser parser = TreeUtil.json.createParser(jsonBytes, offset, length)) {
+        return checkStreaming(parser, null);
+      }
+      catch (IOException ex) {
+        return ValidationOutcome.parseError(suffix, ex, null);
+      }
+    }
+    long parseStart = startTimer();
+    JsonNode node;
+    try {
+      node = TreeUtil.json.readTree(jsonBytes, offset, length);
+    }
+    catch (IOException ex) {
+      return parseError(ValidationOutcome.parseError(suffix, ex, null), parseStart);
+    }
+    return check(node, null, elapsed(parseStart));
+  }
+
+  /**
+   * Check the given JSON response against the operation's JSON schema without throwing an exception.
+   * The JSON is parsed directly from the reader, the reader is not closed.
+   * @param jsonReader JSON response
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@NotNull Reader jsonReader) {
+    if (streamingValidator != null) {
+      try (JsonParser parser = JSON_READER.createParser(jsonReader)) {
+        return checkStreaming(parser, null);
+      }
+      catch (IOException ex) {
+        return ValidationOutcome.parseError(suffix, ex, null);
+      }
+    }
+    long parseStart = startTimer();
+    JsonNode node;
+    try {
+      node = JSON_READER.readTree(jsonReader);
+    }
+    catch (IOException ex) {
+      return parseError(ValidationOutcome.parseError(suffix, ex, null), parseStart);
+    }
+    return check(node, null, elapsed(parseStart));
+  }
+
+  /**
+   * Check the JSON representation of the given object against the operation's JSON schema without throwing an
+   * exception.
+   * @param value Object to be serialized as JSON response
+   * @param objectMapper Object mapper used for converting the object to a JSON tree
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@Nullable Object value, @NotNull ObjectMapper objectMapper) {
+    long parseStart = startTimer();
+    JsonNode node;
+    try {
+      node = objectMapper.valueToTree(value);
+    }
+    catch (IllegalArgumentException ex) {
+      return parseError(ValidationOutcome.parseError(suffix, ex, null), parseStart);
+    }
+    return check(node != null ? node : NullNode.getInstance(), null, elapsed(parseStart));
+  }
+
+  /**
+   * Check the given JSON tree against the operation's JSON schema without throwing an exception.
+   * @param node JSON response as Jackson tree
+   * @return Validation outcome
+   */
+  public @NotNull ValidationOutcome check(@NotNull JsonNode node) {
+    return check(node, null, 0);
+  }
+
+  private @NotNull ValidationOutcome check(@NotNull JsonNode node, @Nullable JsonNode previousNode, long parseNanos) {
+    if (!metricsEnabled) {
+      return validateTree(node, previousNode);
+    }
+    long validationStart = System.nanoTime();
+    ValidationOutcome outcome = validateTree(node, previousNode);
+    metricsListener.validated(version, suffix, outcome, parseNanos, System.nanoTime() - validationStart);
+    return outcome;
+  }
+
+  /**
+   * Validates the token stream of the parser with the streaming validator.
+   * Parsing and validation happen in a single pass, so the whole time is reported as validation time.
+   * @param parser Parser
+   * @param jsonValue JSON content for error messages, or null
+   * @return Validation outcome
+   */
+  private @NotNull ValidationOutcome checkStreaming(@NotNull JsonParser parser, @Nullable String jsonValue) {
+    long validationStart = startTimer();
+    ValidationOutcome outcome;
+    try {
+      // the caller owns the stream or reader
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      if (parser.nextToken() == null) {
+        // empty content is validated as missing node like with the tree engine
+        return check(MissingNode.getInstance(), null, elapsed(validationStart));
+      }
+      ValidationResults results = streamingValidator.validate(parser, maxErrors);
+      outcome = results.isValid() ? validOutcome : ValidationOutcome.invalid(suffix, results.items());
+    }
+    catch (IOException ex) {
+      return parseError(ValidationOutcome.parseError(suffix, ex, jsonValue), validationStart);
+    }
+    if (metricsEnabled) {
+      metricsListener.validated(version, suffix, outcome, 0, elapsed(validationStart));
+    }
+    return outcome;
+  }
+
+  private @NotNull ValidationOutcome validateTree(@NotNull JsonNode node, @Nullable JsonNode previousNode) {
+    if (validationPlan != null) {
+      ValidationResults results = validationPlan.validate(node, previousNode, maxErrors);
+      if (results != null) {
+        return results.isValid() ? validOutcome : ValidationOutcome.invalid(suffix, results.items());
+      }
+      // tree contains nodes not supported by the plan, validate the whole tree
+    }
+    // error limit is passed as delegate to the ErrorLimitValidator guards
+    ValidationData<Integer> validation = new ValidationData<>(maxErrors);
     schemaValidator.validate(node, validation);
     if (validation.isValid()) {
-      return;
+      return validOutcome;
     }
-    String message = "JSON invalid for suffix '" + suffix + "': " + validation.results().items().stream()
-        .map(ValidationItem::toString)
-        .collect(Collectors.joining("\n"));
-    throw new ContentValidationException(message);
+    List<ValidationItem> items = validation.results().items();
+    if (maxErrors != null && items.size() > maxErrors) {
+      items = items.subList(0, maxErrors);
+    }
+    return ValidationOutcome.invalid(suffix, items);
+  }
+
+  private @NotNull ValidationOutcome parseError(@NotNull ValidationOutcome outcome, long parseStart) {
+    if (metricsEnabled) {
+      metricsListener.validated(version, suffix, outcome, elapsed(parseStart), 0);
+    }
+    return outcome;
+  }
+
+  private long startTimer() {
+    return metricsEnabled ? System.nanoTime() : 0;
+  }
+
+  private long elapsed(long start) {
+    return metricsEnabled ? System.nanoTime() - start : 0;
   }
 
 }
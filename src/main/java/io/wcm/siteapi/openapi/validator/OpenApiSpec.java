@@ -23,10 +23,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
@@ -42,8 +53,11 @@ import org.openapi4j.parser.validation.v3.OpenApi3Validator;
 import org.openapi4j.schema.validator.ValidationContext;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 
 /**
  * Reads and validates an OAS3 YAML specification.
@@ -51,11 +65,33 @@ import com.fasterxml.jackson.databind.node.MissingNode;
  */
 public final class OpenApiSpec {
 
+  private static final String JSON_EXTENSION = ".json";
+  // ~1 = / in JSON pointer syntax
+  private static final JsonPointer SCHEMA_POINTER = JsonPointer.compile(
+      "/get/responses/200/content/application~1json/schema");
+  private static final List<JsonNode> WARMUP_NODES = List.of(
+      NullNode.getInstance(),
+      JsonNodeFactory.instance.objectNode(),
+      JsonNodeFactory.instance.arrayNode().add(JsonNodeFactory.instance.objectNode()),
+      JsonNodeFactory.instance.textNode(""));
+
   private final URL url;
   private final String version;
   private final JsonNode rootNode;
-  private final ValidationContext<OAI3> validationContext;
-  private final ConcurrentMap<String, OpenApiSchemaValidator> validators = new ConcurrentHashMap<>();
+  private final Map<String, JsonNode> pathsBySuffix;
+  private final OAI3Context apiContext;
+  private final ConformanceCheck conformanceCheck;
+  private final CompletableFuture<Void> conformanceValidation;
+  private final ValidationMetricsListener metricsListener;
+  private final JsonNodeInterner nodeInterner;
+  private final ValidationEngine validationEngine;
+  private final SubtreeCache subtreeCache;
+  private final PatternCache patternCache;
+  // keeps the compiled patterns of this spec in the weakly referencing pattern cache while the spec is used
+  private final Set<Pattern> patterns = new HashSet<>();
+  private final int patternStepLimit;
+  private final ValidatorCache<SchemaTarget> validators;
+  private final ConcurrentMap<String, OpenApiSchemaValidator> pathValidators = new ConcurrentHashMap<>();
 
   /**
    * Create instance with given spec files.
@@ -75,6 +111,17 @@ public final class OpenApiSpec {
     return url;
   }
 
+  /**
+   * Create instance with given spec files.
+   * @param path Resource Path to OAS3 spec
+   * @param version Spec version or empty string
+   * @param options Options for loading the spec
+   * @throws SpecInvalidException If reading OAS3 spec fails.
+   */
+  public OpenApiSpec(@NotNull String path, @NotNull String version, @NotNull OpenApiSpecOptions options) {
+    this(toUrl(path), version, options);
+  }
+
   /**
    * Create instance with given spec files.
    * @param url URL pointing to OAS3 spec
@@ -82,16 +129,104 @@ public final class OpenApiSpec {
    * @throws SpecInvalidException If reading OAS3 spec fails.
    */
   public OpenApiSpec(@NotNull URL url, @NotNull String version) {
+    this(url, version, OpenApiSpecOptions.DEFAULT);
+  }
+
+  /**
+   * Create instance with given spec files.
+   * @param url URL pointing to OAS3 spec
+   * @param version Spec version or empty string
+   * @param options Options for loading the spec
+   * @throws SpecInvalidException If reading OAS3 spec fails.
+   */
+  public OpenApiSpec(@NotNull URL url, @NotNull String version, @NotNull OpenApiSpecOptions options) {
+    this(url, version, options, System.nanoTime());
+  }
+
+  private OpenApiSpec(@NotNull URL url, @NotNull String version, @NotNull OpenApiSpecOptions options, long loadStart) {
+    this(url, version, readSpec(url), options, loadStart);
+  }
+
+  /**
+   * Create instance with given spec content.
+   * @param url URL the spec was loaded from
+   * @param version Spec version or empty string
+   * @param specContent Spec content as returned by {@link #readSpec(URL)}
+   * @param options Options for loading the spec
+   * @param loadStart Start time of loading the spec ({@link System#nanoTime()})
+   * @throws SpecInvalidException If reading OAS3 spec fails.
+   */
+  OpenApiSpec(@NotNull URL url, @NotNull String version, @NotNull String specContent,
+      @NotNull OpenApiSpecOptions options, long loadStart) {
+    this(url, version, parseSpec(url, specContent),
+        options.isConformanceCache() ? ConformanceCache.hash(specContent) : null, options, loadStart);
+  }
+
+  /**
+   * Create instance with given spec content.
+   * @param url URL the spec was loaded from
+   * @param version Spec version or empty string
+   * @param rootNode Spec root node
+   * @param contentHash Hash of spec content for conformance cache, or null
+   * @param options Options for loading the spec
+   * @param loadStart Start time of loading the spec ({@link System#nanoTime()})
+   * @throws SpecInvalidException If reading OAS3 spec fails.
+   */
+  OpenApiSpec(@NotNull URL url, @NotNull String version, @NotNull JsonNode rootNode,
+      @Nullable String contentHash, @NotNull OpenApiSpecOptions options, long loadStart) {
     this.url = url;
     this.version = version;
+    this.nodeInterner = options.getNodeInterner();
+    // share identical subtrees with other specs before openapi4j resolves the references
+    this.rootNode = nodeInterner != null ? nodeInterner.intern(rootNode) : rootNode;
+    this.metricsListener = options.getMetricsListener();
+    this.validationEngine = options.getValidationEngine();
+    this.subtreeCache = options.getSubtreeCacheSize() > 0 ? new SubtreeCache(options.getSubtreeCacheSize()) : null;
+    this.patternCache = options.getPatternCache();
+    this.patternStepLimit = options.getPatternStepLimit();
+    compilePatterns(this.rootNode);
+    this.validators = new ValidatorCache<>(options.getValidatorCacheSize(),
+        target -> compileSchemaValidator(target.suffix, target.schemaNode));
     try {
-      String specContent = readFileContent(url);
-      rootNode = TreeUtil.yaml.readTree(specContent);
-      OAI3Context apiContext = new OAI3Context(url, rootNode);
-      validationContext = new ValidationContext<>(apiContext);
-      validateSpec(apiContext, rootNode, url);
+      pathsBySuffix = buildSuffixIndex(this.rootNode);
+      apiContext = new OAI3Context(url, this.rootNode);
+    }
+    catch (ResolutionException ex) {
+      releaseSharedNodes();
+      throw new SpecInvalidException("Unable to load specification " + url + ": " + ex.getMessage(), ex);
+    }
+    conformanceCheck = options.getConformanceCheck();
+    conformanceValidation = checkConformance(contentHash, options);
+    metricsListener.specLoaded(url, version, System.nanoTime() - loadStart);
+  }
+
+  /**
+   * Reads YAML content of spec file.
+   * @param url Spec URL
+   * @return Spec content
+   * @throws SpecInvalidException If reading OAS3 spec fails.
+   */
+  static @NotNull String readSpec(@NotNull URL url) {
+    try {
+      return readFileContent(url);
+    }
+    catch (IOException ex) {
+      throw new SpecInvalidException("Unable to load specification " + url + ": " + ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Parses YAML content of spec file.
+   * @param url Spec URL
+   * @param specContent Spec content
+   * @return Spec root node
+   * @throws SpecInvalidException If parsing OAS3 spec fails.
+   */
+  private static JsonNode parseSpec(@NotNull URL url, @NotNull String specContent) {
+    try {
+      return TreeUtil.yaml.readTree(specContent);
     }
-    catch (IOException | ResolutionException ex) {
+    catch (IOException ex) {
       throw new SpecInvalidException("Unable to load specification " + url + ": " + ex.getMessage(), ex);
     }
   }
@@ -119,6 +254,98 @@ public final class OpenApiSpec {
     }
   }
 
+  /**
+   * Builds index of all path definitions ending with <code>/{suffix}.json</code> by suffix.
+   * If multiple paths end with the same suffix, the first one wins.
+   * @param rootNode Spec root node
+   * @return Map with path node per suffix
+   */
+  private static Map<String, JsonNode> buildSuffixIndex(@NotNull JsonNode rootNode) {
+    Map<String, JsonNode> result = new LinkedHashMap<>();
+    rootNode.path("paths").fields().forEachRemaining(entry -> {
+      String suffix = getSuffix(entry.getKey());
+      if (suffix != null) {
+        result.putIfAbsent(suffix, entry.getValue());
+      }
+    });
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Extracts suffix from path definition.
+   * @param path Path
+   * @return Suffix or null if path does not end with <code>/{suffix}.json</code>
+   */
+  private static @Nullable String getSuffix(@NotNull String path) {
+    if (!path.endsWith(JSON_EXTENSION)) {
+      return null;
+    }
+    int suffixEnd = path.length() - JSON_EXTENSION.length();
+    int suffixStart = path.lastIndexOf('/', suffixEnd - 1) + 1;
+    if (suffixStart <= 1 || suffixStart >= suffixEnd) {
+      return null;
+    }
+    return path.substring(suffixStart, suffixEnd);
+  }
+
+  /**
+   * Compiles the regular expressions of all <code>pattern</code> keywords of the spec into the shared pattern cache,
+   * so all schema validators of this spec and other specs loaded with the same options reuse them.
+   * Invalid regular expressions are skipped, they are reported by the conformance check and the validators.
+   * @param node Spec node
+   */
+  private void compilePatterns(@NotNull JsonNode node) {
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if ("pattern".equals(field.getKey()) && field.getValue().isTextual()) {
+        try {
+          patterns.add(patternCache.get(field.getValue().textValue()));
+        }
+        catch (PatternSyntaxException ex) {
+          // reported by openapi4j pattern validator
+        }
+      }
+      else {
+        compilePatterns(field.getValue());
+      }
+    }
+    if (node.isArray()) {
+      for (JsonNode element : node) {
+        compilePatterns(element);
+      }
+    }
+  }
+
+  /**
+   * Checks OAS3 conformance of the spec as defined in the options.
+   * @param contentHash Hash of spec content for conformance cache, or null
+   * @param options Options
+   * @return Future for conformance validation
+   */
+  private @NotNull CompletableFuture<Void> checkConformance(@Nullable String contentHash,
+      @NotNull OpenApiSpecOptions options) {
+    if (options.getConformanceCheck() == ConformanceCheck.DISABLED) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Path cacheDirectory = options.getConformanceCacheDirectory();
+    String cacheKey = contentHash != null && ConformanceCache.isSelfContained(rootNode) ? contentHash : null;
+    if (cacheKey != null && ConformanceCache.isValidated(cacheKey, cacheDirectory)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Runnable validation = () -> {
+      validateSpec(apiContext, rootNode, url);
+      if (cacheKey != null) {
+        ConformanceCache.markValidated(cacheKey, cacheDirectory);
+      }
+    };
+    if (options.getConformanceCheck() == ConformanceCheck.BACKGROUND) {
+      return CompletableFuture.runAsync(validation, options.getConformanceExecutor());
+    }
+    validation.run();
+    return CompletableFuture.completedFuture(null);
+  }
+
   /**
    * Validates the spec for OAS3 conformance.
    * @param context OAS3 context
@@ -157,6 +384,67 @@ public final class OpenApiSpec {
     return this.version;
   }
 
+  /**
+   * Result of the OAS3 conformance validation of the spec. If the validation was executed when loading the spec,
+   * or was skipped, the future is already completed. With {@link ConformanceCheck#BACKGROUND} the future completes
+   * when the background validation finished, and completes exceptionally with {@link SpecInvalidException}
+   * if the spec is invalid.
+   * @return Future for conformance validation
+   */
+  public @NotNull CompletableFuture<Void> getConformanceValidation() {
+    return this.conformanceValidation;
+  }
+
+  /**
+   * @return Conformance check mode the spec was loaded with
+   */
+  @NotNull ConformanceCheck getConformanceCheck() {
+    return this.conformanceCheck;
+  }
+
+  /**
+   * Estimates the heap memory used by the JSON tree of this spec. If the spec was loaded with
+   * {@link OpenApiSpecOptions#withNodeInterning(boolean)}, subtrees shared with other specs are reported separately.
+   * The estimation walks the whole tree, so this method should only be used for diagnostics.
+   * @return Memory usage
+   */
+  public @NotNull SpecMemoryUsage getMemoryUsage() {
+    Set<JsonNode> sharedNodes = nodeInterner != null ? nodeInterner.getSharedNodes() : Collections.emptySet();
+    return SpecMemoryUsage.estimate(rootNode, sharedNodes);
+  }
+
+  /**
+   * Removes the nodes used only by this spec from the pool of shared nodes, if node interning is enabled.
+   * The spec stays usable, but its nodes are no longer shared with specs loaded afterwards.
+   */
+  void releaseSharedNodes() {
+    if (nodeInterner != null) {
+      nodeInterner.release(rootNode);
+    }
+  }
+
+  /**
+   * @return Compiled patterns of the <code>pattern</code> keywords of this spec
+   */
+  @NotNull Set<Pattern> getPatterns() {
+    return Collections.unmodifiableSet(this.patterns);
+  }
+
+  /**
+   * @return Spec root node
+   */
+  @NotNull JsonNode getRootNode() {
+    return this.rootNode;
+  }
+
+  /**
+   * Get all suffixes for which a path definition ending with <code>/{suffix}.json</code> exists in the spec.
+   * @return Suffixes in the order of their definition in the spec
+   */
+  public @NotNull Set<String> getAvailableSuffixes() {
+    return pathsBySuffix.keySet();
+  }
+
   /**
    * Get Schema for default response of operation mapped to given suffix.
    *
@@ -176,28 +464,285 @@ public final class OpenApiSpec {
    * @return Schema JSON node
    */
   public @NotNull OpenApiSchemaValidator getSchemaValidator(@NotNull String suffix) {
-    // cache validators per suffixId in map
-    return validators.computeIfAbsent(suffix, this::buildSchemaValidator);
+    // cache validators per schema definition in bounded cache
+    return validators.get(suffix, this::resolveSchema);
   }
 
   /**
-   * Get Schema for default response of operation mapped to given suffix.
+   * Get Schema for the response definition identified by the given key.
+   *
+   * <p>
+   * It looks for a path definition ending with <code>/{suffix}.json</code> in the spec, and in the operation
+   * for the given HTTP method for the response definition with the given status code. If no response is defined
+   * for the exact status code, the status code range (e.g. <code>4XX</code>) and the <code>default</code>
+   * response are used as fallback. Within the response content, the media type is matched exactly, with
+   * fallback to the media type ranges <code>type/*</code> and <code>*&#47;*</code>.
+   * </p>
+   *
+   * <p>
+   * Validators are cached per schema definition, so all keys falling back to the same response definition share
+   * a validator. For the HTTP 200 GET response with <code>application/json</code> content type the same validator
+   * as from {@link #getSchemaValidator(String)} is returned, if the response is defined for exactly this status code
+   * and content type.
+   * </p>
+   *
+   * @param key Response key
+   * @return Schema validator
+   */
+  public @NotNull OpenApiSchemaValidator getSchemaValidator(@NotNull ResponseKey key) {
+    return validators.get(key, this::resolveSchema);
+  }
+
+  /**
+   * Get Schema for the response definition identified by the given suffix, HTTP method, status code and media type.
+   * See {@link #getSchemaValidator(ResponseKey)}.
    * @param suffix Suffix ID
+   * @param method HTTP method
+   * @param status HTTP status code
+   * @param mediaType Media type
+   * @return Schema validator
+   */
+  public @NotNull OpenApiSchemaValidator getSchemaValidator(@NotNull String suffix, @NotNull String method,
+      int status, @NotNull String mediaType) {
+    return getSchemaValidator(ResponseKey.of(suffix, method, status, mediaType));
+  }
+
+  /**
+   * Builds the schema validators for all suffixes defined in the spec and runs a synthetic validation pass
+   * on each of them. This moves the schema compilation cost from the first request of each suffix to the
+   * time of calling this method, e.g. on application startup.
+   * Suffixes without JSON schema for the HTTP 200 GET response are skipped.
+   */
+  public void precompileAll() {
+    for (String suffix : getAvailableSuffixes()) {
+      precompile(suffix);
+    }
+  }
+
+  /**
+   * Builds the schema validators for all suffixes defined in the spec in parallel using the given executor,
+   * and runs a synthetic validation pass on each of them. See {@link #precompileAll()}.
+   * @param executor Executor
+   * @return Future that completes when all schema validators are built
+   */
+  public @NotNull CompletableFuture<Void> precompileAll(@NotNull Executor executor) {
+    CompletableFuture<?>[] futures = getAvailableSuffixes().stream()
+        .map(suffix -> CompletableFuture.runAsync(() -> precompile(suffix), executor))
+        .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
+
+  private void precompile(@NotNull String suffix) {
+    if (!hasSchema(suffix)) {
+      return;
+    }
+    OpenApiSchemaValidator validator = getSchemaValidator(suffix);
+    // validate some synthetic content to initialize the classes and code paths used for validation
+    for (JsonNode node : WARMUP_NODES) {
+      validator.check(node);
+    }
+  }
+
+  private boolean hasSchema(@NotNull String suffix) {
+    JsonNode matchingPath = findMatchingPathNode(suffix);
+    return matchingPath != null && !matchingPath.at(SCHEMA_POINTER).isMissingNode();
+  }
+
+  /**
+   * Creates a validator for validating large numbers of content items against this spec in parallel.
+   * @return Batch validator with default options
+   */
+  public @NotNull BatchValidator batchValidator() {
+    return new BatchValidator(this);
+  }
+
+  /**
+   * Creates a router that maps request URLs to the path definitions of this spec.
+   * @return Router
+   */
+  public @NotNull OpenApiRouter router() {
+    return new OpenApiRouter(List.of(this));
+  }
+
+  /**
+   * Statistics of the schema validator cache, for lookups by suffix and by {@link ResponseKey}.
+   * The cache size is bounded by {@link OpenApiSpecOptions#getValidatorCacheSize()}.
+   * @return Cache statistics snapshot
+   */
+  public @NotNull ValidatorCacheStats getValidatorCacheStats() {
+    return validators.getStats();
+  }
+
+  /**
+   * Get Schema for default response of operation mapped to given suffix, with limited number of errors.
+   * See {@link #getSchemaValidator(String)} and {@link OpenApiSchemaValidator#withMaxErrors(int)}.
+   * @param suffix Suffix ID
+   * @param maxErrors Maximum number of errors to collect. 0 or a negative value means unlimited,
+   *          1 stops at the first error (fail-fast).
    * @return Schema JSON node
    */
-  private @NotNull OpenApiSchemaValidator buildSchemaValidator(@NotNull String suffix) {
+  public @NotNull OpenApiSchemaValidator getSchemaValidator(@NotNull String suffix, int maxErrors) {
+    return getSchemaValidator(suffix).withMaxErrors(maxErrors);
+  }
+
+  /**
+   * Get all path definitions from the spec that define a JSON schema for the HTTP 200 GET response.
+   * @return Path keys as defined in the spec (with slash inserted before <code>{contentPath}</code>)
+   */
+  @NotNull List<String> getSchemaPaths() {
+    List<String> result = new ArrayList<>();
+    rootNode.path("paths").fields().forEachRemaining(entry -> {
+      if (!entry.getValue().at(SCHEMA_POINTER).isMissingNode()) {
+        result.add(entry.getKey());
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Get Schema for default response of operation defined for the given path key.
+   * If the path is also the one mapped to its suffix, the validator is shared with
+   * {@link #getSchemaValidator(String)}.
+   * @param path Path key as returned by {@link #getSchemaPaths()}
+   * @return Schema validator
+   */
+  @NotNull OpenApiSchemaValidator getSchemaValidatorForPath(@NotNull String path) {
+    JsonNode pathNode = rootNode.path("paths").path(path);
+    String suffix = getSuffix(path);
+    if (suffix != null && pathsBySuffix.get(suffix) == pathNode) {
+      return getSchemaValidator(suffix);
+    }
+    return pathValidators.computeIfAbsent(path, key -> buildSchemaValidator(suffix != null ? suffix : key, pathNode));
+  }
+
+  /**
+   * Resolves the schema for default response of operation mapped to given suffix.
+   * @param suffix Suffix ID
+   * @return Schema definition
+   */
+  private @NotNull SchemaTarget resolveSchema(@NotNull String suffix) {
     JsonNode matchingPath = findMatchingPathNode(suffix);
     if (matchingPath == null) {
-      throw new IllegalArgumentException("No matching path definition found for suffix: " + suffix);
+      throw new SchemaNotFoundException("No matching path definition found for suffix: " + suffix);
     }
-    // ~1 = / in JSON pointer syntax
-    String pointer = "/get/responses/200/content/application~1json/schema";
-    JsonNode schemaNode = matchingPath.at(pointer);
+    JsonNode schemaNode = matchingPath.at(SCHEMA_POINTER);
+    if (schemaNode.isMissingNode()) {
+      throw new SchemaNotFoundException("No matching JSON schema definition at: " + SCHEMA_POINTER
+          + ", suffix: " + suffix);
+    }
+    return new SchemaTarget(suffix, schemaNode);
+  }
+
+  /**
+   * Get Schema for default response of operation from given path definition.
+   * @param suffix Suffix ID
+   * @param matchingPath Path node
+   * @return Schema JSON node
+   */
+  private @NotNull OpenApiSchemaValidator buildSchemaValidator(@NotNull String suffix, @NotNull JsonNode matchingPath) {
+    JsonNode schemaNode = matchingPath.at(SCHEMA_POINTER);
     if (schemaNode == null || schemaNode instanceof MissingNode) {
-      throw new IllegalArgumentException("No matching JSON schema definition at: " + pointer + ", suffix: " + suffix);
+      throw new SchemaNotFoundException("No matching JSON schema definition at: " + SCHEMA_POINTER + ", suffix: " + suffix);
+    }
+    return compileSchemaValidator(suffix, schemaNode);
+  }
+
+  /**
+   * Resolves the schema for response definition identified by given key.
+   * @param key Response key
+   * @return Schema definition
+   */
+  private @NotNull SchemaTarget resolveSchema(@NotNull ResponseKey key) {
+    JsonNode matchingPath = findMatchingPathNode(key.getSuffix());
+    if (matchingPath == null) {
+      throw new SchemaNotFoundException("No matching path definition found for suffix: " + key.getSuffix());
+    }
+    JsonNode response = findResponseNode(matchingPath.path(key.getMethod()).path("responses"), key.getStatus());
+    JsonNode schemaNode = findMediaTypeNode(response.path("content"), key.getMediaType()).path("schema");
+    if (schemaNode.isMissingNode()) {
+      throw new SchemaNotFoundException("No matching JSON schema definition for: " + key);
+    }
+    return new SchemaTarget(key.getSuffix(), schemaNode);
+  }
+
+  /**
+   * Finds response definition for status code, with fallback to status code range and default response.
+   * @param responses Responses node
+   * @param status Status code
+   * @return Response node or missing node
+   */
+  private @NotNull JsonNode findResponseNode(@NotNull JsonNode responses, int status) {
+    JsonNode response = responses.path(Integer.toString(status));
+    if (response.isMissingNode()) {
+      response = responses.path((status / 100) + "XX");
+    }
+    if (response.isMissingNode()) {
+      response = responses.path("default");
+    }
+    // response definitions may be references to components/responses
+    JsonNode ref = response.path("$ref");
+    if (ref.isTextual() && ref.asText().startsWith("#")) {
+      response = rootNode.at(ref.asText().substring(1));
+    }
+    return response;
+  }
+
+  /**
+   * Finds media type definition, with fallback to media type ranges.
+   * @param content Content node
+   * @param mediaType Media type
+   * @return Media type node or missing node
+   */
+  private static @NotNull JsonNode findMediaTypeNode(@NotNull JsonNode content, @NotNull String mediaType) {
+    JsonNode result = content.path(mediaType);
+    int slash = mediaType.indexOf('/');
+    if (result.isMissingNode() && slash > 0) {
+      result = content.path(mediaType.substring(0, slash) + "/*");
+    }
+    if (result.isMissingNode()) {
+      result = content.path("*/*");
+    }
+    return result;
+  }
+
+  /**
+   * Builds schema validator for given schema node.
+   * @param suffix Suffix ID
+   * @param schemaNode Schema node
+   * @return Schema validator
+   */
+  private @NotNull OpenApiSchemaValidator compileSchemaValidator(@NotNull String suffix, @NotNull JsonNode schemaNode) {
+    long start = System.nanoTime();
+    SchemaValidator schemaValidator = new SchemaValidator(newValidationContext(), null, schemaNode);
+    StreamingValidator streamingValidator = null;
+    ValidationPlan validationPlan = null;
+    if (validationEngine != ValidationEngine.TREE) {
+      // falls back to the openapi4j schema validator if the schema uses unsupported keywords
+      CompiledSchema compiledSchema = CompiledSchema.compile(schemaNode, rootNode, patternCache, patternStepLimit);
+      if (compiledSchema != null && validationEngine == ValidationEngine.STREAMING) {
+        streamingValidator = new StreamingValidator(compiledSchema);
+      }
+      else if (compiledSchema != null) {
+        validationPlan = ValidationPlan.compile(compiledSchema, subtreeCache);
+      }
     }
-    SchemaValidator schemaValidator = new SchemaValidator(validationContext, null, schemaNode);
-    return new OpenApiSchemaValidator(suffix, schemaValidator);
+    metricsListener.validatorCompiled(version, suffix, System.nanoTime() - start);
+    return new OpenApiSchemaValidator(version, suffix, schemaValidator, streamingValidator, validationPlan,
+        metricsListener);
+  }
+
+  /**
+   * Creates a new validation context for building a schema validator.
+   * Each schema validator gets its own context, because openapi4j registers visited references in the
+   * context while building the validator, which is not thread-safe.
+   * @return Validation context
+   */
+  private @NotNull ValidationContext<OAI3> newValidationContext() {
+    ValidationContext<OAI3> validationContext = new ValidationContext<>(apiContext);
+    ErrorLimitValidator.register(validationContext);
+    // registered after the error limit guard, which may skip it
+    BoundedPatternValidator.register(validationContext, patternCache, patternStepLimit);
+    return validationContext;
   }
 
   /**
@@ -206,18 +751,20 @@ public final class OpenApiSpec {
    * @return Path node or null
    */
   private @Nullable JsonNode findMatchingPathNode(@NotNull String suffix) {
-    Pattern endsWithSuffixPattern = Pattern.compile("^.+/" + Pattern.quote(suffix) + ".json$");
-    JsonNode paths = rootNode.findValue("paths");
-    if (paths != null) {
-      Iterator<String> fieldNames = paths.fieldNames();
-      while (fieldNames.hasNext()) {
-        String path = fieldNames.next();
-        if (endsWithSuffixPattern.matcher(path).matches()) {
-          return paths.findValue(path);
+    JsonNode result = pathsBySuffix.get(suffix);
+    if (result == null && suffix.indexOf('/') >= 0) {
+      // suffixes spanning multiple path segments are not indexed
+      String pathEnding = "/" + suffix + JSON_EXTENSION;
+      Iterator<Map.Entry<String, JsonNode>> fields = rootNode.path("paths").fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> entry = fields.next();
+        String path = entry.getKey();
+        if (path.endsWith(pathEnding) && path.length() > pathEnding.length()) {
+          return entry.getValue();
         }
       }
     }
-    return null;
+    return result;
   }
 
   @Override
@@ -225,4 +772,34 @@ public final class OpenApiSpec {
     return this.url.toString();
   }
 
+  /**
+   * Schema definition a validator is built for. Schema nodes are compared by identity, as equal subtrees
+   * at different locations may be shared via node interning.
+   */
+  private static final class SchemaTarget {
+
+    private final String suffix;
+    private final JsonNode schemaNode;
+
+    SchemaTarget(@NotNull String suffix, @NotNull JsonNode schemaNode) {
+      this.suffix = suffix;
+      this.schemaNode = schemaNode;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * suffix.hashCode() + System.identityHashCode(schemaNode);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof SchemaTarget)) {
+        return false;
+      }
+      SchemaTarget other = (SchemaTarget)obj;
+      return suffix.equals(other.suffix) && schemaNode == other.schemaNode;
+    }
+
+  }
+
 }
@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index file listing the spec files in a classpath directory.
+ *
+ * <p>
+ * If a file named {@value #INDEX_FILENAME} exists in the spec directory, {@link OpenApiSpecVersions}
+ * reads the spec files from this index instead of scanning the classpath. The index contains one spec
+ * file name per line, relative to the index file. Empty lines and lines starting with <code>#</code> are ignored.
+ * </p>
+ *
+ * <p>
+ * If the spec directory exists in multiple classpath entries (e.g. multiple JAR files), the index files of all
+ * entries are merged. Once at least one entry contains an index file, no classpath scan is done, so spec files in
+ * entries without index file are not found. Thus all classpath entries providing spec files should contain an index.
+ * </p>
+ *
+ * <p>
+ * The index can be generated at build time by executing the {@link #main(String[])} method of this class,
+ * e.g. via <code>exec-maven-plugin</code> in the <code>process-resources</code> phase.
+ * </p>
+ */
+public final class OpenApiSpecIndex {
+
+  /**
+   * File name of the index file in the spec directory.
+   */
+  public static final String INDEX_FILENAME = "openapi-spec.index";
+
+  private OpenApiSpecIndex() {
+    // static methods only
+  }
+
+  /**
+   * Reads all index files for the given classpath directory.
+   * @param classLoader Class loader
+   * @param path Directory in classpath
+   * @param filenamePattern File name pattern (last group is expected to return the actual version).
+   * @return Spec URLs by version from all index files, or null if no index file exists
+   * @throws IOException I/O exception
+   */
+  static @Nullable Map<String, URL> read(@NotNull ClassLoader classLoader, @NotNull String path,
+      @NotNull Pattern filenamePattern) throws IOException {
+    Enumeration<URL> indexUrls = classLoader.getResources(Strings.CS.removeEnd(path, "/") + "/" + INDEX_FILENAME);
+    if (!indexUrls.hasMoreElements()) {
+      return null;
+    }
+    Map<String, URL> result = new LinkedHashMap<>();
+    while (indexUrls.hasMoreElements()) {
+      URL indexUrl = indexUrls.nextElement();
+      for (String filename : readFilenames(indexUrl)) {
+        Matcher matcher = filenamePattern.matcher(filename);
+        if (matcher.matches()) {
+          String version = StringUtils.defaultString(matcher.group(matcher.groupCount()));
+          result.putIfAbsent(version, new URL(indexUrl, filename));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static List<String> readFilenames(@NotNull URL indexUrl) throws IOException {
+    try (InputStream is = indexUrl.openStream()) {
+      List<String> result = new ArrayList<>();
+      for (String line : IOUtils.readLines(is, StandardCharsets.UTF_8)) {
+        String filename = StringUtils.trim(line);
+        if (StringUtils.isNotEmpty(filename) && !filename.startsWith("#")) {
+          result.add(filename);
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Writes an index file for all spec files in the given directory.
+   * @param directory Directory containing the spec files
+   * @param filenamePattern File name pattern
+   * @return Path of the written index file
+   * @throws IOException I/O exception
+   */
+  public static @NotNull Path write(@NotNull Path directory, @NotNull Pattern filenamePattern) throws IOException {
+    List<String> filenames;
+    try (Stream<Path> files = Files.list(directory)) {
+      filenames = files
+          .filter(Files::isRegularFile)
+          .map(file -> file.getFileName().toString())
+          .filter(filename -> filenamePattern.matcher(filename).matches())
+          .sorted()
+          .collect(Collectors.toList());
+    }
+    Path indexFile = directory.resolve(INDEX_FILENAME);
+    try (Writer writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+      writer.write("# Generated by " + OpenApiSpecIndex.class.getName() + "\n");
+      for (String filename : filenames) {
+        writer.write(filename + "\n");
+      }
+    }
+    return indexFile;
+  }
+
+  /**
+   * Generates an index file.
+   * @param args Directory containing the spec files, optional file name pattern
+   *          (defaults to {@link OpenApiSpecVersions#DEFAULT_FILENAME_PATTERN}).
+   * @throws IOException I/O exception
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      throw new IllegalArgumentException("Usage: " + OpenApiSpecIndex.class.getName() + " <directory> [<filename-pattern>]");
+    }
+    Pattern filenamePattern = args.length > 1 ? Pattern.compile(args[1]) : OpenApiSpecVersions.DEFAULT_FILENAME_PATTERN;
+    write(Paths.get(args[0]), filenamePattern);
+  }
+
+}
@@ -0,0 +1,288 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Options for loading an {@link OpenApiSpec}.
+ * Instances are immutable, each <code>with...</code> method returns a copy with the changed option.
+ */
+public final class OpenApiSpecOptions {
+
+  /**
+   * Default options.
+   */
+  public static final OpenApiSpecOptions DEFAULT = new OpenApiSpecOptions();
+
+  private ConformanceCheck conformanceCheck = ConformanceCheck.ENABLED;
+  private Executor conformanceExecutor = ForkJoinPool.commonPool();
+  private boolean conformanceCache = true;
+  private Path conformanceCacheDirectory;
+  private ValidationMetricsListener metricsListener = ValidationMetricsListener.NOOP;
+  private int validatorCacheSize = 1000;
+  private JsonNodeInterner nodeInterner;
+  private ValidationEngine validationEngine = ValidationEngine.TREE;
+  private int subtreeCacheSize;
+  private PatternCache patternCache = new PatternCache();
+  private int patternStepLimit;
+
+  private OpenApiSpecOptions() {
+    // default options
+  }
+
+  private OpenApiSpecOptions(@NotNull OpenApiSpecOptions options) {
+    this.conformanceCheck = options.conformanceCheck;
+    this.conformanceExecutor = options.conformanceExecutor;
+    this.conformanceCache = options.conformanceCache;
+    this.conformanceCacheDirectory = options.conformanceCacheDirectory;
+    this.metricsListener = options.metricsListener;
+    this.validatorCacheSize = options.validatorCacheSize;
+    this.nodeInterner = options.nodeInterner;
+    this.validationEngine = options.validationEngine;
+    this.subtreeCacheSize = options.subtreeCacheSize;
+    this.patternCache = options.patternCache;
+    this.patternStepLimit = options.patternStepLimit;
+  }
+
+  /**
+   * @return How the OAS3 conformance of the spec is checked. Default: {@link ConformanceCheck#ENABLED}
+   */
+  public @NotNull ConformanceCheck getConformanceCheck() {
+    return this.conformanceCheck;
+  }
+
+  /**
+   * @param value How the OAS3 conformance of the spec is checked
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withConformanceCheck(@NotNull ConformanceCheck value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.conformanceCheck = value;
+    return copy;
+  }
+
+  /**
+   * @return Executor for {@link ConformanceCheck#BACKGROUND}. Default: common fork join pool
+   */
+  public @NotNull Executor getConformanceExecutor() {
+    return this.conformanceExecutor;
+  }
+
+  /**
+   * @param value Executor for {@link ConformanceCheck#BACKGROUND}
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withConformanceExecutor(@NotNull Executor value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.conformanceExecutor = value;
+    return copy;
+  }
+
+  /**
+   * @return If true, the conformance check is skipped for specs with identical content that were already
+   *         validated successfully in this JVM. Specs with references to external files are always checked.
+   *         Default: true
+   */
+  public boolean isConformanceCache() {
+    return this.conformanceCache;
+  }
+
+  /**
+   * @param value If true, the conformance check is skipped for specs with identical content that were already
+   *          validated successfully in this JVM. Specs with references to external files are always checked.
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withConformanceCache(boolean value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.conformanceCache = value;
+    return copy;
+  }
+
+  /**
+   * @return Directory to persist the content hashes of successfully validated specs, or null.
+   */
+  public @Nullable Path getConformanceCacheDirectory() {
+    return this.conformanceCacheDirectory;
+  }
+
+  /**
+   * @param value Directory to persist the content hashes of successfully validated specs across JVMs,
+   *          e.g. in a build directory. Only used if the conformance cache is enabled.
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withConformanceCacheDirectory(@Nullable Path value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.conformanceCacheDirectory = value;
+    return copy;
+  }
+
+  /**
+   * @return Listener for validation metrics. Default: {@link ValidationMetricsListener#NOOP}
+   */
+  public @NotNull ValidationMetricsListener getMetricsListener() {
+    return this.metricsListener;
+  }
+
+  /**
+   * @param value Listener for validation metrics, e.g. {@link ValidationMetricsRecorder}
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withMetricsListener(@NotNull ValidationMetricsListener value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.metricsListener = value;
+    return copy;
+  }
+
+  /**
+   * @return Maximum number of cached schema validators per spec. Default: 1000
+   */
+  public int getValidatorCacheSize() {
+    return this.validatorCacheSize;
+  }
+
+  /**
+   * @param value Maximum number of cached schema validators per spec. Validators are cached per schema definition,
+   *          so lookups falling back to the same response definition share an entry. The least recently used
+   *          validators are evicted when the limit is exceeded. Failed lookups for unknown suffixes or missing
+   *          schemas are cached separately with the same limit, and never evict validators.
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withValidatorCacheSize(int value) {
+    if (value < 1) {
+      throw new IllegalArgumentException("Validator cache size must be at least 1: " + value);
+    }
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.validatorCacheSize = value;
+    return copy;
+  }
+
+  /**
+   * @return Whether identical JSON subtrees and strings are shared between specs. Default: false
+   */
+  public boolean isNodeInterning() {
+    return this.nodeInterner != null;
+  }
+
+  /**
+   * Reduces the heap memory used by multiple specs loaded with the same options instance (e.g. all versions of
+   * an {@link OpenApiSpecVersions} instance), by sharing identical subtrees like component schemas and strings
+   * between the spec trees. Subtrees containing references are not shared. This increases the time for loading
+   * a spec. See {@link OpenApiSpec#getMemoryUsage()} for verifying the savings. The pool keeps the nodes of all
+   * specs loaded with the options, except specs replaced by {@link ReloadingSpecVersions}.
+   * @param value Whether identical JSON subtrees and strings are shared between specs
+   * @return Options with a new pool of shared nodes
+   */
+  public @NotNull OpenApiSpecOptions withNodeInterning(boolean value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.nodeInterner = value ? new JsonNodeInterner() : null;
+    return copy;
+  }
+
+  /**
+   * @return Pool of shared nodes, or null if node interning is disabled
+   */
+  @Nullable JsonNodeInterner getNodeInterner() {
+    return this.nodeInterner;
+  }
+
+  /**
+   * @return Engine for validating JSON content against the schemas. Default: {@link ValidationEngine#TREE}
+   */
+  public @NotNull ValidationEngine getValidationEngine() {
+    return this.validationEngine;
+  }
+
+  /**
+   * @param value Engine for validating JSON content against the schemas
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withValidationEngine(@NotNull ValidationEngine value) {
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.validationEngine = value;
+    return copy;
+  }
+
+  /**
+   * @return Number of successfully validated subtrees remembered per spec, 0 if disabled. Default: 0
+   */
+  public int getSubtreeCacheSize() {
+    return this.subtreeCacheSize;
+  }
+
+  /**
+   * Skips validation of subtrees that were recently validated successfully against the same referenced schema,
+   * e.g. link objects or teasers repeated within a response and across responses. Subtrees are identified by a
+   * structural hash. Each object and array is hashed once per validation, also for nested references, so the
+   * additional effort on a cache miss is a single pass over the validated tree.
+   * Only used by the {@link ValidationEngine#COMPILED} engine.
+   * @param value Number of successfully validated subtrees remembered per spec, rounded up to the next power of two.
+   *          0 disables the cache.
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withSubtreeCacheSize(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Subtree cache size must not be negative: " + value);
+    }
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.subtreeCacheSize = value;
+    return copy;
+  }
+
+  /**
+   * @return Compiled patterns of the <code>pattern</code> keyword, shared by all specs loaded with this options
+   *         instance or options derived from it
+   */
+  @NotNull PatternCache getPatternCache() {
+    return this.patternCache;
+  }
+
+  /**
+   * @return Maximum number of characters read by the regex engine per <code>pattern</code> match, 0 if unlimited.
+   *         Default: 0
+   */
+  public int getPatternStepLimit() {
+    return this.patternStepLimit;
+  }
+
+  /**
+   * Limits the time spent for matching a string against the <code>pattern</code> keyword. The JDK regex engine
+   * backtracks, so some patterns need exponential time for certain strings. With a step limit, a match is aborted
+   * once the regex engine read the given number of characters, and the string is reported as not respecting the
+   * pattern. Patterns read each character a few times for typical strings, so the limit should be a multiple of
+   * the longest expected string.
+   * @param value Maximum number of characters read by the regex engine per match, 0 if unlimited.
+   * @return Options
+   */
+  public @NotNull OpenApiSpecOptions withPatternStepLimit(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Pattern step limit must not be negative: " + value);
+    }
+    OpenApiSpecOptions copy = new OpenApiSpecOptions(this);
+    copy.patternStepLimit = value;
+    return copy;
+  }
+
+}
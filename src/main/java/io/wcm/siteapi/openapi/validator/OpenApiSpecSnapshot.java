@@ -0,0 +1,175 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Reads and writes binary snapshots of already validated OAS3 specifications.
+ *
+ * <p>
+ * A snapshot contains the parsed spec tree in Smile binary JSON format, protected by a CRC32 checksum.
+ * Loading a spec from a snapshot skips YAML parsing and OAS3 conformance validation, which is the major part
+ * of the spec loading time. Snapshots are only written for specs that passed validation, so specs loaded with
+ * {@link ConformanceCheck#DISABLED} (including specs loaded from snapshots) are rejected.
+ * </p>
+ *
+ * <p>
+ * References in the spec are resolved again when loading the snapshot, relative to the snapshot URL.
+ * Thus snapshots are only supported for self-contained specs without references to external files.
+ * </p>
+ *
+ * <p>
+ * Snapshots can be generated at build time by executing the {@link #main(String[])} method of this class.
+ * </p>
+ */
+public final class OpenApiSpecSnapshot {
+
+  private static final int MAGIC = 0x4f415353; // "OASS"
+  private static final int FORMAT_VERSION = 1;
+  private static final int MAX_PAYLOAD_SIZE = 256 * 1024 * 1024;
+  private static final ObjectMapper SMILE = new ObjectMapper(new SmileFactory());
+
+  private OpenApiSpecSnapshot() {
+    // static methods only
+  }
+
+  /**
+   * Writes a snapshot of the given spec.
+   * @param spec Spec
+   * @param outputStream Output stream, is not closed
+   * @throws IOException I/O exception
+   * @throws IllegalArgumentException If the spec was loaded without OAS3 conformance check, or failed the check.
+   * @throws IllegalStateException If the OAS3 conformance check of the spec is still running in the background.
+   */
+  public static void write(@NotNull OpenApiSpec spec, @NotNull OutputStream outputStream) throws IOException {
+    checkConformanceValidated(spec);
+    byte[] payload = SMILE.writeValueAsBytes(spec.getRootNode());
+    DataOutputStream out = new DataOutputStream(outputStream);
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    out.writeUTF(spec.getVersion());
+    out.writeLong(checksum(payload));
+    out.writeInt(payload.length);
+    out.write(payload);
+    out.flush();
+  }
+
+  /**
+   * Loads spec from a snapshot.
+   * @param url Snapshot URL
+   * @return Spec with the version stored in the snapshot
+   * @throws SpecInvalidException If the snapshot cannot be read or is corrupt.
+   */
+  public static @NotNull OpenApiSpec read(@NotNull URL url) {
+    return read(url, OpenApiSpecOptions.DEFAULT);
+  }
+
+  /**
+   * Loads spec from a snapshot. The OAS3 conformance check is always skipped.
+   * @param url Snapshot URL
+   * @param options Options for loading the spec
+   * @return Spec with the version stored in the snapshot
+   * @throws SpecInvalidException If the snapshot cannot be read or is corrupt.
+   */
+  public static @NotNull OpenApiSpec read(@NotNull URL url, @NotNull OpenApiSpecOptions options) {
+    long loadStart = System.nanoTime();
+    try (InputStream is = url.openStream()) {
+      DataInputStream in = new DataInputStream(is);
+      if (in.readInt() != MAGIC) {
+        throw new IOException("Not a spec snapshot.");
+      }
+      int formatVersion = in.readInt();
+      if (formatVersion != FORMAT_VERSION) {
+        throw new IOException("Unsupported snapshot format version: " + formatVersion);
+      }
+      String version = in.readUTF();
+      long expectedChecksum = in.readLong();
+      int length = in.readInt();
+      if (length < 0 || length > MAX_PAYLOAD_SIZE) {
+        throw new IOException("Invalid payload length: " + length);
+      }
+      // reads in chunks, so a corrupt length does not allocate more than the actual snapshot size
+      byte[] payload = in.readNBytes(length);
+      if (payload.length != length || checksum(payload) != expectedChecksum) {
+        throw new IOException("Checksum mismatch.");
+      }
+      JsonNode rootNode = SMILE.readTree(payload);
+      return new OpenApiSpec(url, version, rootNode, null, options.withConformanceCheck(ConformanceCheck.DISABLED), loadStart);
+    }
+    catch (IOException ex) {
+      throw new SpecInvalidException("Unable to load specification snapshot " + url + ": " + ex.getMessage(), ex);
+    }
+  }
+
+  private static void checkConformanceValidated(@NotNull OpenApiSpec spec) {
+    if (spec.getConformanceCheck() == ConformanceCheck.DISABLED) {
+      throw new IllegalArgumentException("Specification was loaded without OAS3 conformance check: " + spec);
+    }
+    CompletableFuture<Void> validation = spec.getConformanceValidation();
+    if (!validation.isDone()) {
+      throw new IllegalStateException("OAS3 conformance check is still running for specification: " + spec);
+    }
+    if (validation.isCompletedExceptionally()) {
+      throw new IllegalArgumentException("Specification failed OAS3 conformance check: " + spec);
+    }
+  }
+
+  private static long checksum(byte @NotNull [] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    return crc.getValue();
+  }
+
+  /**
+   * Loads and validates a spec file and writes a snapshot.
+   * @param args Spec file, snapshot file, optional spec version (defaults to empty string)
+   * @throws IOException I/O exception
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2 || args.length > 3) {
+      throw new IllegalArgumentException("Usage: " + OpenApiSpecSnapshot.class.getName() + " <spec-file> <snapshot-file> [<version>]");
+    }
+    Path specFile = Paths.get(args[0]);
+    Path snapshotFile = Paths.get(args[1]);
+    String version = args.length > 2 ? args[2] : "";
+    OpenApiSpec spec = new OpenApiSpec(specFile.toUri().toURL(), version);
+    try (OutputStream os = Files.newOutputStream(snapshotFile)) {
+      write(spec, os);
+    }
+  }
+
+}
@@ -19,14 +19,25 @@
  */
 package io.wcm.siteapi.openapi.validator;
 
+import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -76,8 +87,14 @@ public final class OpenApiSpecVersions {
    */
   public static final Pattern DEFAULT_FILENAME_PATTERN = Pattern.compile("site-api(-(\\w+))?.yaml");
 
+  // cached classpath scan results per class loader and path/pattern
+  private static final Map<ClassLoader, Map<String, Map<String, URL>>> SCAN_CACHE = new WeakHashMap<>();
+
   private final SortedSet<String> versions;
   private final Map<String, URL> urls;
+  private final OpenApiSpecOptions options;
+  private final ConcurrentMap<String, OpenApiSpec> specs = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Object> loadLocks = new ConcurrentHashMap<>();
 
   /**
    * Get all Site API Specs detected in classpath matching the default path and pattern.
@@ -88,6 +105,12 @@ public final class OpenApiSpecVersions {
 
   /**
    * Get all Site API Specs detected in classpath matching given path and filename pattern.
+   *
+   * <p>
+   * If an index file {@value OpenApiSpecIndex#INDEX_FILENAME} exists in the given path, the spec files
+   * are read from the index. Otherwise the classpath is scanned, the scan result is cached per class loader.
+   * Spec files in classpath entries without index file are not found if another entry contains an index file.
+   * </p>
    * @param path Directory in classpath
    * @param filenamePattern File name pattern (last group is expected to return the actual version).
    * @param versionComparator Comparator for versions ("highest" version is last version) -
@@ -95,24 +118,106 @@ public final class OpenApiSpecVersions {
    */
   public OpenApiSpecVersions(@NotNull String path, @NotNull Pattern filenamePattern,
       @Nullable Comparator<String> versionComparator) {
-    versions = new TreeSet<>(versionComparator);
-    urls = new HashMap<>();
-    // get all matching spec files from classpath
+    this(discover(path, filenamePattern), versionComparator, "No Site API spec found in classpath at '" + path + "' "
+        + "with pattern: " + filenamePattern);
+  }
+
+  /**
+   * Use the given Site API Spec files.
+   * @param urls Spec URLs by version
+   */
+  public OpenApiSpecVersions(@NotNull Map<String, URL> urls) {
+    this(urls, null);
+  }
+
+  /**
+   * Use the given Site API Spec files.
+   * @param urls Spec URLs by version
+   * @param versionComparator Comparator for versions ("highest" version is last version) -
+   *          or null to use standard string sorting
+   */
+  public OpenApiSpecVersions(@NotNull Map<String, URL> urls, @Nullable Comparator<String> versionComparator) {
+    this(urls, versionComparator, "No Site API spec URLs given.");
+  }
+
+  private OpenApiSpecVersions(@NotNull Map<String, URL> urls, @Nullable Comparator<String> versionComparator,
+      @NotNull String notFoundMessage) {
+    this.versions = new TreeSet<>(versionComparator);
+    this.versions.addAll(urls.keySet());
+    this.urls = new HashMap<>(urls);
+    this.options = OpenApiSpecOptions.DEFAULT;
+    if (versions.isEmpty()) {
+      throw new IllegalArgumentException(notFoundMessage);
+    }
+  }
+
+  private OpenApiSpecVersions(@NotNull OpenApiSpecVersions specVersions, @NotNull OpenApiSpecOptions options) {
+    this.versions = specVersions.versions;
+    this.urls = specVersions.urls;
+    this.options = options;
+  }
+
+  /**
+   * Returns an instance with the same spec files that loads the specs with the given options.
+   * Specs already loaded by this instance are not reused.
+   * @param specOptions Options for loading the specs
+   * @return Site API spec versions
+   */
+  public @NotNull OpenApiSpecVersions withOptions(@NotNull OpenApiSpecOptions specOptions) {
+    return new OpenApiSpecVersions(this, specOptions);
+  }
+
+  /**
+   * Get all matching spec files from index file or classpath.
+   * @param path Directory in classpath
+   * @param filenamePattern File name pattern
+   * @return Spec URLs by version
+   */
+  private static Map<String, URL> discover(@NotNull String path, @NotNull Pattern filenamePattern) {
+    ClassLoader classLoader = getClassLoader();
+    try {
+      Map<String, URL> indexedUrls = OpenApiSpecIndex.read(classLoader, path, filenamePattern);
+      if (indexedUrls != null) {
+        return indexedUrls;
+      }
+    }
+    catch (IOException ex) {
+      throw new IllegalArgumentException("Unable to read spec index in classpath at '" + path + "'", ex);
+    }
+    String cacheKey = path + "\n" + filenamePattern.pattern();
+    synchronized (SCAN_CACHE) {
+      return SCAN_CACHE.computeIfAbsent(classLoader, key -> new HashMap<>())
+          .computeIfAbsent(cacheKey, key -> scan(path, filenamePattern));
+    }
+  }
+
+  private static ClassLoader getClassLoader() {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null) {
+      classLoader = OpenApiSpecVersions.class.getClassLoader();
+    }
+    return classLoader;
+  }
+
+  /**
+   * Get all matching spec files from classpath.
+   * @param path Directory in classpath
+   * @param filenamePattern File name pattern
+   * @return Spec URLs by version
+   */
+  private static Map<String, URL> scan(@NotNull String path, @NotNull Pattern filenamePattern) {
+    Map<String, URL> result = new HashMap<>();
     try (ScanResult scanResult = new ClassGraph().acceptPathsNonRecursive(path).scan()) {
       scanResult.getAllResources().forEach(resource -> {
         String filename = FilenameUtils.getName(resource.getPath());
         Matcher matcher = filenamePattern.matcher(filename);
         if (matcher.matches()) {
           String version = StringUtils.defaultString(matcher.group(matcher.groupCount()));
-          versions.add(version);
-          urls.put(version, resource.getURL());
+          result.put(version, resource.getURL());
         }
       });
     }
-    if (versions.isEmpty()) {
-      throw new IllegalArgumentException("No Site API spec found in classpath at '" + path + "' "
-          + "with pattern: " + filenamePattern);
-    }
+    return Collections.unmodifiableMap(result);
   }
 
   /**
@@ -131,6 +236,21 @@ public final class OpenApiSpecVersions {
     return versions.last();
   }
 
+  /**
+   * @param version Version
+   * @return Spec URL or null if version is unknown
+   */
+  @Nullable URL getUrl(@NotNull String version) {
+    return urls.get(version);
+  }
+
+  /**
+   * @return Options for loading the specs
+   */
+  @NotNull OpenApiSpecOptions getOptions() {
+    return this.options;
+  }
+
   /**
    * Returns Site API specification for highest version number.
    * @return Site API specification.
@@ -141,6 +261,7 @@ public final class OpenApiSpecVersions {
 
   /**
    * Returns Site API specification.
+   * The specification is loaded and validated on first access, and cached for subsequent calls.
    * @param version Requested spec version
    * @return Site API specification.
    */
@@ -149,7 +270,66 @@ public final class OpenApiSpecVersions {
     if (url == null) {
       throw new IllegalArgumentException("Invalid version: " + version);
     }
-    return new OpenApiSpec(url, version);
+    OpenApiSpec spec = specs.get(version);
+    if (spec == null) {
+      // lock per version to allow loading different versions concurrently
+      synchronized (loadLocks.computeIfAbsent(version, key -> new Object())) {
+        spec = specs.get(version);
+        if (spec == null) {
+          spec = new OpenApiSpec(url, version, options);
+          specs.put(version, spec);
+        }
+      }
+    }
+    return spec;
+  }
+
+  /**
+   * Loads and validates all Site API specifications concurrently using the common fork join pool.
+   * @return Site API specifications, ordered by version
+   * @throws SpecInvalidException If reading one of the OAS3 specs fails.
+   */
+  public @NotNull Map<String, OpenApiSpec> loadAll() {
+    return loadAll(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Loads and validates all Site API specifications concurrently using the given executor.
+   * Specifications that were already loaded are reused.
+   * @param executor Executor
+   * @return Site API specifications, ordered by version
+   * @throws SpecInvalidException If reading one of the OAS3 specs fails.
+   */
+  public @NotNull Map<String, OpenApiSpec> loadAll(@NotNull Executor executor) {
+    Map<String, CompletableFuture<OpenApiSpec>> futures = new LinkedHashMap<>();
+    for (String version : versions) {
+      futures.put(version, CompletableFuture.supplyAsync(() -> get(version), executor));
+    }
+    Map<String, OpenApiSpec> result = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<String, CompletableFuture<OpenApiSpec>> entry : futures.entrySet()) {
+        result.put(entry.getKey(), entry.getValue().join());
+      }
+    }
+    catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException)ex.getCause();
+      }
+      throw ex;
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Loads all Site API specifications and creates a router that maps request URLs to the path definitions
+   * of all versions. If the same path is defined in multiple versions, the highest version wins.
+   * @return Router
+   * @throws SpecInvalidException If reading one of the OAS3 specs fails.
+   */
+  public @NotNull OpenApiRouter router() {
+    List<OpenApiSpec> specsLatestFirst = new ArrayList<>(loadAll().values());
+    Collections.reverse(specsLatestFirst);
+    return new OpenApiRouter(specsLatestFirst);
   }
 
 }
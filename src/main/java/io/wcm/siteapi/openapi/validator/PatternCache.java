@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Compiled patterns of the <code>pattern</code> keyword, shared by all schema validators of the specs loaded
+ * with the same options instance or options derived from it (e.g. all versions of an {@link OpenApiSpecVersions}
+ * instance).
+ *
+ * <p>
+ * Patterns are referenced weakly, so patterns that are no longer used by any spec or schema validator (e.g. of
+ * specs replaced by {@link ReloadingSpecVersions}) are released by the garbage collector. Instances are thread-safe.
+ * </p>
+ */
+final class PatternCache {
+
+  private final ConcurrentMap<String, PatternReference> patterns = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Pattern> releasedPatterns = new ReferenceQueue<>();
+
+  /**
+   * @param regex Regular expression
+   * @return Shared compiled pattern
+   * @throws PatternSyntaxException If the regular expression is invalid, invalid expressions are not cached
+   */
+  @NotNull Pattern get(@NotNull String regex) {
+    PatternReference reference = patterns.get(regex);
+    Pattern pattern = reference != null ? reference.get() : null;
+    if (pattern == null) {
+      removeReleased();
+      Pattern compiled = Pattern.compile(regex);
+      reference = patterns.merge(regex, new PatternReference(regex, compiled, releasedPatterns),
+          (existing, added) -> existing.get() != null ? existing : added);
+      pattern = reference.get();
+      if (pattern == null) {
+        // released concurrently after merging
+        pattern = compiled;
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * @param regex Regular expression
+   * @param stepLimit Maximum number of characters read per match, 0 if unlimited
+   * @return Pattern with shared compiled pattern
+   * @throws PatternSyntaxException If the regular expression is invalid
+   */
+  @NotNull BoundedPattern get(@NotNull String regex, int stepLimit) {
+    return new BoundedPattern(get(regex), stepLimit);
+  }
+
+  /**
+   * @return Number of cached patterns that are still in use
+   */
+  int size() {
+    removeReleased();
+    return (int)patterns.values().stream().filter(reference -> reference.get() != null).count();
+  }
+
+  private void removeReleased() {
+    PatternReference reference;
+    while ((reference = (PatternReference)releasedPatterns.poll()) != null) {
+      patterns.remove(reference.regex, reference);
+    }
+  }
+
+  private static final class PatternReference extends WeakReference<Pattern> {
+
+    private final String regex;
+
+    PatternReference(@NotNull String regex, @NotNull Pattern pattern, @NotNull ReferenceQueue<Pattern> queue) {
+      super(pattern, queue);
+      this.regex = regex;
+    }
+
+  }
+
+}
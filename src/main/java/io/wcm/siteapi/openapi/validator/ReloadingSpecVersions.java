@@ -0,0 +1,348 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the specs of all versions of an {@link OpenApiSpecVersions} instance and replaces them when the
+ * spec files change, without restarting the application.
+ *
+ * <p>
+ * Changed specs are detected by their content hash, so only specs with changed content are rebuilt. A rebuilt spec
+ * is checked for OAS3 conformance and all its schema validators are precompiled (see
+ * {@link OpenApiSpec#precompileAll()}) before it is swapped in atomically. Callers that already obtained the previous
+ * instance keep using it, so in-flight validations are not affected. If the changed spec is invalid, the previous
+ * instance stays active.
+ * </p>
+ *
+ * <p>
+ * Reloading can be triggered manually via {@link #reload(String)} and {@link #reloadChanged()}, or automatically
+ * for spec files in the file system via {@link #startWatching()}, which uses a {@link WatchService} on the
+ * directories containing the spec files. Instances that were derived from a spec (e.g. {@link OpenApiRouter})
+ * have to be recreated after a reload, e.g. from {@link SpecReloadListener#reloaded(String, OpenApiSpec)}.
+ * </p>
+ */
+public final class ReloadingSpecVersions implements AutoCloseable {
+
+  // wait time after a file change event to coalesce multiple events of a single write
+  private static final long SETTLE_MILLIS = 100;
+
+  private final OpenApiSpecVersions specVersions;
+  private final SpecReloadListener listener;
+  private final ConcurrentMap<String, LoadedSpec> specs = new ConcurrentHashMap<>();
+  private final Object reloadLock = new Object();
+  private WatchService watchService;
+  private Thread watchThread;
+
+  /**
+   * Loads and precompiles all specs.
+   * @param specVersions Spec versions
+   * @throws SpecInvalidException If reading one of the OAS3 specs fails.
+   */
+  public ReloadingSpecVersions(@NotNull OpenApiSpecVersions specVersions) {
+    this(specVersions, SpecReloadListener.NOOP);
+  }
+
+  /**
+   * Loads and precompiles all specs.
+   * @param specVersions Spec versions
+   * @param listener Gets notified about reloads
+   * @throws SpecInvalidException If reading one of the OAS3 specs fails.
+   */
+  public ReloadingSpecVersions(@NotNull OpenApiSpecVersions specVersions, @NotNull SpecReloadListener listener) {
+    this.specVersions = specVersions;
+    this.listener = listener;
+    for (String version : specVersions.getAllVersions()) {
+      URL url = getUrl(version);
+      String content = OpenApiSpec.readSpec(url);
+      specs.put(version, load(url, version, content));
+    }
+  }
+
+  private @NotNull URL getUrl(@NotNull String version) {
+    URL url = specVersions.getUrl(version);
+    if (url == null) {
+      throw new IllegalArgumentException("Invalid version: " + version);
+    }
+    return url;
+  }
+
+  /**
+   * Loads spec, waits for the conformance check and builds all schema validators.
+   * @param url Spec URL
+   * @param version Spec version
+   * @param content Spec content
+   * @return Loaded spec
+   */
+  private @NotNull LoadedSpec load(@NotNull URL url, @NotNull String version, @NotNull String content) {
+    OpenApiSpec spec = new OpenApiSpec(url, version, content, specVersions.getOptions(), System.nanoTime());
+    try {
+      spec.getConformanceValidation().join();
+    }
+    catch (CompletionException ex) {
+      spec.releaseSharedNodes();
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException)ex.getCause();
+      }
+      throw ex;
+    }
+    spec.precompileAll();
+    return new LoadedSpec(spec, ConformanceCache.hash(content));
+  }
+
+  /**
+   * Get all Site API versions.
+   * @return Versions
+   */
+  public @NotNull Collection<String> getAllVersions() {
+    return specVersions.getAllVersions();
+  }
+
+  /**
+   * Returns current Site API specification for highest version number.
+   * @return Site API specification.
+   */
+  public @NotNull OpenApiSpec getLatest() {
+    return get(specVersions.getLatestVersion());
+  }
+
+  /**
+   * Returns current Site API specification.
+   * @param version Requested spec version
+   * @return Site API specification.
+   */
+  public @NotNull OpenApiSpec get(@NotNull String version) {
+    LoadedSpec loadedSpec = specs.get(version);
+    if (loadedSpec == null) {
+      throw new IllegalArgumentException("Invalid version: " + version);
+    }
+    return loadedSpec.spec;
+  }
+
+  /**
+   * Reloads the spec of the given version if its content changed.
+   * @param version Spec version
+   * @return true if the spec content changed and the new spec was swapped in
+   * @throws SpecInvalidException If reading the changed OAS3 spec fails. The previous spec stays active.
+   */
+  public boolean reload(@NotNull String version) {
+    OpenApiSpec spec = swapIfChanged(version);
+    if (spec == null) {
+      return false;
+    }
+    listener.reloaded(version, spec);
+    return true;
+  }
+
+  /**
+   * Loads the spec of the given version and swaps it in if its content changed.
+   * @param version Spec version
+   * @return New spec instance, or null if the content did not change
+   * @throws SpecInvalidException If reading the changed OAS3 spec fails. The previous spec stays active.
+   */
+  private @Nullable OpenApiSpec swapIfChanged(@NotNull String version) {
+    URL url = getUrl(version);
+    synchronized (reloadLock) {
+      String content = OpenApiSpec.readSpec(url);
+      if (ConformanceCache.hash(content).equals(specs.get(version).contentHash)) {
+        return null;
+      }
+      LoadedSpec loadedSpec = load(url, version, content);
+      LoadedSpec previous = specs.put(version, loadedSpec);
+      // shared nodes of the previous instance would otherwise be kept by the options forever
+      previous.spec.releaseSharedNodes();
+      return loadedSpec.spec;
+    }
+  }
+
+  /**
+   * Reloads the specs of all versions with changed content.
+   * Failures are reported to {@link SpecReloadListener#reloadFailed(String, RuntimeException)}.
+   * Exceptions thrown by the listener are passed to the uncaught exception handler of the current thread,
+   * so they do not stop reloading the other versions.
+   * @return Versions that were reloaded
+   */
+  public @NotNull Set<String> reloadChanged() {
+    return reloadChanged(getAllVersions());
+  }
+
+  private @NotNull Set<String> reloadChanged(@NotNull Collection<String> versions) {
+    Set<String> result = new TreeSet<>();
+    for (String version : versions) {
+      OpenApiSpec spec;
+      try {
+        spec = swapIfChanged(version);
+      }
+      catch (RuntimeException ex) {
+        notifyListener(() -> listener.reloadFailed(version, ex));
+        continue;
+      }
+      if (spec != null) {
+        result.add(version);
+        notifyListener(() -> listener.reloaded(version, spec));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Calls the listener, a failing listener must not stop the watch thread.
+   * @param notification Listener call
+   */
+  private static void notifyListener(@NotNull Runnable notification) {
+    try {
+      notification.run();
+    }
+    catch (RuntimeException ex) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+    }
+  }
+
+  /**
+   * Starts watching the directories of all spec files in the file system for changes in a background thread.
+   * Specs not loaded from <code>file:</code> URLs are not watched.
+   * @throws IOException If the watch service could not be created
+   */
+  public synchronized void startWatching() throws IOException {
+    if (watchService != null) {
+      return;
+    }
+    Map<Path, Set<String>> versionsByFile = new HashMap<>();
+    for (String version : getAllVersions()) {
+      Path file = toFile(getUrl(version));
+      if (file != null) {
+        versionsByFile.computeIfAbsent(file, key -> new HashSet<>()).add(version);
+      }
+    }
+    WatchService newWatchService = FileSystems.getDefault().newWatchService();
+    Set<Path> directories = new HashSet<>();
+    for (Path file : versionsByFile.keySet()) {
+      if (directories.add(file.getParent())) {
+        file.getParent().register(newWatchService, ENTRY_CREATE, ENTRY_MODIFY);
+      }
+    }
+    watchService = newWatchService;
+    watchThread = new Thread(() -> watch(newWatchService, versionsByFile), "openapi-spec-reloader");
+    watchThread.setDaemon(true);
+    watchThread.start();
+  }
+
+  private static @Nullable Path toFile(@NotNull URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      return Paths.get(url.toURI()).toAbsolutePath().normalize();
+    }
+    catch (URISyntaxException | IllegalArgumentException ex) {
+      return null;
+    }
+  }
+
+  private void watch(@NotNull WatchService service, @NotNull Map<Path, Set<String>> versionsByFile) {
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        Thread.sleep(SETTLE_MILLIS);
+        Set<String> changedVersions = new TreeSet<>();
+        while (key != null) {
+          Path directory = (Path)key.watchable();
+          for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+              changedVersions.addAll(getAllVersions());
+            }
+            else {
+              Path file = directory.resolve((Path)event.context());
+              changedVersions.addAll(versionsByFile.getOrDefault(file, Set.of()));
+            }
+          }
+          key.reset();
+          key = service.poll();
+        }
+        reloadChanged(changedVersions);
+      }
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    catch (ClosedWatchServiceException ex) {
+      // watching was stopped
+    }
+  }
+
+  /**
+   * Stops watching the spec files.
+   */
+  @Override
+  public synchronized void close() {
+    if (watchService == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    }
+    catch (IOException ex) {
+      // ignore
+    }
+    watchThread.interrupt();
+    watchService = null;
+    watchThread = null;
+  }
+
+  private static final class LoadedSpec {
+
+    private final OpenApiSpec spec;
+    private final String contentHash;
+
+    LoadedSpec(@NotNull OpenApiSpec spec, @NotNull String contentHash) {
+      this.spec = spec;
+      this.contentHash = contentHash;
+    }
+
+  }
+
+}
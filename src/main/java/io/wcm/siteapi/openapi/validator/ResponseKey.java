@@ -0,0 +1,153 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Locale;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies a response definition in the spec by suffix, HTTP method, HTTP status code and media type.
+ * Used as key for looking up schema validators via {@link OpenApiSpec#getSchemaValidator(ResponseKey)}.
+ * Instances are immutable; the hash code is computed once, so keys can be created once and reused for lookups.
+ */
+public final class ResponseKey {
+
+  /**
+   * Default HTTP method.
+   */
+  public static final String DEFAULT_METHOD = "get";
+
+  /**
+   * Default HTTP status code.
+   */
+  public static final int DEFAULT_STATUS = 200;
+
+  /**
+   * Default media type.
+   */
+  public static final String DEFAULT_MEDIA_TYPE = "application/json";
+
+  private final String suffix;
+  private final String method;
+  private final int status;
+  private final String mediaType;
+  private final int hashCode;
+
+  private ResponseKey(@NotNull String suffix, @NotNull String method, int status, @NotNull String mediaType) {
+    this.suffix = suffix;
+    this.method = method;
+    this.status = status;
+    this.mediaType = mediaType;
+    int hash = suffix.hashCode();
+    hash = 31 * hash + method.hashCode();
+    hash = 31 * hash + status;
+    hash = 31 * hash + mediaType.hashCode();
+    this.hashCode = hash;
+  }
+
+  /**
+   * @param suffix Suffix
+   * @return Key for the HTTP 200 GET response with <code>application/json</code> content type
+   */
+  public static @NotNull ResponseKey of(@NotNull String suffix) {
+    return new ResponseKey(suffix, DEFAULT_METHOD, DEFAULT_STATUS, DEFAULT_MEDIA_TYPE);
+  }
+
+  /**
+   * @param suffix Suffix
+   * @param method HTTP method (case-insensitive)
+   * @param status HTTP status code
+   * @param mediaType Media type (case-insensitive). Parameters like <code>charset</code> are ignored.
+   * @return Key
+   */
+  public static @NotNull ResponseKey of(@NotNull String suffix, @NotNull String method, int status,
+      @NotNull String mediaType) {
+    return new ResponseKey(suffix, method.toLowerCase(Locale.ROOT), status, normalizeMediaType(mediaType));
+  }
+
+  private static @NotNull String normalizeMediaType(@NotNull String mediaType) {
+    int parameterStart = mediaType.indexOf(';');
+    String result = parameterStart >= 0 ? mediaType.substring(0, parameterStart) : mediaType;
+    return result.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @return Suffix
+   */
+  public @NotNull String getSuffix() {
+    return this.suffix;
+  }
+
+  /**
+   * @return HTTP method in lower case
+   */
+  public @NotNull String getMethod() {
+    return this.method;
+  }
+
+  /**
+   * @return HTTP status code
+   */
+  public int getStatus() {
+    return this.status;
+  }
+
+  /**
+   * @return Media type in lower case without parameters
+   */
+  public @NotNull String getMediaType() {
+    return this.mediaType;
+  }
+
+  /**
+   * @return true if the key points to the HTTP 200 GET response with <code>application/json</code> content type
+   */
+  boolean isDefaultResponse() {
+    return status == DEFAULT_STATUS && DEFAULT_METHOD.equals(method) && DEFAULT_MEDIA_TYPE.equals(mediaType);
+  }
+
+  @Override
+  public int hashCode() {
+    return this.hashCode;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ResponseKey)) {
+      return false;
+    }
+    ResponseKey other = (ResponseKey)obj;
+    return hashCode == other.hashCode
+        && status == other.status
+        && suffix.equals(other.suffix)
+        && method.equals(other.method)
+        && mediaType.equals(other.mediaType);
+  }
+
+  @Override
+  public String toString() {
+    return suffix + " " + method.toUpperCase(Locale.ROOT) + " " + status + " " + mediaType;
+  }
+
+}
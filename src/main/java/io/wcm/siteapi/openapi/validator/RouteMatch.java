@@ -0,0 +1,80 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Result of matching a request URL with {@link OpenApiRouter}.
+ */
+public final class RouteMatch {
+
+  private final OpenApiRouter.Route route;
+  private final Map<String, String> pathParameters;
+
+  RouteMatch(@NotNull OpenApiRouter.Route route, @NotNull Map<String, String> pathParameters) {
+    this.route = route;
+    this.pathParameters = Collections.unmodifiableMap(pathParameters);
+  }
+
+  /**
+   * @return Spec version or empty string
+   */
+  public @NotNull String getVersion() {
+    return route.getSpec().getVersion();
+  }
+
+  /**
+   * @return Spec containing the matching path definition
+   */
+  public @NotNull OpenApiSpec getSpec() {
+    return route.getSpec();
+  }
+
+  /**
+   * @return Path key of the matching path definition, e.g. <code>/{contentPath}.site.v1.api/index.json</code>
+   */
+  public @NotNull String getPathTemplate() {
+    return route.getPathTemplate();
+  }
+
+  /**
+   * @return Path parameter values bound from the URL, in the order of their definition in the path
+   */
+  public @NotNull Map<String, String> getPathParameters() {
+    return this.pathParameters;
+  }
+
+  /**
+   * @return Schema validator for the HTTP 200 GET response of the matching path definition
+   */
+  public @NotNull OpenApiSchemaValidator getValidator() {
+    return route.getValidator();
+  }
+
+  @Override
+  public String toString() {
+    return route.getPathTemplate() + " " + pathParameters;
+  }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Options for {@link SamplingValidator}.
+ * Instances are immutable, each <code>with...</code> method returns a copy with the changed option.
+ */
+public final class SamplingOptions {
+
+  /**
+   * Default options.
+   */
+  public static final SamplingOptions DEFAULT = new SamplingOptions();
+
+  private double defaultRate = 0.01d;
+  private Map<String, Double> rates = Collections.emptyMap();
+  private double cpuBudget = 0.05d;
+  private Duration budgetWindow = Duration.ofSeconds(1);
+  private int queueCapacity = 1000;
+  private int workerThreads = 1;
+
+  private SamplingOptions() {
+    // default options
+  }
+
+  private SamplingOptions(@NotNull SamplingOptions options) {
+    this.defaultRate = options.defaultRate;
+    this.rates = options.rates;
+    this.cpuBudget = options.cpuBudget;
+    this.budgetWindow = options.budgetWindow;
+    this.queueCapacity = options.queueCapacity;
+    this.workerThreads = options.workerThreads;
+  }
+
+  /**
+   * @return Sampling rate for suffixes without specific rate. Default: 0.01
+   */
+  public double getDefaultRate() {
+    return this.defaultRate;
+  }
+
+  /**
+   * @param value Sampling rate for suffixes without specific rate, between 0 (none) and 1 (all)
+   * @return Options
+   */
+  public @NotNull SamplingOptions withDefaultRate(double value) {
+    SamplingOptions copy = new SamplingOptions(this);
+    copy.defaultRate = checkRate(value);
+    return copy;
+  }
+
+  /**
+   * @param suffix Suffix
+   * @return Sampling rate for the given suffix
+   */
+  public double getRate(@NotNull String suffix) {
+    Double rate = rates.get(suffix);
+    return rate != null ? rate : defaultRate;
+  }
+
+  /**
+   * @param suffix Suffix
+   * @param value Sampling rate for the given suffix, between 0 (none) and 1 (all)
+   * @return Options
+   */
+  public @NotNull SamplingOptions withRate(@NotNull String suffix, double value) {
+    SamplingOptions copy = new SamplingOptions(this);
+    Map<String, Double> newRates = new HashMap<>(rates);
+    newRates.put(suffix, checkRate(value));
+    copy.rates = Collections.unmodifiableMap(newRates);
+    return copy;
+  }
+
+  /**
+   * @return Share of one CPU core that may be spent for validation. Default: 0.05
+   */
+  public double getCpuBudget() {
+    return this.cpuBudget;
+  }
+
+  /**
+   * @param value Share of one CPU core that may be spent for validation, e.g. 0.05 for 5%.
+   *          If the validation time within a budget window exceeds the budget, the sampling rates are reduced
+   *          (halved per window), and raised again when the validation time drops below half of the budget.
+   *          0 or a negative value disables the adaptive back-off.
+   * @return Options
+   */
+  public @NotNull SamplingOptions withCpuBudget(double value) {
+    SamplingOptions copy = new SamplingOptions(this);
+    copy.cpuBudget = value;
+    return copy;
+  }
+
+  /**
+   * @return Time window for checking the CPU budget. Default: 1 second
+   */
+  public @NotNull Duration getBudgetWindow() {
+    return this.budgetWindow;
+  }
+
+  /**
+   * @param value Time window for checking the CPU budget
+   * @return Options
+   */
+  public @NotNull SamplingOptions withBudgetWindow(@NotNull Duration value) {
+    SamplingOptions copy = new SamplingOptions(this);
+    copy.budgetWindow = value;
+    return copy;
+  }
+
+  /**
+   * @return Maximum number of sampled payloads waiting for validation. Default: 1000
+   */
+  public int getQueueCapacity() {
+    return this.queueCapacity;
+  }
+
+  /**
+   * @param value Maximum number of sampled payloads waiting for validation.
+   *          Further payloads are dropped until the queue has free capacity again.
+   * @return Options
+   */
+  public @NotNull SamplingOptions withQueueCapacity(int value) {
+    if (value < 1) {
+      throw new IllegalArgumentException("Queue capacity must be at least 1: " + value);
+    }
+    SamplingOptions copy = new SamplingOptions(this);
+    copy.queueCapacity = value;
+    return copy;
+  }
+
+  /**
+   * @return Number of background threads for validation. Default: 1
+   */
+  public int getWorkerThreads() {
+    return this.workerThreads;
+  }
+
+  /**
+   * @param value Number of background threads for validation
+   * @return Options
+   */
+  public @NotNull SamplingOptions withWorkerThreads(int value) {
+    if (value < 1) {
+      throw new IllegalArgumentException("Worker threads must be at least 1: " + value);
+    }
+    SamplingOptions copy = new SamplingOptions(this);
+    copy.workerThreads = value;
+    return copy;
+  }
+
+  private static double checkRate(double value) {
+    if (value < 0 || value > 1) {
+      throw new IllegalArgumentException("Sampling rate must be between 0 and 1: " + value);
+    }
+    return value;
+  }
+
+}
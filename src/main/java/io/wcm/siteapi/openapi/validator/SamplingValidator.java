@@ -0,0 +1,267 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validates a sample of live responses in background.
+ *
+ * <p>
+ * Request threads call one of the <code>submit</code> methods for each response. The sampling decision is
+ * taken based on the configured rate for the suffix, and sampled payloads are handed over to a bounded queue
+ * that is processed by background threads. Request threads never block: if the queue is full, the payload is
+ * dropped. If the validation time exceeds the configured CPU budget, the sampling rates are reduced automatically.
+ * </p>
+ *
+ * <p>
+ * Validation failures are reported to the failure callback with the suffix and the validation outcome
+ * including the structured validation items. The callback is called from the background threads.
+ * </p>
+ */
+public final class SamplingValidator implements AutoCloseable {
+
+  private static final double MIN_BACKOFF_FACTOR = 1d / 1024;
+  private static final long SHUTDOWN_TIMEOUT_SEC = 10;
+  // thrown to request threads when the queue is full - preallocated to avoid stack trace creation
+  private static final RejectedExecutionException QUEUE_FULL = new QueueFullException();
+
+  private final OpenApiSpec spec;
+  private final SamplingOptions options;
+  private final BiConsumer<String, ValidationOutcome> failureCallback;
+  private final ThreadPoolExecutor executor;
+
+  private final LongAdder sampledCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+  private final LongAdder validatedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder skippedCount = new LongAdder();
+
+  private final long budgetWindowNanos;
+  private final LongAdder windowValidationNanos = new LongAdder();
+  private volatile long windowStart = System.nanoTime();
+  private volatile double backoffFactor = 1d;
+
+  /**
+   * @param spec Spec
+   * @param options Sampling options
+   * @param failureCallback Called with suffix and validation outcome for each invalid payload
+   */
+  public SamplingValidator(@NotNull OpenApiSpec spec, @NotNull SamplingOptions options,
+      @NotNull BiConsumer<String, ValidationOutcome> failureCallback) {
+    this.spec = spec;
+    this.options = options;
+    this.failureCallback = failureCallback;
+    this.budgetWindowNanos = options.getBudgetWindow().toNanos();
+    this.executor = new ThreadPoolExecutor(options.getWorkerThreads(), options.getWorkerThreads(),
+        0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(options.getQueueCapacity()),
+        new WorkerThreadFactory(), (task, pool) -> {
+          throw QUEUE_FULL;
+        });
+  }
+
+  /**
+   * Submits a response for sampled validation. Returns immediately.
+   * @param suffix Suffix
+   * @param payload JSON response. Must not be modified after submitting.
+   * @return true if the payload was sampled and queued for validation
+   */
+  public boolean submit(@NotNull String suffix, byte @NotNull [] payload) {
+    return submit(suffix, ByteBuffer.wrap(payload));
+  }
+
+  /**
+   * Submits a response for sampled validation. Returns immediately.
+   * @param suffix Suffix
+   * @param payload JSON response. The remaining bytes are validated. The content must not be modified after
+   *          submitting, the buffer position is not changed.
+   * @return true if the payload was sampled and queued for validation
+   */
+  public boolean submit(@NotNull String suffix, @NotNull ByteBuffer payload) {
+    if (!isSampled(suffix) || executor.isShutdown()) {
+      return false;
+    }
+    ByteBuffer buffer = payload.duplicate();
+    try {
+      executor.execute(() -> validate(suffix, buffer));
+    }
+    catch (RejectedExecutionException ex) {
+      // queue is full or executor was shut down concurrently
+      droppedCount.increment();
+      return false;
+    }
+    sampledCount.increment();
+    return true;
+  }
+
+  private boolean isSampled(@NotNull String suffix) {
+    double rate = options.getRate(suffix) * backoffFactor;
+    return rate >= 1d || (rate > 0d && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+
+  private void validate(@NotNull String suffix, @NotNull ByteBuffer payload) {
+    OpenApiSchemaValidator validator;
+    try {
+      validator = spec.getSchemaValidator(suffix);
+    }
+    catch (IllegalArgumentException ex) {
+      // no schema defined for this suffix
+      skippedCount.increment();
+      return;
+    }
+    long start = System.nanoTime();
+    ValidationOutcome outcome = validator.check(payload);
+    long end = System.nanoTime();
+    validatedCount.increment();
+    updateBackoff(end - start, end);
+    if (!outcome.isValid()) {
+      failedCount.increment();
+      try {
+        failureCallback.accept(suffix, outcome);
+      }
+      catch (RuntimeException ex) {
+        // keep worker thread alive
+      }
+    }
+  }
+
+  private void updateBackoff(long validationNanos, long now) {
+    if (options.getCpuBudget() <= 0) {
+      return;
+    }
+    windowValidationNanos.add(validationNanos);
+    if (now - windowStart < budgetWindowNanos) {
+      return;
+    }
+    synchronized (this) {
+      long elapsed = now - windowStart;
+      if (elapsed < budgetWindowNanos) {
+        // window was already closed by another thread
+        return;
+      }
+      double usage = (double)windowValidationNanos.sumThenReset() / elapsed;
+      if (usage > options.getCpuBudget()) {
+        backoffFactor = Math.max(backoffFactor / 2, MIN_BACKOFF_FACTOR);
+      }
+      else if (usage < options.getCpuBudget() / 2) {
+        backoffFactor = Math.min(backoffFactor * 2, 1d);
+      }
+      windowStart = now;
+    }
+  }
+
+  /**
+   * @return Factor the configured sampling rates are currently multiplied with due to the CPU budget (1 = no back-off)
+   */
+  public double getBackoffFactor() {
+    return this.backoffFactor;
+  }
+
+  /**
+   * @return Number of payloads sampled and queued for validation
+   */
+  public long getSampledCount() {
+    return sampledCount.sum();
+  }
+
+  /**
+   * @return Number of sampled payloads dropped because the queue was full
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * @return Number of validated payloads
+   */
+  public long getValidatedCount() {
+    return validatedCount.sum();
+  }
+
+  /**
+   * @return Number of invalid payloads
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * @return Number of sampled payloads not validated because the spec defines no schema for their suffix
+   */
+  public long getSkippedCount() {
+    return skippedCount.sum();
+  }
+
+  /**
+   * Stops accepting new payloads and waits up to 10 seconds for the queued payloads to be validated.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    }
+    catch (InterruptedException ex) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class QueueFullException extends RejectedExecutionException {
+    private static final long serialVersionUID = 1L;
+
+    QueueFullException() {
+      super("Sampling queue is full.");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    @Override
+    public Thread newThread(@NotNull Runnable runnable) {
+      Thread thread = new Thread(runnable, "openapi-sampling-validator-" + THREAD_NUMBER.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+
+  }
+
+}
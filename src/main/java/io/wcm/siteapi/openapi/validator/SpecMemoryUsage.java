@@ -0,0 +1,180 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Estimated heap memory used by the JSON tree of an {@link OpenApiSpec}.
+ *
+ * <p>
+ * Sizes are estimated for a 64-bit JVM with compressed object pointers, based on the Jackson tree node classes
+ * and the collections they use. Each node and string instance is counted once, even if it is referenced
+ * multiple times. Memory used by openapi4j for resolved references and by the schema validators is not included.
+ * </p>
+ */
+public final class SpecMemoryUsage {
+
+  private static final int OBJECT_NODE_SIZE = 24;
+  private static final int ARRAY_NODE_SIZE = 24;
+  private static final int VALUE_NODE_SIZE = 16;
+  private static final int LINKED_HASH_MAP_SIZE = 56;
+  private static final int LINKED_HASH_MAP_ENTRY_SIZE = 40;
+  private static final int ARRAY_LIST_SIZE = 24;
+  private static final int ARRAY_HEADER_SIZE = 16;
+  private static final int STRING_SIZE = 24;
+  private static final int REFERENCE_SIZE = 4;
+
+  private final long nodeCount;
+  private final long estimatedSize;
+  private final long sharedSize;
+
+  private SpecMemoryUsage(long nodeCount, long estimatedSize, long sharedSize) {
+    this.nodeCount = nodeCount;
+    this.estimatedSize = estimatedSize;
+    this.sharedSize = sharedSize;
+  }
+
+  /**
+   * @return Number of distinct node instances in the tree
+   */
+  public long getNodeCount() {
+    return this.nodeCount;
+  }
+
+  /**
+   * @return Estimated size of all nodes and strings in the tree in bytes, including shared ones
+   */
+  public long getEstimatedSize() {
+    return this.estimatedSize;
+  }
+
+  /**
+   * @return Estimated size of the nodes and strings shared with other specs in bytes
+   */
+  public long getSharedSize() {
+    return this.sharedSize;
+  }
+
+  /**
+   * @return Estimated size of the nodes and strings used only by this spec in bytes
+   */
+  public long getRetainedSize() {
+    return estimatedSize - sharedSize;
+  }
+
+  @Override
+  public String toString() {
+    return "SpecMemoryUsage[nodes=" + nodeCount + ", estimatedSize=" + estimatedSize
+        + ", sharedSize=" + sharedSize + ", retainedSize=" + getRetainedSize() + "]";
+  }
+
+  /**
+   * @param root Spec root node
+   * @param sharedNodes Identity set of nodes shared with other specs
+   * @return Memory usage
+   */
+  static @NotNull SpecMemoryUsage estimate(@NotNull JsonNode root, @NotNull Set<JsonNode> sharedNodes) {
+    Estimator estimator = new Estimator(sharedNodes);
+    estimator.visit(root, false);
+    return new SpecMemoryUsage(estimator.nodeCount, estimator.totalSize, estimator.sharedSize);
+  }
+
+  private static final class Estimator {
+
+    private final Set<JsonNode> sharedNodes;
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long nodeCount;
+    private long totalSize;
+    private long sharedSize;
+
+    Estimator(@NotNull Set<JsonNode> sharedNodes) {
+      this.sharedNodes = sharedNodes;
+    }
+
+    void visit(@NotNull JsonNode node, boolean sharedParent) {
+      if (!visited.add(node)) {
+        return;
+      }
+      nodeCount++;
+      boolean shared = sharedParent || sharedNodes.contains(node);
+      if (node.isObject()) {
+        add(OBJECT_NODE_SIZE + LINKED_HASH_MAP_SIZE + ARRAY_HEADER_SIZE
+            + (long)REFERENCE_SIZE * tableCapacity(node.size())
+            + (long)LINKED_HASH_MAP_ENTRY_SIZE * node.size(), shared);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          visitString(field.getKey(), shared);
+          visit(field.getValue(), shared);
+        }
+      }
+      else if (node.isArray()) {
+        add(ARRAY_NODE_SIZE + ARRAY_LIST_SIZE + align(ARRAY_HEADER_SIZE + (long)REFERENCE_SIZE * node.size()), shared);
+        for (JsonNode item : node) {
+          visit(item, shared);
+        }
+      }
+      else if (node.isTextual()) {
+        add(VALUE_NODE_SIZE, shared);
+        visitString(node.textValue(), shared);
+      }
+      else if (node.isNumber()) {
+        add(VALUE_NODE_SIZE, shared);
+      }
+      // boolean, null and missing nodes are singletons
+    }
+
+    private void visitString(@NotNull String value, boolean shared) {
+      if (visited.add(value)) {
+        add(STRING_SIZE + align(ARRAY_HEADER_SIZE + (long)value.length()), shared);
+      }
+    }
+
+    private void add(long size, boolean shared) {
+      totalSize += size;
+      if (shared) {
+        sharedSize += size;
+      }
+    }
+
+    private static int tableCapacity(int size) {
+      int capacity = 16;
+      while (capacity * 3 / 4 < size) {
+        capacity <<= 1;
+      }
+      return capacity;
+    }
+
+    private static long align(long size) {
+      return (size + 7) & ~7L;
+    }
+
+  }
+
+}
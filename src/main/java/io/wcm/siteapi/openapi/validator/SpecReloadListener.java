@@ -0,0 +1,55 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gets notified about spec reloads of {@link ReloadingSpecVersions}.
+ * All methods have an empty default implementation.
+ */
+public interface SpecReloadListener {
+
+  /**
+   * Listener that ignores all notifications.
+   */
+  SpecReloadListener NOOP = new SpecReloadListener() {
+    // empty default implementation
+  };
+
+  /**
+   * Called after a changed spec was loaded, precompiled and swapped in.
+   * @param version Spec version
+   * @param spec New spec instance
+   */
+  default void reloaded(@NotNull String version, @NotNull OpenApiSpec spec) {
+    // no-op
+  }
+
+  /**
+   * Called if reloading a changed spec failed. The previous spec instance stays active.
+   * @param version Spec version
+   * @param ex Exception, usually {@link SpecInvalidException}
+   */
+  default void reloadFailed(@NotNull String version, @NotNull RuntimeException ex) {
+    // no-op
+  }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.core.validation.ValidationResults.CrumbInfo;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Validates a JSON token stream against a {@link CompiledSchema} in a single pass, without building a tree.
+ *
+ * <p>
+ * Validation errors have the same codes, messages and crumbs as the errors reported by the openapi4j schema
+ * validator, but may be reported in a different order. Values not covered by the schema are skipped without
+ * being inspected. Memory usage only depends on the nesting depth of the JSON content.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe, all state of a validation run is kept in a separate instance per call.
+ * </p>
+ */
+final class StreamingValidator {
+
+  private final CompiledSchema schema;
+
+  /**
+   * @param schema Compiled schema
+   */
+  StreamingValidator(@NotNull CompiledSchema schema) {
+    this.schema = schema;
+  }
+
+  /**
+   * Validates the JSON value at the current token of the parser. Only the tokens of this value are consumed.
+   * @param parser Parser positioned at the first token of the value
+   * @param maxErrors Maximum number of errors to collect, or null if unlimited
+   * @return Validation results
+   * @throws IOException If parsing the JSON content fails
+   */
+  @NotNull ValidationResults validate(@NotNull JsonParser parser, @Nullable Integer maxErrors) throws IOException {
+    Run run = new Run(parser, maxErrors != null ? maxErrors : Integer.MAX_VALUE);
+    try {
+      run.validateValue(schema);
+    }
+    catch (ErrorLimitReachedException ex) {
+      // stop at error limit, remaining tokens are not consumed
+    }
+    return run.results;
+  }
+
+  /**
+   * State of a single validation run.
+   */
+  private static final class Run {
+
+    private final JsonParser parser;
+    private final int maxErrors;
+    private final ValidationResults results = new ValidationResults();
+    // data and schema crumbs of the current value, grows with the nesting depth only
+    private final List<CrumbInfo> crumbs = new ArrayList<>();
+
+    Run(@NotNull JsonParser parser, int maxErrors) {
+      this.parser = parser;
+      this.maxErrors = maxErrors;
+    }
+
+    void validateValue(@NotNull CompiledSchema valueSchema) throws IOException {
+      CompiledSchema current = valueSchema;
+      int referenceCount = 0;
+      while (current.getReferenced() != null) {
+        crumbs.add(new CrumbInfo(current.getReference(), true));
+        current = current.getReferenced();
+        referenceCount++;
+      }
+      JsonToken token = parser.currentToken();
+      switch (token) {
+        case START_OBJECT:
+          validateType(current, CompiledSchema.TYPE_OBJECT);
+          validateObject(current);
+          break;
+        case START_ARRAY:
+          validateType(current, CompiledSchema.TYPE_ARRAY);
+          validateArray(current);
+          validateRequired(current, null);
+          break;
+        case VALUE_NULL:
+          if (!current.isNullable()) {
+            error(KeywordErrors.NULLABLE_CRUMB, KeywordErrors.NULLABLE);
+          }
+          validateRequired(current, null);
+          break;
+        case VALUE_STRING:
+          validateType(current, CompiledSchema.TYPE_STRING);
+          validateString(current);
+          validateRequired(current, null);
+          break;
+        case VALUE_NUMBER_INT:
+          validateType(current, CompiledSchema.TYPE_INTEGER);
+          validateRange(current, parser.getDecimalValue());
+          validateRequired(current, null);
+          break;
+        case VALUE_NUMBER_FLOAT:
+          validateType(current, CompiledSchema.TYPE_NUMBER);
+          // same decimal value as DoubleNode in the tree parsed by openapi4j
+          validateRange(current, BigDecimal.valueOf(parser.getDoubleValue()));
+          validateRequired(current, null);
+          break;
+        case VALUE_TRUE:
+        case VALUE_FALSE:
+          validateType(current, CompiledSchema.TYPE_BOOLEAN);
+          validateRequired(current, null);
+          break;
+        default:
+          throw new IOException("Unexpected JSON token: " + token);
+      }
+      for (int i = 0; i < referenceCount; i++) {
+        crumbs.remove(crumbs.size() - 1);
+      }
+    }
+
+    private void validateType(@NotNull CompiledSchema valueSchema, @NotNull String actualType) {
+      String type = valueSchema.getType();
+      if (type != null && !type.equals(actualType)
+          && !(CompiledSchema.TYPE_NUMBER.equals(type) && CompiledSchema.TYPE_INTEGER.equals(actualType))) {
+        error(KeywordErrors.TYPE_CRUMB, KeywordErrors.TYPE, type, actualType);
+      }
+    }
+
+    private void validateString(@NotNull CompiledSchema valueSchema) throws IOException {
+      BoundedPattern pattern = valueSchema.getPattern();
+      Integer minLength = valueSchema.getMinLength();
+      Integer maxLength = valueSchema.getMaxLength();
+      if (pattern == null && minLength == null && maxLength == null) {
+        return;
+      }
+      String text = parser.getText();
+      if (pattern != null) {
+        ValidationResult patternError = pattern.check(text);
+        if (patternError != null) {
+          error(KeywordErrors.PATTERN_CRUMB, patternError, text, pattern.pattern());
+        }
+      }
+      if (minLength != null || maxLength != null) {
+        int length = text.codePointCount(0, text.length());
+        if (minLength != null && length < minLength) {
+          error(KeywordErrors.MIN_LENGTH_CRUMB, KeywordErrors.MIN_LENGTH, minLength, length);
+        }
+        if (maxLength != null && length > maxLength) {
+          error(KeywordErrors.MAX_LENGTH_CRUMB, KeywordErrors.MAX_LENGTH, maxLength, length);
+        }
+      }
+    }
+
+    private void validateRange(@NotNull CompiledSchema valueSchema, @NotNull BigDecimal value) {
+      BigDecimal minimum = valueSchema.getMinimum();
+      if (minimum != null) {
+        int compare = value.compareTo(minimum);
+        if (valueSchema.isExclusiveMinimum() && compare == 0) {
+          error(KeywordErrors.MINIMUM_CRUMB, KeywordErrors.EXCLUSIVE_MINIMUM, minimum, value);
+        }
+        else if (compare < 0) {
+          error(KeywordErrors.MINIMUM_CRUMB, KeywordErrors.MINIMUM, minimum, value);
+        }
+      }
+      BigDecimal maximum = valueSchema.getMaximum();
+      if (maximum != null) {
+        int compare = value.compareTo(maximum);
+        if (valueSchema.isExclusiveMaximum() && compare == 0) {
+          error(KeywordErrors.MAXIMUM_CRUMB, KeywordErrors.EXCLUSIVE_MAXIMUM, maximum, value);
+        }
+        else if (compare > 0) {
+          error(KeywordErrors.MAXIMUM_CRUMB, KeywordErrors.MAXIMUM, maximum, value);
+        }
+      }
+    }
+
+    private void validateObject(@NotNull CompiledSchema objectSchema) throws IOException {
+      int requiredCount = objectSchema.getRequired().length;
+      boolean[] present = requiredCount > 0 ? new boolean[requiredCount] : null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        if (present != null) {
+          int index = objectSchema.getRequiredIndex(name);
+          if (index >= 0) {
+            present[index] = true;
+          }
+        }
+        CompiledSchema propertySchema = objectSchema.getProperty(name);
+        if (propertySchema != null) {
+          crumbs.add(new CrumbInfo(name, false));
+          validateValue(propertySchema);
+          crumbs.remove(crumbs.size() - 1);
+        }
+        else if (objectSchema.getAdditionalProperties() != null) {
+          // openapi4j reports errors of additional properties with the crumbs of the object
+          crumbs.add(KeywordErrors.ADDITIONAL_PROPERTIES_CRUMB);
+          validateValue(objectSchema.getAdditionalProperties());
+          crumbs.remove(crumbs.size() - 1);
+        }
+        else {
+          if (!objectSchema.isAdditionalPropertiesAllowed()) {
+            error(KeywordErrors.ADDITIONAL_PROPERTIES_CRUMB, KeywordErrors.ADDITIONAL_PROPERTY, name);
+          }
+          parser.skipChildren();
+        }
+      }
+      validateRequired(objectSchema, present);
+    }
+
+    private void validateArray(@NotNull CompiledSchema arraySchema) throws IOException {
+      CompiledSchema itemSchema = arraySchema.getItems();
+      int index = 0;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        if (itemSchema != null) {
+          crumbs.add(new CrumbInfo(Integer.toString(index), false));
+          crumbs.add(KeywordErrors.ITEMS_CRUMB);
+          validateValue(itemSchema);
+          crumbs.remove(crumbs.size() - 1);
+          crumbs.remove(crumbs.size() - 1);
+        }
+        else {
+          parser.skipChildren();
+        }
+        index++;
+      }
+    }
+
+    /**
+     * Reports missing required properties. Like openapi4j, all required properties are reported for values
+     * that are not objects.
+     * @param valueSchema Schema
+     * @param present Flags for present required properties, or null if the value is not an object
+     */
+    private void validateRequired(@NotNull CompiledSchema valueSchema, boolean @Nullable [] present) {
+      String[] required = valueSchema.getRequired();
+      for (int i = 0; i < required.length; i++) {
+        if (present == null || !present[i]) {
+          error(KeywordErrors.REQUIRED_CRUMB, KeywordErrors.REQUIRED, required[i]);
+        }
+      }
+    }
+
+    private void error(@NotNull CrumbInfo keyword, @NotNull ValidationResult result, Object... args) {
+      ValidationResults item = new ValidationResults();
+      item.add(keyword, result, args);
+      results.add(crumbs, item);
+      if (results.size() >= maxErrors) {
+        throw ErrorLimitReachedException.INSTANCE;
+      }
+    }
+
+  }
+
+  /**
+   * Thrown to stop validation once the error limit is reached.
+   */
+  private static final class ErrorLimitReachedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final ErrorLimitReachedException INSTANCE = new ErrorLimitReachedException();
+
+    private ErrorLimitReachedException() {
+      super(null, null, false, false);
+    }
+
+  }
+
+}
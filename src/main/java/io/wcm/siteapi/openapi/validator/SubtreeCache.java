@@ -0,0 +1,222 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Remembers JSON subtrees that were recently validated successfully against a referenced schema, so validation of
+ * repeated fragments like links or teasers can be skipped.
+ *
+ * <p>
+ * Entries are 64 bit keys combining the referenced schema and a structural hash of the subtree, stored in a
+ * direct-mapped table of primitive longs: a new entry replaces the entry in the same slot, so the table keeps the
+ * most recently validated subtrees and never grows. Only successful validations are cached, so invalid content is
+ * always validated completely and reported with all errors. Hashes are seeded per instance, so colliding content
+ * cannot be crafted in advance.
+ * </p>
+ *
+ * <p>
+ * The hashes of objects and arrays are remembered per validation run, so subtrees of nested references are only
+ * hashed once and the hashing effort stays linear in the size of the validated tree.
+ * </p>
+ *
+ * <p>
+ * Instances are thread-safe and shared by all validators of a spec.
+ * </p>
+ */
+final class SubtreeCache {
+
+  private static final long PRIME = 0x100000001b3L;
+  private static final long TAG_OBJECT = 0x9e3779b97f4a7c15L;
+  private static final long TAG_ARRAY = 0xc2b2ae3d27d4eb4fL;
+  private static final long TAG_STRING = 0x165667b19e3779f9L;
+  private static final long TAG_INTEGER = 0x27d4eb2f165667c5L;
+  private static final long TAG_NUMBER = 0x85ebca77c2b2ae63L;
+  private static final long TAG_BOOLEAN = 0xff51afd7ed558ccdL;
+  private static final long TAG_NULL = 0xc4ceb9fe1a85ec53L;
+
+  private final AtomicLongArray keys;
+  private final int mask;
+  private final long seed = ThreadLocalRandom.current().nextLong();
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  /**
+   * @param size Maximum number of entries, rounded up to the next power of two
+   */
+  SubtreeCache(int size) {
+    int tableSize = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+    this.keys = new AtomicLongArray(tableSize);
+    this.mask = tableSize - 1;
+  }
+
+  /**
+   * @param schemaKey Key of referenced schema as returned by {@link #schemaKey(String)}
+   * @param node JSON subtree
+   * @return Cache key
+   * @throws IllegalArgumentException If the subtree contains nodes other than JSON values
+   */
+  long key(long schemaKey, @NotNull JsonNode node) {
+    return key(schemaKey, node, new IdentityHashMap<>());
+  }
+
+  /**
+   * @param schemaKey Key of referenced schema as returned by {@link #schemaKey(String)}
+   * @param node JSON subtree
+   * @param hashes Hashes of objects and arrays already hashed in the current validation run, by node identity.
+   *          Hashes of the given subtree are added.
+   * @return Cache key
+   * @throws IllegalArgumentException If the subtree contains nodes other than JSON values
+   */
+  long key(long schemaKey, @NotNull JsonNode node, @NotNull Map<JsonNode, Long> hashes) {
+    long key = mix(schemaKey ^ hash(node, hashes));
+    // 0 marks empty slots
+    return key != 0 ? key : 1;
+  }
+
+  /**
+   * @param reference Reference of the schema, unique within a spec
+   * @return Key of the schema
+   */
+  long schemaKey(@NotNull String reference) {
+    return hash(reference);
+  }
+
+  /**
+   * @param key Cache key
+   * @return true if a subtree with this key was validated successfully
+   */
+  boolean contains(long key) {
+    if (keys.get(slot(key)) == key) {
+      hitCount.increment();
+      return true;
+    }
+    missCount.increment();
+    return false;
+  }
+
+  /**
+   * @param key Cache key of a subtree that was validated successfully
+   */
+  void add(long key) {
+    keys.lazySet(slot(key), key);
+  }
+
+  /**
+   * @return Number of lookups that found a cached subtree
+   */
+  long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return Number of lookups that did not find a cached subtree
+   */
+  long getMissCount() {
+    return missCount.sum();
+  }
+
+  private int slot(long key) {
+    return (int)(key ^ (key >>> 32)) & mask;
+  }
+
+  private long hash(@NotNull JsonNode node, @NotNull Map<JsonNode, Long> hashes) {
+    if (!node.isContainerNode()) {
+      return hashValue(node);
+    }
+    Long cached = hashes.get(node);
+    if (cached != null) {
+      return cached;
+    }
+    long result;
+    if (node.isObject()) {
+      // order-independent like ObjectNode.equals
+      long objectHash = 0;
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        objectHash += mix(hash(field.getKey()) * PRIME + hash(field.getValue(), hashes));
+      }
+      result = mix(TAG_OBJECT ^ (objectHash + node.size()));
+    }
+    else {
+      long arrayHash = TAG_ARRAY;
+      for (int i = 0; i < node.size(); i++) {
+        arrayHash = (arrayHash ^ hash(node.get(i), hashes)) * PRIME;
+      }
+      result = mix(arrayHash + node.size());
+    }
+    hashes.put(node, result);
+    return result;
+  }
+
+  private long hashValue(@NotNull JsonNode node) {
+    switch (node.getNodeType()) {
+      case STRING:
+        return TAG_STRING ^ hash(node.textValue());
+      case NUMBER:
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+          return mix(TAG_INTEGER ^ node.longValue());
+        }
+        if (node.isDouble() || node.isFloat()) {
+          return mix(TAG_NUMBER ^ Double.doubleToLongBits(node.doubleValue()));
+        }
+        return (node.isIntegralNumber() ? TAG_INTEGER : TAG_NUMBER) ^ hash(node.asText());
+      case BOOLEAN:
+        return mix(TAG_BOOLEAN ^ (node.booleanValue() ? 1 : 0));
+      case NULL:
+        return TAG_NULL;
+      default:
+        throw new IllegalArgumentException("Unsupported node type: " + node.getNodeType());
+    }
+  }
+
+  private long hash(@NotNull String value) {
+    long hash = seed ^ value.length();
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * PRIME;
+    }
+    return mix(hash);
+  }
+
+  /**
+   * Finalization step of MurmurHash3.
+   */
+  private static long mix(long value) {
+    long result = value;
+    result ^= result >>> 33;
+    result *= 0xff51afd7ed558ccdL;
+    result ^= result >>> 33;
+    result *= 0xc4ceb9fe1a85ec53L;
+    result ^= result >>> 33;
+    return result;
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Metrics recorded by {@link ValidationMetricsRecorder} for a single suffix.
+ */
+public final class SuffixMetrics {
+
+  private final String suffix;
+  private final LongAdder validationCount = new LongAdder();
+  private final LongAdder invalidCount = new LongAdder();
+  private final LongAdder parseErrorCount = new LongAdder();
+  private final LongAdder compileCount = new LongAdder();
+  private final LongAdder compileNanos = new LongAdder();
+  private final LatencyHistogram parseTime = new LatencyHistogram();
+  private final LatencyHistogram validationTime = new LatencyHistogram();
+
+  SuffixMetrics(@NotNull String suffix) {
+    this.suffix = suffix;
+  }
+
+  void recordCompiled(long durationNanos) {
+    compileCount.increment();
+    compileNanos.add(durationNanos);
+  }
+
+  void recordValidated(@NotNull ValidationOutcome outcome, long parseNanos, long validationNanos) {
+    validationCount.increment();
+    if (outcome.getParseError() != null) {
+      parseErrorCount.increment();
+    }
+    else if (!outcome.isValid()) {
+      invalidCount.increment();
+    }
+    if (parseNanos > 0) {
+      parseTime.record(parseNanos);
+    }
+    if (validationNanos > 0) {
+      validationTime.record(validationNanos);
+    }
+  }
+
+  /**
+   * @return Suffix
+   */
+  public @NotNull String getSuffix() {
+    return this.suffix;
+  }
+
+  /**
+   * @return Number of validations, including parse errors
+   */
+  public long getValidationCount() {
+    return validationCount.sum();
+  }
+
+  /**
+   * @return Number of validations with schema violations
+   */
+  public long getInvalidCount() {
+    return invalidCount.sum();
+  }
+
+  /**
+   * @return Number of validations that failed because the JSON content could not be parsed
+   */
+  public long getParseErrorCount() {
+    return parseErrorCount.sum();
+  }
+
+  /**
+   * @return Ratio of failed validations (invalid or not parseable) to all validations, between 0 and 1
+   */
+  public double getFailureRate() {
+    long count = getValidationCount();
+    return count > 0 ? (double)(getInvalidCount() + getParseErrorCount()) / count : 0;
+  }
+
+  /**
+   * @return Histogram of JSON parse durations in nanoseconds. Validations of JSON trees are not included.
+   */
+  public @NotNull LatencyHistogram getParseTime() {
+    return this.parseTime;
+  }
+
+  /**
+   * @return Histogram of schema validation durations in nanoseconds
+   */
+  public @NotNull LatencyHistogram getValidationTime() {
+    return this.validationTime;
+  }
+
+  /**
+   * @return Number of schema validator compilations (once per spec version and suffix)
+   */
+  public long getCompileCount() {
+    return compileCount.sum();
+  }
+
+  /**
+   * @return Total duration of schema validator compilations in nanoseconds
+   */
+  public long getCompileNanos() {
+    return compileNanos.sum();
+  }
+
+  @Override
+  public String toString() {
+    return suffix + ": validations=" + getValidationCount() + ", invalid=" + getInvalidCount()
+        + ", parseErrors=" + getParseErrorCount() + ", parseTime=[" + parseTime + "]"
+        + ", validationTime=[" + validationTime + "]";
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Aggregated result of a batch validation for a single suffix.
+ */
+public final class SuffixValidationResult {
+
+  private final String suffix;
+  private final long validCount;
+  private final long invalidCount;
+  private final long skippedCount;
+  private final Map<String, ValidationOutcome> failures;
+
+  SuffixValidationResult(@NotNull String suffix, long validCount, long invalidCount, long skippedCount,
+      @NotNull Map<String, ValidationOutcome> failures) {
+    this.suffix = suffix;
+    this.validCount = validCount;
+    this.invalidCount = invalidCount;
+    this.skippedCount = skippedCount;
+    this.failures = failures;
+  }
+
+  /**
+   * @return Suffix
+   */
+  public @NotNull String getSuffix() {
+    return this.suffix;
+  }
+
+  /**
+   * @return Number of valid content items
+   */
+  public long getValidCount() {
+    return this.validCount;
+  }
+
+  /**
+   * @return Number of invalid content items
+   */
+  public long getInvalidCount() {
+    return this.invalidCount;
+  }
+
+  /**
+   * @return Number of content items that were not validated because the spec defines no schema for this suffix
+   */
+  public long getSkippedCount() {
+    return this.skippedCount;
+  }
+
+  /**
+   * @return Validation outcomes of invalid content items by content item ID, in the order of the input.
+   *         If multiple invalid content items have the same ID, the ID of the following items is suffixed with
+   *         <code>#</code> and the position of the item in the input, starting with 0.
+   *         Limited to {@link BatchValidator#withMaxFailuresPerSuffix(int)} entries.
+   */
+  public @NotNull Map<String, ValidationOutcome> getFailures() {
+    return this.failures;
+  }
+
+  /**
+   * @return true if all content items were validated and are valid
+   */
+  public boolean isValid() {
+    return invalidCount == 0 && skippedCount == 0;
+  }
+
+  @Override
+  public String toString() {
+    return suffix + ": " + validCount + " valid, " + invalidCount + " invalid, " + skippedCount + " skipped";
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+/**
+ * Defines how {@link OpenApiSchemaValidator} validates JSON content against the schema.
+ */
+public enum ValidationEngine {
+
+  /**
+   * Parse the JSON content into a Jackson tree and validate it with the openapi4j schema validator.
+   */
+  TREE,
+
+  /**
+   * Validate the JSON token stream in a single pass without building a tree, so memory usage depends on the
+   * nesting depth instead of the size of the content. Used for JSON strings, bytes, streams and readers if the
+   * schema only uses the keywords <code>type</code>, <code>nullable</code>, <code>properties</code>,
+   * <code>required</code>, <code>additionalProperties</code>, <code>items</code>, <code>pattern</code>,
+   * <code>minLength</code>, <code>maxLength</code>, <code>minimum</code>, <code>maximum</code> and local
+   * <code>$ref</code> references. Otherwise, and for content that is already available as tree,
+   * {@link #TREE} is used.
+   */
+  STREAMING,
+
+  /**
+   * Parse the JSON content into a Jackson tree and validate it with a validation plan compiled from the schema,
+   * which is considerably faster than the generic openapi4j schema validator. Supports the same keywords as
+   * {@link #STREAMING}, for schemas using other keywords {@link #TREE} is used.
+   */
+  COMPILED
+
+}
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.net.URL;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timing and result metrics for spec loading, schema validator compilation and content validation.
+ *
+ * <p>
+ * Configure via {@link OpenApiSpecOptions#withMetricsListener(ValidationMetricsListener)}.
+ * All methods have an empty default implementation. Methods are called synchronously from the validating threads,
+ * so implementations have to be thread-safe and fast. If the listener is {@link #NOOP} (default), no time
+ * is measured at all.
+ * </p>
+ *
+ * <p>
+ * See {@link ValidationMetricsRecorder} for an in-memory implementation.
+ * </p>
+ */
+public interface ValidationMetricsListener {
+
+  /**
+   * Listener that ignores all metrics.
+   */
+  ValidationMetricsListener NOOP = new ValidationMetricsListener() {
+    // empty default implementation
+  };
+
+  /**
+   * Called after a spec was loaded.
+   * @param url Spec URL
+   * @param version Spec version
+   * @param durationNanos Duration of reading, parsing and validating the spec. If the OAS3 conformance check is
+   *          executed in background, it is not included.
+   */
+  default void specLoaded(@NotNull URL url, @NotNull String version, long durationNanos) {
+    // no-op
+  }
+
+  /**
+   * Called after a schema validator for a suffix was built.
+   * @param version Spec version
+   * @param suffix Suffix
+   * @param durationNanos Duration of building the schema validator
+   */
+  default void validatorCompiled(@NotNull String version, @NotNull String suffix, long durationNanos) {
+    // no-op
+  }
+
+  /**
+   * Called after JSON content was validated.
+   * @param version Spec version
+   * @param suffix Suffix
+   * @param outcome Validation outcome (including parse errors)
+   * @param parseNanos Duration of parsing the JSON content to a tree. 0 if a JSON tree was validated.
+   * @param validationNanos Duration of the schema validation. 0 if the content could not be parsed.
+   */
+  default void validated(@NotNull String version, @NotNull String suffix, @NotNull ValidationOutcome outcome,
+      long parseNanos, long validationNanos) {
+    // no-op
+  }
+
+}
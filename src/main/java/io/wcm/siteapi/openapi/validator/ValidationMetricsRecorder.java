@@ -0,0 +1,91 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Records validation metrics in memory, e.g. for exporting them periodically to a monitoring system.
+ *
+ * <p>
+ * Metrics are aggregated per suffix over all spec versions using the same recorder. Recording is lock-free
+ * and does not allocate, except for the first metrics of a new suffix.
+ * </p>
+ */
+public final class ValidationMetricsRecorder implements ValidationMetricsListener {
+
+  private final ConcurrentMap<String, SuffixMetrics> suffixMetrics = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Long> specLoadNanos = new ConcurrentHashMap<>();
+
+  @Override
+  public void specLoaded(@NotNull URL url, @NotNull String version, long durationNanos) {
+    specLoadNanos.put(version, durationNanos);
+  }
+
+  @Override
+  public void validatorCompiled(@NotNull String version, @NotNull String suffix, long durationNanos) {
+    getOrCreate(suffix).recordCompiled(durationNanos);
+  }
+
+  @Override
+  public void validated(@NotNull String version, @NotNull String suffix, @NotNull ValidationOutcome outcome,
+      long parseNanos, long validationNanos) {
+    getOrCreate(suffix).recordValidated(outcome, parseNanos, validationNanos);
+  }
+
+  private @NotNull SuffixMetrics getOrCreate(@NotNull String suffix) {
+    SuffixMetrics metrics = suffixMetrics.get(suffix);
+    if (metrics == null) {
+      metrics = suffixMetrics.computeIfAbsent(suffix, SuffixMetrics::new);
+    }
+    return metrics;
+  }
+
+  /**
+   * @return Metrics of all suffixes with recorded metrics, sorted by suffix
+   */
+  public @NotNull Map<String, SuffixMetrics> getSuffixMetrics() {
+    return Collections.unmodifiableMap(new TreeMap<>(suffixMetrics));
+  }
+
+  /**
+   * @param suffix Suffix
+   * @return Metrics of suffix, or null if no metrics are recorded for the suffix
+   */
+  public @Nullable SuffixMetrics getSuffixMetrics(@NotNull String suffix) {
+    return suffixMetrics.get(suffix);
+  }
+
+  /**
+   * @return Duration of the last spec load in nanoseconds by spec version, sorted by version
+   */
+  public @NotNull Map<String, Long> getSpecLoadNanos() {
+    return Collections.unmodifiableMap(new TreeMap<>(specLoadNanos));
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openapi4j.core.validation.ValidationResults.ValidationItem;
+
+/**
+ * Result of validating JSON content against the schema of an operation.
+ *
+ * <p>
+ * The outcome gives structured access to the validation items (including JSON pointer and code of each item).
+ * The human-readable message is only built on demand when {@link #getMessage()} is called.
+ * Instances are immutable, the outcome for valid content is shared between calls.
+ * </p>
+ */
+public final class ValidationOutcome {
+
+  private final String suffix;
+  private final List<ValidationItem> items;
+  private final Throwable parseError;
+  private final String jsonValue;
+  private volatile String message;
+
+  private ValidationOutcome(@NotNull String suffix, @NotNull List<ValidationItem> items,
+      @Nullable Throwable parseError, @Nullable String jsonValue) {
+    this.suffix = suffix;
+    this.items = items;
+    this.parseError = parseError;
+    this.jsonValue = jsonValue;
+  }
+
+  static @NotNull ValidationOutcome valid(@NotNull String suffix) {
+    return new ValidationOutcome(suffix, Collections.emptyList(), null, null);
+  }
+
+  static @NotNull ValidationOutcome invalid(@NotNull String suffix, @NotNull List<ValidationItem> items) {
+    return new ValidationOutcome(suffix, Collections.unmodifiableList(items), null, null);
+  }
+
+  static @NotNull ValidationOutcome parseError(@NotNull String suffix, @NotNull Throwable parseError, @Nullable String jsonValue) {
+    return new ValidationOutcome(suffix, Collections.emptyList(), parseError, jsonValue);
+  }
+
+  /**
+   * @return true if the JSON content is valid.
+   */
+  public boolean isValid() {
+    return parseError == null && items.isEmpty();
+  }
+
+  /**
+   * @return Suffix of the validator that produced this outcome.
+   */
+  public @NotNull String getSuffix() {
+    return this.suffix;
+  }
+
+  /**
+   * Validation items reported by the schema validator. Use {@link ValidationItem#dataJsonPointer()} to get the
+   * JSON pointer of the invalid value, and {@link ValidationItem#code()} to get the validation code.
+   * @return Validation items, empty list if content is valid or could not be parsed.
+   */
+  public @NotNull List<ValidationItem> getItems() {
+    return this.items;
+  }
+
+  /**
+   * @return Exception if the content could not be parsed as JSON, null otherwise.
+   */
+  public @Nullable Throwable getParseError() {
+    return this.parseError;
+  }
+
+  /**
+   * Gets human-readable message describing all validation errors. The message is built on first access.
+   * @return Message or empty string if content is valid.
+   */
+  public @NotNull String getMessage() {
+    String result = this.message;
+    if (result == null) {
+      result = buildMessage();
+      this.message = result;
+    }
+    return result;
+  }
+
+  private @NotNull String buildMessage() {
+    if (parseError != null) {
+      if (jsonValue != null) {
+        return "Unable to parse JSON:\n" + jsonValue;
+      }
+      return "Unable to parse JSON: " + parseError.getMessage();
+    }
+    if (items.isEmpty()) {
+      return "";
+    }
+    StringBuilder result = new StringBuilder();
+    result.append("JSON invalid for suffix '").append(suffix).append("': ");
+    for (int i = 0; i < items.size(); i++) {
+      if (i > 0) {
+        result.append('\n');
+      }
+      result.append(items.get(i).toString());
+    }
+    return result.toString();
+  }
+
+  /**
+   * Creates an exception for this outcome. The exception does not capture a stack trace,
+   * its message is built from this outcome on first access.
+   * @return Exception
+   * @throws IllegalStateException if the outcome is valid
+   */
+  public @NotNull ContentValidationException toException() {
+    if (isValid()) {
+      throw new IllegalStateException("Validation outcome is valid.");
+    }
+    return new ContentValidationException(this);
+  }
+
+  /**
+   * Throws a {@link ContentValidationException} if the outcome is not valid.
+   * @throws ContentValidationException Validation failed
+   */
+  public void throwIfInvalid() throws ContentValidationException {
+    if (!isValid()) {
+      throw toException();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return isValid() ? "valid" : getMessage();
+  }
+
+}
@@ -0,0 +1,689 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openapi4j.core.validation.ValidationResult;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.core.validation.ValidationResults.CrumbInfo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Validation plan compiled from a {@link CompiledSchema} for validating JSON trees.
+ *
+ * <p>
+ * Each schema is compiled into a flat step: a bit mask of accepted node types, a collision-free hash table mapping
+ * property names to the index of their sub plan and required bit, a bit set for tracking required properties,
+ * precompiled patterns and the crumbs used for reporting errors. Reference chains are resolved at compile time.
+ * Crumbs are only materialized when an error is reported, so validating valid content does not allocate.
+ * With a {@link SubtreeCache}, subtrees that were recently validated successfully against the same referenced schema
+ * are skipped.
+ * Validation errors are identical to the ones reported by the openapi4j schema validator, but may be reported in a
+ * different order.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and thread-safe, all state of a validation run is kept in a separate instance per call.
+ * </p>
+ */
+final class ValidationPlan {
+
+  private static final int OBJECT = 1;
+  private static final int ARRAY = 1 << 1;
+  private static final int STRING = 1 << 2;
+  private static final int INTEGER = 1 << 3;
+  private static final int NUMBER = 1 << 4;
+  private static final int BOOLEAN = 1 << 5;
+  private static final int ANY_TYPE = OBJECT | ARRAY | STRING | INTEGER | NUMBER | BOOLEAN;
+
+  private final Step root;
+  private final SubtreeCache subtreeCache;
+
+  private ValidationPlan(@NotNull Step root, @Nullable SubtreeCache subtreeCache) {
+    this.root = root;
+    this.subtreeCache = subtreeCache;
+  }
+
+  /**
+   * @param schema Compiled schema
+   * @return Validation plan
+   */
+  static @NotNull ValidationPlan compile(@NotNull CompiledSchema schema) {
+    return compile(schema, null);
+  }
+
+  /**
+   * @param schema Compiled schema
+   * @param subtreeCache Cache for skipping subtrees that were already validated against the same referenced
+   *          schema, or null
+   * @return Validation plan
+   */
+  static @NotNull ValidationPlan compile(@NotNull CompiledSchema schema, @Nullable SubtreeCache subtreeCache) {
+    return new ValidationPlan(new Compiler(subtreeCache).compile(schema), subtreeCache);
+  }
+
+  /**
+   * Validates the given JSON tree.
+   * @param node JSON tree
+   * @param maxErrors Maximum number of errors to collect, or null if unlimited
+   * @return Validation results, or null if the tree contains nodes not supported by the plan
+   *         (e.g. missing, binary or POJO nodes)
+   */
+  @Nullable ValidationResults validate(@NotNull JsonNode node, @Nullable Integer maxErrors) {
+    return validate(node, null, maxErrors);
+  }
+
+  /**
+   * Validates the given JSON tree, skipping all subtrees that are equal to the subtree at the same position in the
+   * previous tree. The previous tree must have been validated successfully with this plan, otherwise errors in
+   * unchanged subtrees are not reported. Objects containing changed subtrees are checked completely for required
+   * and additional properties. Array items are compared by index.
+   * @param node JSON tree
+   * @param previousNode Previous JSON tree, or null to validate the whole tree
+   * @param maxErrors Maximum number of errors to collect, or null if unlimited
+   * @return Validation results, or null if the tree contains nodes not supported by the plan
+   *         (e.g. missing, binary or POJO nodes)
+   */
+  @Nullable ValidationResults validate(@NotNull JsonNode node, @Nullable JsonNode previousNode,
+      @Nullable Integer maxErrors) {
+    if (previousNode != null && isUnchanged(node, previousNode)) {
+      return new ValidationResults();
+    }
+    Run run = new Run(maxErrors != null ? maxErrors : Integer.MAX_VALUE, subtreeCache);
+    try {
+      run.validate(root, node, previousNode);
+    }
+    catch (ErrorLimitReachedException ex) {
+      // stop at error limit
+    }
+    catch (UnsupportedNodeException ex) {
+      return null;
+    }
+    return run.results != null ? run.results : new ValidationResults();
+  }
+
+  private static boolean isUnchanged(@NotNull JsonNode node, @NotNull JsonNode previousNode) {
+    return node == previousNode || node.equals(previousNode);
+  }
+
+  /**
+   * Compiled validation step for a single schema.
+   */
+  private static final class Step {
+
+    // for references: crumbs of the followed references, the step of the referenced schema and its cache key
+    private CrumbInfo[] referenceCrumbs;
+    private Step referenced;
+    private long schemaKey;
+    private int acceptedTypes = ANY_TYPE;
+    private String type;
+    private boolean nullable;
+
+    private PropertyTable propertyTable;
+    private Step[] propertySteps;
+    private CrumbInfo[] propertyCrumbs;
+    private int[] requiredBits;
+    private String[] required;
+    private boolean additionalPropertiesAllowed = true;
+    private Step additionalProperties;
+    private Step items;
+
+    private BoundedPattern pattern;
+    private int minLength = -1;
+    private int maxLength = -1;
+    private BigDecimal minimum;
+    private boolean exclusiveMinimum;
+    private BigDecimal maximum;
+    private boolean exclusiveMaximum;
+
+    boolean hasStringChecks() {
+      return pattern != null || minLength >= 0 || maxLength >= 0;
+    }
+
+    boolean hasRangeChecks() {
+      return minimum != null || maximum != null;
+    }
+
+  }
+
+  private static final class Compiler {
+
+    private final Map<CompiledSchema, Step> steps = new IdentityHashMap<>();
+    private final SubtreeCache subtreeCache;
+
+    Compiler(@Nullable SubtreeCache subtreeCache) {
+      this.subtreeCache = subtreeCache;
+    }
+
+    @NotNull Step compile(@NotNull CompiledSchema schema) {
+      List<CrumbInfo> referenceCrumbs = new ArrayList<>();
+      CompiledSchema target = schema;
+      String lastReference = null;
+      while (target.getReferenced() != null) {
+        lastReference = target.getReference();
+        referenceCrumbs.add(new CrumbInfo(lastReference, true));
+        target = target.getReferenced();
+      }
+      if (referenceCrumbs.isEmpty()) {
+        return compileTarget(target);
+      }
+      Step step = new Step();
+      step.referenceCrumbs = referenceCrumbs.toArray(new CrumbInfo[0]);
+      step.referenced = compileTarget(target);
+      if (subtreeCache != null && lastReference != null) {
+        // the last reference identifies the target schema within the spec
+        step.schemaKey = subtreeCache.schemaKey(lastReference);
+      }
+      return step;
+    }
+
+    private @NotNull Step compileTarget(@NotNull CompiledSchema schema) {
+      Step step = steps.get(schema);
+      if (step != null) {
+        return step;
+      }
+      step = new Step();
+      steps.put(schema, step);
+
+      step.type = schema.getType();
+      step.acceptedTypes = toTypeMask(schema.getType());
+      step.nullable = schema.isNullable();
+
+      step.required = schema.getRequired();
+      Set<String> names = new LinkedHashSet<>(schema.getPropertyNames());
+      names.addAll(Arrays.asList(step.required));
+      String[] nameArray = names.toArray(new String[0]);
+      step.propertyTable = new PropertyTable(nameArray);
+      step.propertySteps = new Step[nameArray.length];
+      step.propertyCrumbs = new CrumbInfo[nameArray.length];
+      step.requiredBits = new int[nameArray.length];
+      for (int i = 0; i < nameArray.length; i++) {
+        step.propertyCrumbs[i] = new CrumbInfo(nameArray[i], false);
+        step.requiredBits[i] = schema.getRequiredIndex(nameArray[i]);
+      }
+      // sub steps are compiled after registering this step, for recursive schemas
+      for (int i = 0; i < nameArray.length; i++) {
+        CompiledSchema propertySchema = schema.getProperty(nameArray[i]);
+        if (propertySchema != null) {
+          step.propertySteps[i] = compile(propertySchema);
+        }
+      }
+      step.additionalPropertiesAllowed = schema.isAdditionalPropertiesAllowed();
+      if (schema.getAdditionalProperties() != null) {
+        step.additionalProperties = compile(schema.getAdditionalProperties());
+      }
+      if (schema.getItems() != null) {
+        step.items = compile(schema.getItems());
+      }
+
+      step.pattern = schema.getPattern();
+      step.minLength = schema.getMinLength() != null ? schema.getMinLength() : -1;
+      step.maxLength = schema.getMaxLength() != null ? schema.getMaxLength() : -1;
+      step.minimum = schema.getMinimum();
+      step.exclusiveMinimum = schema.isExclusiveMinimum();
+      step.maximum = schema.getMaximum();
+      step.exclusiveMaximum = schema.isExclusiveMaximum();
+      return step;
+    }
+
+    private static int toTypeMask(@Nullable String type) {
+      if (type == null) {
+        return ANY_TYPE;
+      }
+      switch (type) {
+        case CompiledSchema.TYPE_OBJECT:
+          return OBJECT;
+        case CompiledSchema.TYPE_ARRAY:
+          return ARRAY;
+        case CompiledSchema.TYPE_STRING:
+          return STRING;
+        case CompiledSchema.TYPE_INTEGER:
+          return INTEGER;
+        case CompiledSchema.TYPE_NUMBER:
+          return NUMBER | INTEGER;
+        case CompiledSchema.TYPE_BOOLEAN:
+          return BOOLEAN;
+        default:
+          throw new IllegalArgumentException("Unsupported type: " + type);
+      }
+    }
+
+  }
+
+  /**
+   * Open addressing hash table from property names to indexes. The table size is chosen so that the names
+   * do not collide if possible, so most lookups need a single probe.
+   */
+  static final class PropertyTable {
+
+    private static final int MAX_SIZE_FACTOR = 16;
+
+    private final String[] keys;
+    private final int[] indexes;
+    private final int mask;
+
+    PropertyTable(@NotNull String @NotNull [] names) {
+      int minSize = tableSize(names.length);
+      int size = minSize;
+      while (size < minSize * MAX_SIZE_FACTOR && hasCollisions(names, size)) {
+        size <<= 1;
+      }
+      if (hasCollisions(names, size)) {
+        size = minSize;
+      }
+      keys = new String[size];
+      indexes = new int[size];
+      mask = size - 1;
+      for (int i = 0; i < names.length; i++) {
+        int slot = slot(names[i]);
+        while (keys[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = names[i];
+        indexes[slot] = i;
+      }
+    }
+
+    private static int tableSize(int count) {
+      int size = 2;
+      while (size < count * 2) {
+        size <<= 1;
+      }
+      return size;
+    }
+
+    private static boolean hasCollisions(@NotNull String @NotNull [] names, int size) {
+      boolean[] used = new boolean[size];
+      for (String name : names) {
+        int slot = hash(name) & (size - 1);
+        if (used[slot]) {
+          return true;
+        }
+        used[slot] = true;
+      }
+      return false;
+    }
+
+    private static int hash(@NotNull String name) {
+      int hash = name.hashCode();
+      return hash ^ (hash >>> 16);
+    }
+
+    private int slot(@NotNull String name) {
+      return hash(name) & mask;
+    }
+
+    /**
+     * @param name Property name
+     * @return Index of property name or -1
+     */
+    int indexOf(@NotNull String name) {
+      int slot = slot(name);
+      while (true) {
+        String key = keys[slot];
+        if (key == null) {
+          return -1;
+        }
+        if (key.equals(name)) {
+          return indexes[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+    }
+
+  }
+
+  /**
+   * State of a single validation run.
+   */
+  private static final class Run {
+
+    private final int maxErrors;
+    private final SubtreeCache subtreeCache;
+    // hashes of the objects and arrays hashed for the subtree cache, so nested references are hashed only once
+    private Map<JsonNode, Long> subtreeHashes;
+    private ValidationResults results;
+    // path of the current node, data crumbs are stored as crumb or as array index with a null crumb
+    private CrumbInfo[] pathCrumbs = new CrumbInfo[16];
+    private int[] pathIndexes = new int[16];
+    private int depth;
+
+    Run(int maxErrors, @Nullable SubtreeCache subtreeCache) {
+      this.maxErrors = maxErrors;
+      this.subtreeCache = subtreeCache;
+    }
+
+    /**
+     * Validates the changes of a subtree.
+     * @param step Step
+     * @param node Subtree
+     * @param previousNode Different subtree at the same position in the previous tree, or null
+     */
+    void validate(@NotNull Step step, @NotNull JsonNode node, @Nullable JsonNode previousNode) {
+      if (previousNode == null) {
+        validate(step, node);
+      }
+      else if (step.referenced != null) {
+        for (CrumbInfo crumb : step.referenceCrumbs) {
+          push(crumb, 0);
+        }
+        validate(step.referenced, node, previousNode);
+        depth -= step.referenceCrumbs.length;
+      }
+      else if (node.isObject() && previousNode.isObject()) {
+        checkType(step, OBJECT, CompiledSchema.TYPE_OBJECT);
+        validateObject(step, node, previousNode);
+      }
+      else if (node.isArray() && previousNode.isArray()) {
+        checkType(step, ARRAY, CompiledSchema.TYPE_ARRAY);
+        validateArray(step, node, previousNode);
+        checkRequired(step);
+      }
+      else {
+        validate(step, node);
+      }
+    }
+
+    void validate(@NotNull Step step, @NotNull JsonNode node) {
+      if (step.referenced != null) {
+        validateReference(step, node);
+        return;
+      }
+      switch (node.getNodeType()) {
+        case OBJECT:
+          checkType(step, OBJECT, CompiledSchema.TYPE_OBJECT);
+          validateObject(step, node, null);
+          break;
+        case ARRAY:
+          checkType(step, ARRAY, CompiledSchema.TYPE_ARRAY);
+          validateArray(step, node, null);
+          checkRequired(step);
+          break;
+        case STRING:
+          checkType(step, STRING, CompiledSchema.TYPE_STRING);
+          if (step.hasStringChecks()) {
+            validateString(step, node.textValue());
+          }
+          checkRequired(step);
+          break;
+        case NUMBER:
+          if (node.isIntegralNumber()) {
+            checkType(step, INTEGER, CompiledSchema.TYPE_INTEGER);
+          }
+          else {
+            checkType(step, NUMBER, CompiledSchema.TYPE_NUMBER);
+          }
+          if (step.hasRangeChecks()) {
+            validateRange(step, node.decimalValue());
+          }
+          checkRequired(step);
+          break;
+        case BOOLEAN:
+          checkType(step, BOOLEAN, CompiledSchema.TYPE_BOOLEAN);
+          checkRequired(step);
+          break;
+        case NULL:
+          if (!step.nullable) {
+            error(KeywordErrors.NULLABLE_CRUMB, KeywordErrors.NULLABLE);
+          }
+          checkRequired(step);
+          break;
+        default:
+          throw UnsupportedNodeException.INSTANCE;
+      }
+    }
+
+    private void validateReference(@NotNull Step step, @NotNull JsonNode node) {
+      long cacheKey = 0;
+      int errorCount = 0;
+      if (subtreeCache != null) {
+        cacheKey = cacheKey(step, node);
+        if (subtreeCache.contains(cacheKey)) {
+          return;
+        }
+        errorCount = results != null ? results.size() : 0;
+      }
+      for (CrumbInfo crumb : step.referenceCrumbs) {
+        push(crumb, 0);
+      }
+      validate(step.referenced, node);
+      depth -= step.referenceCrumbs.length;
+      if (subtreeCache != null && (results != null ? results.size() : 0) == errorCount) {
+        subtreeCache.add(cacheKey);
+      }
+    }
+
+    private long cacheKey(@NotNull Step step, @NotNull JsonNode node) {
+      try {
+        if (subtreeHashes == null) {
+          subtreeHashes = new IdentityHashMap<>();
+        }
+        return subtreeCache.key(step.schemaKey, node, subtreeHashes);
+      }
+      catch (IllegalArgumentException ex) {
+        throw UnsupportedNodeException.INSTANCE;
+      }
+    }
+
+    private void checkType(@NotNull Step step, int actualType, @NotNull String actualTypeName) {
+      if ((step.acceptedTypes & actualType) == 0) {
+        error(KeywordErrors.TYPE_CRUMB, KeywordErrors.TYPE, step.type, actualTypeName);
+      }
+    }
+
+    private void validateObject(@NotNull Step step, @NotNull JsonNode node, @Nullable JsonNode previousNode) {
+      int requiredCount = step.required.length;
+      long presentMask = 0;
+      long[] presentBits = requiredCount > Long.SIZE ? new long[(requiredCount + Long.SIZE - 1) / Long.SIZE] : null;
+      Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        JsonNode value = field.getValue();
+        JsonNode previousValue = previousNode != null ? previousNode.get(field.getKey()) : null;
+        int index = step.propertyTable.indexOf(field.getKey());
+        Step propertyStep = null;
+        if (index >= 0) {
+          int requiredBit = step.requiredBits[index];
+          if (requiredBit >= 0) {
+            if (presentBits == null) {
+              presentMask |= 1L << requiredBit;
+            }
+            else {
+              presentBits[requiredBit / Long.SIZE] |= 1L << requiredBit;
+            }
+          }
+          propertyStep = step.propertySteps[index];
+        }
+        if (previousValue != null && isUnchanged(value, previousValue)) {
+          // property was valid in the previous tree
+          continue;
+        }
+        if (propertyStep != null) {
+          push(step.propertyCrumbs[index], 0);
+          validate(propertyStep, value, previousValue);
+          depth--;
+        }
+        else if (step.additionalProperties != null) {
+          // openapi4j reports errors of additional properties with the crumbs of the object
+          push(KeywordErrors.ADDITIONAL_PROPERTIES_CRUMB, 0);
+          validate(step.additionalProperties, value, previousValue);
+          depth--;
+        }
+        else if (!step.additionalPropertiesAllowed) {
+          error(KeywordErrors.ADDITIONAL_PROPERTIES_CRUMB, KeywordErrors.ADDITIONAL_PROPERTY, field.getKey());
+        }
+      }
+      if (requiredCount > 0) {
+        checkRequired(step, presentMask, presentBits);
+      }
+    }
+
+    private void validateArray(@NotNull Step step, @NotNull JsonNode node, @Nullable JsonNode previousNode) {
+      Step itemStep = step.items;
+      if (itemStep == null) {
+        return;
+      }
+      int size = node.size();
+      for (int i = 0; i < size; i++) {
+        JsonNode item = node.get(i);
+        JsonNode previousItem = previousNode != null ? previousNode.get(i) : null;
+        if (previousItem != null && isUnchanged(item, previousItem)) {
+          continue;
+        }
+        push(null, i);
+        push(KeywordErrors.ITEMS_CRUMB, 0);
+        validate(itemStep, item, previousItem);
+        depth -= 2;
+      }
+    }
+
+    private void validateString(@NotNull Step step, @NotNull String text) {
+      if (step.pattern != null) {
+        ValidationResult patternError = step.pattern.check(text);
+        if (patternError != null) {
+          error(KeywordErrors.PATTERN_CRUMB, patternError, text, step.pattern.pattern());
+        }
+      }
+      if (step.minLength >= 0 || step.maxLength >= 0) {
+        int length = text.codePointCount(0, text.length());
+        if (step.minLength >= 0 && length < step.minLength) {
+          error(KeywordErrors.MIN_LENGTH_CRUMB, KeywordErrors.MIN_LENGTH, step.minLength, length);
+        }
+        if (step.maxLength >= 0 && length > step.maxLength) {
+          error(KeywordErrors.MAX_LENGTH_CRUMB, KeywordErrors.MAX_LENGTH, step.maxLength, length);
+        }
+      }
+    }
+
+    private void validateRange(@NotNull Step step, @NotNull BigDecimal value) {
+      if (step.minimum != null) {
+        int compare = value.compareTo(step.minimum);
+        if (step.exclusiveMinimum && compare == 0) {
+          error(KeywordErrors.MINIMUM_CRUMB, KeywordErrors.EXCLUSIVE_MINIMUM, step.minimum, value);
+        }
+        else if (compare < 0) {
+          error(KeywordErrors.MINIMUM_CRUMB, KeywordErrors.MINIMUM, step.minimum, value);
+        }
+      }
+      if (step.maximum != null) {
+        int compare = value.compareTo(step.maximum);
+        if (step.exclusiveMaximum && compare == 0) {
+          error(KeywordErrors.MAXIMUM_CRUMB, KeywordErrors.EXCLUSIVE_MAXIMUM, step.maximum, value);
+        }
+        else if (compare > 0) {
+          error(KeywordErrors.MAXIMUM_CRUMB, KeywordErrors.MAXIMUM, step.maximum, value);
+        }
+      }
+    }
+
+    /**
+     * Reports all required properties for values that are not objects, like openapi4j.
+     * @param step Step
+     */
+    private void checkRequired(@NotNull Step step) {
+      for (String name : step.required) {
+        error(KeywordErrors.REQUIRED_CRUMB, KeywordErrors.REQUIRED, name);
+      }
+    }
+
+    /**
+     * Reports missing required properties of an object.
+     * @param step Step
+     * @param presentMask Present required properties if there are up to 64
+     * @param presentBits Present required properties if there are more than 64, otherwise null
+     */
+    private void checkRequired(@NotNull Step step, long presentMask, long @Nullable [] presentBits) {
+      String[] required = step.required;
+      for (int i = 0; i < required.length; i++) {
+        long bits = presentBits != null ? presentBits[i / Long.SIZE] : presentMask;
+        if ((bits & (1L << i)) == 0) {
+          error(KeywordErrors.REQUIRED_CRUMB, KeywordErrors.REQUIRED, required[i]);
+        }
+      }
+    }
+
+    private void push(@Nullable CrumbInfo crumb, int index) {
+      if (depth == pathCrumbs.length) {
+        pathCrumbs = Arrays.copyOf(pathCrumbs, depth * 2);
+        pathIndexes = Arrays.copyOf(pathIndexes, depth * 2);
+      }
+      pathCrumbs[depth] = crumb;
+      pathIndexes[depth] = index;
+      depth++;
+    }
+
+    private void error(@NotNull CrumbInfo keyword, @NotNull ValidationResult result, Object... args) {
+      List<CrumbInfo> crumbs = new ArrayList<>(depth);
+      for (int i = 0; i < depth; i++) {
+        CrumbInfo crumb = pathCrumbs[i];
+        crumbs.add(crumb != null ? crumb : new CrumbInfo(Integer.toString(pathIndexes[i]), false));
+      }
+      ValidationResults item = new ValidationResults();
+      item.add(keyword, result, args);
+      if (results == null) {
+        results = new ValidationResults();
+      }
+      results.add(crumbs, item);
+      if (results.size() >= maxErrors) {
+        throw ErrorLimitReachedException.INSTANCE;
+      }
+    }
+
+  }
+
+  /**
+   * Thrown to stop validation once the error limit is reached.
+   */
+  private static final class ErrorLimitReachedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final ErrorLimitReachedException INSTANCE = new ErrorLimitReachedException();
+
+    private ErrorLimitReachedException() {
+      super(null, null, false, false);
+    }
+
+  }
+
+  /**
+   * Thrown for tree nodes that are not supported by the plan.
+   */
+  private static final class UnsupportedNodeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final UnsupportedNodeException INSTANCE = new UnsupportedNodeException();
+
+    private UnsupportedNodeException() {
+      super(null, null, false, false);
+    }
+
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.jetbrains.annotations.NotNull;
+import org.openapi4j.core.validation.ValidationResults.ValidationItem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Report of a bulk validation via {@link ContentValidatorCli} with throughput statistics.
+ */
+final class ValidationReport {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final String input;
+  private final OpenApiSpec spec;
+  private final BatchValidationResult result;
+  private final long durationNanos;
+  private final long totalBytes;
+
+  ValidationReport(@NotNull String input, @NotNull OpenApiSpec spec, @NotNull BatchValidationResult result,
+      long durationNanos, long totalBytes) {
+    this.input = input;
+    this.spec = spec;
+    this.result = result;
+    this.durationNanos = durationNanos;
+    this.totalBytes = totalBytes;
+  }
+
+  @NotNull BatchValidationResult getResult() {
+    return this.result;
+  }
+
+  long getItemCount() {
+    return result.getValidCount() + result.getInvalidCount() + result.getSkippedCount();
+  }
+
+  double getItemsPerSecond() {
+    return durationNanos > 0 ? getItemCount() * (double)TimeUnit.SECONDS.toNanos(1) / durationNanos : 0;
+  }
+
+  double getBytesPerSecond() {
+    return durationNanos > 0 ? totalBytes * (double)TimeUnit.SECONDS.toNanos(1) / durationNanos : 0;
+  }
+
+  /**
+   * @return Human-readable summary
+   */
+  @NotNull String getSummary() {
+    StringBuilder summary = new StringBuilder();
+    summary.append(String.format(Locale.ROOT, "Validated %d items from %s against %s in %d ms (%.1f items/s, %.1f MB/s): %s%n",
+        getItemCount(), input, spec, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+        getItemsPerSecond(), getBytesPerSecond() / (1024 * 1024), result));
+    for (SuffixValidationResult suffixResult : result.getSuffixResults().values()) {
+      summary.append("  ").append(suffixResult).append(System.lineSeparator());
+    }
+    return summary.toString();
+  }
+
+  /**
+   * Writes report in JSON format.
+   * @param file Report file
+   * @throws IOException I/O exception
+   */
+  void writeJson(@NotNull Path file) throws IOException {
+    ObjectNode root = OBJECT_MAPPER.createObjectNode();
+    root.put("input", input);
+    root.put("spec", spec.getURL().toString());
+    root.put("version", spec.getVersion());
+    root.put("valid", result.isValid());
+    root.put("items", getItemCount());
+    root.put("validCount", result.getValidCount());
+    root.put("invalidCount", result.getInvalidCount());
+    root.put("skippedCount", result.getSkippedCount());
+    root.put("durationMillis", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    root.put("bytes", totalBytes);
+    root.put("itemsPerSecond", getItemsPerSecond());
+    root.put("bytesPerSecond", getBytesPerSecond());
+
+    ObjectNode suffixes = root.putObject("suffixes");
+    for (SuffixValidationResult suffixResult : result.getSuffixResults().values()) {
+      ObjectNode suffixNode = suffixes.putObject(suffixResult.getSuffix());
+      suffixNode.put("validCount", suffixResult.getValidCount());
+      suffixNode.put("invalidCount", suffixResult.getInvalidCount());
+      suffixNode.put("skippedCount", suffixResult.getSkippedCount());
+      ArrayNode failures = suffixNode.putArray("failures");
+      for (Map.Entry<String, ValidationOutcome> failure : suffixResult.getFailures().entrySet()) {
+        ObjectNode failureNode = failures.addObject();
+        failureNode.put("id", failure.getKey());
+        ValidationOutcome outcome = failure.getValue();
+        if (outcome.getParseError() != null) {
+          failureNode.put("parseError", outcome.getParseError().getMessage());
+        }
+        ArrayNode errors = failureNode.putArray("errors");
+        for (ValidationItem item : outcome.getItems()) {
+          ObjectNode errorNode = errors.addObject();
+          errorNode.put("pointer", item.dataJsonPointer());
+          errorNode.put("code", item.code());
+          errorNode.put("message", item.message());
+        }
+      }
+    }
+
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+  }
+
+  /**
+   * Writes report in JUnit XML format. Each suffix is reported as test suite, each invalid content item
+   * as failed test case. Valid content items are only included in the test counts.
+   * @param file Report file
+   * @throws IOException I/O exception
+   */
+  void writeJUnitXml(@NotNull Path file) throws IOException {
+    try (OutputStream os = Files.newOutputStream(file)) {
+      XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(os, "UTF-8");
+      writer.writeStartDocument("UTF-8", "1.0");
+      writer.writeStartElement("testsuites");
+      writer.writeAttribute("name", input);
+      writer.writeAttribute("tests", Long.toString(getItemCount()));
+      writer.writeAttribute("failures", Long.toString(result.getInvalidCount()));
+      writer.writeAttribute("skipped", Long.toString(result.getSkippedCount()));
+      writer.writeAttribute("time", formatSeconds(durationNanos));
+      for (SuffixValidationResult suffixResult : result.getSuffixResults().values()) {
+        writeTestSuite(writer, suffixResult);
+      }
+      writer.writeEndElement();
+      writer.writeEndDocument();
+      writer.close();
+    }
+    catch (XMLStreamException ex) {
+      throw new IOException("Unable to write JUnit XML report: " + ex.getMessage(), ex);
+    }
+  }
+
+  private void writeTestSuite(@NotNull XMLStreamWriter writer, @NotNull SuffixValidationResult suffixResult)
+      throws XMLStreamException {
+    writer.writeStartElement("testsuite");
+    writer.writeAttribute("name", suffixResult.getSuffix());
+    writer.writeAttribute("tests", Long.toString(suffixResult.getValidCount()
+        + suffixResult.getInvalidCount() + suffixResult.getSkippedCount()));
+    writer.writeAttribute("failures", Long.toString(suffixResult.getInvalidCount()));
+    writer.writeAttribute("skipped", Long.toString(suffixResult.getSkippedCount()));
+    for (Map.Entry<String, ValidationOutcome> failure : suffixResult.getFailures().entrySet()) {
+      writer.writeStartElement("testcase");
+      writer.writeAttribute("classname", suffixResult.getSuffix());
+      writer.writeAttribute("name", failure.getKey());
+      writer.writeStartElement("failure");
+      writer.writeAttribute("message", failure.getValue().getMessage());
+      writer.writeCharacters(failure.getValue().getMessage());
+      writer.writeEndElement();
+      writer.writeEndElement();
+    }
+    writer.writeEndElement();
+  }
+
+  private static String formatSeconds(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / (double)TimeUnit.SECONDS.toNanos(1));
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Size-bounded cache for schema validators with least-recently-used eviction.
+ *
+ * <p>
+ * Lookup keys (e.g. suffixes or response keys) are first resolved to a cache key identifying the schema definition,
+ * so all lookup keys falling back to the same schema share a single validator. Only cache keys that were resolved
+ * from the spec are stored, so the number of cached validators is bounded by the schema definitions of the spec,
+ * and lookups for arbitrary keys cannot displace validators. Lookups are lock-free. Concurrent loads of the same key
+ * are executed only once.
+ * </p>
+ *
+ * <p>
+ * If the resolution fails with {@link IllegalArgumentException} (no matching schema definition), the failure is
+ * stored in a separate negative cache of the same maximum size and rethrown on subsequent lookups without resolving
+ * the key again. The negative cache is cleared when it is full, so unknown keys never evict validators.
+ * </p>
+ *
+ * <p>
+ * The access time of an entry is updated with a resolution of one millisecond to avoid contended writes for
+ * frequently accessed keys. When a load exceeds the maximum size, the entries with the oldest access time are
+ * evicted in a batch down to 90% of the maximum size, so the eviction cost is shared by the following loads.
+ * </p>
+ * @param <K> Cache key type
+ */
+final class ValidatorCache<K> {
+
+  private static final long ACCESS_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final int maxSize;
+  private final Function<K, OpenApiSchemaValidator> loader;
+  private final int evictionTargetSize;
+  private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Object, String> failures = new ConcurrentHashMap<>();
+  private final Object evictionLock = new Object();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder negativeHitCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+  private final LongAdder loadCount = new LongAdder();
+  private final LongAdder loadFailureCount = new LongAdder();
+  private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+  /**
+   * @param maxSize Maximum number of validators, and maximum number of cached failures
+   * @param loader Loads the validator for a cache key
+   */
+  ValidatorCache(int maxSize, @NotNull Function<K, OpenApiSchemaValidator> loader) {
+    this.maxSize = maxSize;
+    this.loader = loader;
+    this.evictionTargetSize = maxSize - maxSize / 10;
+  }
+
+  /**
+   * @param lookupKey Lookup key
+   * @param resolver Resolves the lookup key to the cache key
+   * @param <L> Lookup key type
+   * @return Cached or loaded validator
+   * @throws IllegalArgumentException If the lookup key could not be resolved, or the loader failed
+   */
+  <L> @NotNull OpenApiSchemaValidator get(@NotNull L lookupKey, @NotNull Function<L, K> resolver) {
+    String failureMessage = failures.get(lookupKey);
+    if (failureMessage != null) {
+      hitCount.increment();
+      negativeHitCount.increment();
+      throw new SchemaNotFoundException(failureMessage);
+    }
+    K key;
+    long start = System.nanoTime();
+    try {
+      key = resolver.apply(lookupKey);
+    }
+    catch (IllegalArgumentException ex) {
+      missCount.increment();
+      loadFailureCount.increment();
+      totalLoadTimeNanos.add(System.nanoTime() - start);
+      if (failures.size() >= maxSize) {
+        failures.clear();
+      }
+      failures.put(lookupKey, String.valueOf(ex.getMessage()));
+      throw ex;
+    }
+    return get(key);
+  }
+
+  /**
+   * @param key Cache key
+   * @return Cached or loaded validator
+   * @throws IllegalArgumentException If the loader failed for this key
+   */
+  @NotNull OpenApiSchemaValidator get(@NotNull K key) {
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      hitCount.increment();
+      entry.touch();
+      return entry.validator;
+    }
+    missCount.increment();
+    entry = entries.computeIfAbsent(key, this::load);
+    if (entries.size() > maxSize) {
+      evict();
+    }
+    return entry.validator;
+  }
+
+  private @NotNull Entry load(@NotNull K key) {
+    long start = System.nanoTime();
+    try {
+      Entry entry = new Entry(loader.apply(key));
+      loadCount.increment();
+      return entry;
+    }
+    catch (IllegalArgumentException ex) {
+      loadFailureCount.increment();
+      throw ex;
+    }
+    finally {
+      totalLoadTimeNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  private void evict() {
+    synchronized (evictionLock) {
+      if (entries.size() <= maxSize) {
+        return;
+      }
+      // snapshot access times, they may change while sorting
+      List<EvictionCandidate<K>> candidates = new ArrayList<>(entries.size());
+      entries.forEach((key, entry) -> candidates.add(new EvictionCandidate<>(key, entry)));
+      candidates.sort((a, b) -> Long.signum(a.lastAccess - b.lastAccess));
+      int excess = candidates.size() - evictionTargetSize;
+      for (int i = 0; i < excess; i++) {
+        EvictionCandidate<K> candidate = candidates.get(i);
+        if (entries.remove(candidate.key, candidate.entry)) {
+          evictionCount.increment();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return Number of cached validators
+   */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return Statistics snapshot
+   */
+  @NotNull ValidatorCacheStats getStats() {
+    return new ValidatorCacheStats(entries.size(), hitCount.sum(), missCount.sum(), negativeHitCount.sum(),
+        evictionCount.sum(), loadCount.sum(), loadFailureCount.sum(), totalLoadTimeNanos.sum());
+  }
+
+  private static final class EvictionCandidate<K> {
+
+    private final K key;
+    private final Entry entry;
+    private final long lastAccess;
+
+    EvictionCandidate(@NotNull K key, @NotNull Entry entry) {
+      this.key = key;
+      this.entry = entry;
+      this.lastAccess = entry.lastAccess;
+    }
+
+  }
+
+  private static final class Entry {
+
+    private final OpenApiSchemaValidator validator;
+    private volatile long lastAccess = System.nanoTime();
+
+    Entry(@NotNull OpenApiSchemaValidator validator) {
+      this.validator = validator;
+    }
+
+    void touch() {
+      long now = System.nanoTime();
+      if (now - lastAccess > ACCESS_RESOLUTION_NANOS) {
+        lastAccess = now;
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Statistics snapshot of the schema validator cache of an {@link OpenApiSpec}.
+ */
+public final class ValidatorCacheStats {
+
+  private final long size;
+  private final long hitCount;
+  private final long missCount;
+  private final long negativeHitCount;
+  private final long evictionCount;
+  private final long loadCount;
+  private final long loadFailureCount;
+  private final long totalLoadTimeNanos;
+
+  ValidatorCacheStats(long size, long hitCount, long missCount, long negativeHitCount, long evictionCount,
+      long loadCount, long loadFailureCount, long totalLoadTimeNanos) {
+    this.size = size;
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.negativeHitCount = negativeHitCount;
+    this.evictionCount = evictionCount;
+    this.loadCount = loadCount;
+    this.loadFailureCount = loadFailureCount;
+    this.totalLoadTimeNanos = totalLoadTimeNanos;
+  }
+
+  /**
+   * @return Number of cached validators
+   */
+  public long getSize() {
+    return this.size;
+  }
+
+  /**
+   * @return Number of lookups served from the cache, including cached failures
+   */
+  public long getHitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * @return Number of lookups that required resolving the schema definition or loading a validator
+   */
+  public long getMissCount() {
+    return this.missCount;
+  }
+
+  /**
+   * @return Number of lookups served from cached failures for unknown suffixes or missing schemas.
+   *         Included in {@link #getHitCount()}.
+   */
+  public long getNegativeHitCount() {
+    return this.negativeHitCount;
+  }
+
+  /**
+   * @return Number of entries evicted because the maximum cache size was exceeded
+   */
+  public long getEvictionCount() {
+    return this.evictionCount;
+  }
+
+  /**
+   * @return Number of successfully built validators
+   */
+  public long getLoadCount() {
+    return this.loadCount;
+  }
+
+  /**
+   * @return Number of failed lookups for unknown suffixes or missing schemas that were not served from cached
+   *         failures
+   */
+  public long getLoadFailureCount() {
+    return this.loadFailureCount;
+  }
+
+  /**
+   * @return Total time spent for loading validators (including failed loads) in nanoseconds
+   */
+  public long getTotalLoadTimeNanos() {
+    return this.totalLoadTimeNanos;
+  }
+
+  /**
+   * @return Ratio of lookups served from the cache, or 1 if no lookups happened yet
+   */
+  public double getHitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1d : (double)hitCount / requestCount;
+  }
+
+  /**
+   * @param other Other statistics
+   * @return Sum of both statistics
+   */
+  @NotNull ValidatorCacheStats plus(@NotNull ValidatorCacheStats other) {
+    return new ValidatorCacheStats(size + other.size, hitCount + other.hitCount, missCount + other.missCount,
+        negativeHitCount + other.negativeHitCount, evictionCount + other.evictionCount,
+        loadCount + other.loadCount, loadFailureCount + other.loadFailureCount,
+        totalLoadTimeNanos + other.totalLoadTimeNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "ValidatorCacheStats[size=" + size + ", hits=" + hitCount + ", misses=" + missCount
+        + ", negativeHits=" + negativeHitCount + ", evictions=" + evictionCount + ", loads=" + loadCount
+        + ", loadFailures=" + loadFailureCount + ", totalLoadTimeNanos=" + totalLoadTimeNanos + "]";
+  }
+
+}
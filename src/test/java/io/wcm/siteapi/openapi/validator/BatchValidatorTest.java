@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchValidatorTest {
+
+  private static final String VALID_JSON = "[{\"suffix\":\"content\",\"url\":\"http://localhost/content.json\"}]";
+  private static final String INVALID_JSON = "[{\"suffix\":\"content\"}]";
+
+  private OpenApiSpec spec;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    spec = new OpenApiSpec("site-api-spec/site-api.yaml", "");
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testValidate() throws InterruptedException {
+    Stream<ContentItem> items = IntStream.range(0, 100)
+        .mapToObj(i -> item("item" + i, "index", i % 10 == 0 ? INVALID_JSON : VALID_JSON));
+
+    BatchValidationResult result = spec.batchValidator()
+        .withExecutor(executor)
+        .validate(Stream.concat(items, Stream.of(
+            item("unparseable", "index", "{"),
+            item("unknown", "unknown", VALID_JSON))));
+
+    assertFalse(result.isValid());
+    assertEquals(90, result.getValidCount());
+    assertEquals(11, result.getInvalidCount());
+    assertEquals(1, result.getSkippedCount());
+    assertEquals(List.of("index", "unknown"), List.copyOf(result.getSuffixResults().keySet()));
+
+    SuffixValidationResult indexResult = result.getSuffixResult("index");
+    assertEquals(90, indexResult.getValidCount());
+    assertEquals(11, indexResult.getInvalidCount());
+    assertEquals(List.of("item0", "item10", "item20", "item30", "item40", "item50", "item60", "item70",
+        "item80", "item90", "unparseable"), List.copyOf(indexResult.getFailures().keySet()));
+    assertTrue(indexResult.getFailures().get("unparseable").getParseError() != null);
+
+    SuffixValidationResult unknownResult = result.getSuffixResult("unknown");
+    assertEquals(1, unknownResult.getSkippedCount());
+    assertFalse(unknownResult.isValid());
+  }
+
+  @Test
+  void testValidate_AllValid() throws InterruptedException {
+    BatchValidationResult result = spec.batchValidator()
+        .validate(IntStream.range(0, 10).mapToObj(i -> item("item" + i, "index", VALID_JSON)));
+
+    assertTrue(result.isValid());
+    assertEquals(10, result.getValidCount());
+    assertNull(result.getSuffixResult("unknown"));
+  }
+
+  @Test
+  void testValidate_MaxFailuresPerSuffix() throws InterruptedException {
+    BatchValidationResult result = spec.batchValidator()
+        .withExecutor(executor)
+        .withMaxFailuresPerSuffix(3)
+        .withMaxErrors(1)
+        .validate(IntStream.range(0, 50).mapToObj(i -> item("item" + i, "index", INVALID_JSON)));
+
+    SuffixValidationResult indexResult = result.getSuffixResult("index");
+    assertEquals(50, indexResult.getInvalidCount());
+    assertEquals(List.of("item0", "item1", "item2"), List.copyOf(indexResult.getFailures().keySet()));
+    assertEquals(1, indexResult.getFailures().get("item0").getItems().size());
+  }
+
+  @Test
+  void testValidate_DuplicateId() throws InterruptedException {
+    BatchValidationResult result = spec.batchValidator()
+        .withExecutor(executor)
+        .validate(Stream.of(
+            item("item1", "index", INVALID_JSON),
+            item("item2", "index", VALID_JSON),
+            item("item1", "index", INVALID_JSON),
+            item("item1", "index", VALID_JSON),
+            item("item1", "index", INVALID_JSON)));
+
+    // failures of all items are kept
+    SuffixValidationResult indexResult = result.getSuffixResult("index");
+    assertEquals(3, indexResult.getInvalidCount());
+    assertEquals(List.of("item1", "item1#2", "item1#4"), List.copyOf(indexResult.getFailures().keySet()));
+  }
+
+  @Test
+  void testValidate_MaxInFlight() throws Exception {
+    AtomicInteger readCount = new AtomicInteger();
+    Stream<ContentItem> items = IntStream.range(0, 20)
+        .mapToObj(i -> {
+          readCount.incrementAndGet();
+          return item("item" + i, "index", VALID_JSON);
+        });
+    // collect submitted tasks without executing them
+    BlockingQueue<Runnable> submitted = new LinkedBlockingQueue<>();
+    BatchValidator underTest = spec.batchValidator()
+        .withExecutor(submitted::add)
+        .withMaxInFlight(2);
+    Future<BatchValidationResult> result = executor.submit(() -> underTest.validate(items));
+
+    // two items are submitted, the third item waits for a free slot
+    await(() -> submitted.size() == 2 && readCount.get() == 3);
+    Thread.sleep(50);
+    assertEquals(2, submitted.size());
+    assertEquals(3, readCount.get());
+
+    while (!result.isDone()) {
+      Runnable task = submitted.poll(10, TimeUnit.MILLISECONDS);
+      if (task != null) {
+        task.run();
+      }
+    }
+    assertEquals(20, result.get().getValidCount());
+  }
+
+  @Test
+  void testValidate_InvalidMaxInFlight() {
+    BatchValidator underTest = spec.batchValidator();
+    assertThrows(IllegalArgumentException.class, () -> underTest.withMaxInFlight(0));
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > timeout) {
+        throw new AssertionError("Timeout.");
+      }
+      Thread.sleep(5);
+    }
+  }
+
+  private static ContentItem item(String id, String suffix, String json) {
+    return ContentItem.of(id, suffix, json.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class BoundedPatternTest {
+
+  private final PatternCache patternCache = new PatternCache();
+
+  @Test
+  void testCheck() {
+    BoundedPattern underTest = patternCache.get("(/[^/]+)+", 0);
+    assertEquals("(/[^/]+)+", underTest.pattern());
+    assertNull(underTest.check("/content/page1"));
+    assertSame(KeywordErrors.PATTERN, underTest.check("content"));
+  }
+
+  @Test
+  void testCheckWithStepLimit() {
+    BoundedPattern underTest = patternCache.get("^http(|s)://.+", 1000);
+    assertNull(underTest.check("https://www.wcm.io"));
+    assertSame(KeywordErrors.PATTERN, underTest.check("ftp://www.wcm.io"));
+    assertSame(KeywordErrors.PATTERN_STEP_LIMIT, underTest.check("https://" + StringUtils.repeat('x', 1000)));
+  }
+
+  @Test
+  @Timeout(10)
+  void testCatastrophicBacktracking() {
+    BoundedPattern underTest = patternCache.get("^(.*a){20}$", 100000);
+    // backtracks polynomially with a high degree, takes hours without limit
+    assertSame(KeywordErrors.PATTERN_STEP_LIMIT, underTest.check(StringUtils.repeat('a', 60) + "!"));
+  }
+
+  @Test
+  void testSharedPatterns() {
+    assertSame(patternCache.get("^[a-z]+$"), patternCache.get("^[a-z]+$"));
+    patternCache.get("^[a-z]+$", 10);
+    assertEquals(1, patternCache.size());
+    assertThrows(PatternSyntaxException.class, () -> patternCache.get("[a-z"));
+    assertEquals(1, patternCache.size());
+  }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentItemReaderTest {
+
+  private static final String POSIX_MAGIC = "ustar\0" + "00";
+  private static final String OLD_GNU_MAGIC = "ustar  \0";
+
+  private static final Map<String, String> FILES = new LinkedHashMap<>();
+  static {
+    FILES.put("en.site.v1.api.index.json", "[]");
+    FILES.put("de/index.json", "[{}]");
+    FILES.put("de/readme.txt", "no json");
+    FILES.put("fr/" + StringUtils.repeat("long-path-segment/", 8) + "page.site.v1.api.navigation.json", "{}");
+  }
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testGetSuffix() {
+    assertEquals("index", ContentItemReader.getSuffix("index.json"));
+    assertEquals("index", ContentItemReader.getSuffix("en.site.v1.api.index.json"));
+    assertEquals("index", ContentItemReader.getSuffix("/content/en.site.v1.api/index.json"));
+    assertNull(ContentItemReader.getSuffix("index.txt"));
+    assertNull(ContentItemReader.getSuffix("dir/.json"));
+  }
+
+  @Test
+  void testReadDirectory() throws IOException {
+    Path dir = tempDir.resolve("dir");
+    for (Map.Entry<String, String> file : FILES.entrySet()) {
+      Path path = dir.resolve(file.getKey());
+      Files.createDirectories(path.getParent());
+      Files.write(path, file.getValue().getBytes(StandardCharsets.UTF_8));
+    }
+    // large file is memory-mapped
+    String largeContent = "[" + StringUtils.repeat("{},", 50000) + "{}]";
+    Files.write(dir.resolve("large.index.json"), largeContent.getBytes(StandardCharsets.UTF_8));
+
+    Map<String, String> expected = expectedItems();
+    expected.put("large.index.json", "index:" + largeContent);
+    assertEquals(expected, readItems(dir));
+  }
+
+  @Test
+  void testReadZip() throws IOException {
+    Path zipFile = tempDir.resolve("content.zip");
+    try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+      zos.putNextEntry(new ZipEntry("de/"));
+      for (Map.Entry<String, String> file : FILES.entrySet()) {
+        zos.putNextEntry(new ZipEntry(file.getKey()));
+        zos.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    assertEquals(expectedItems(), readItems(zipFile));
+  }
+
+  @Test
+  void testReadTar() throws IOException {
+    Path tarFile = tempDir.resolve("content.tar");
+    try (OutputStream os = Files.newOutputStream(tarFile)) {
+      writeTarEntry(os, "de/", '5', new byte[0]);
+      for (Map.Entry<String, String> file : FILES.entrySet()) {
+        byte[] content = file.getValue().getBytes(StandardCharsets.UTF_8);
+        if (file.getKey().length() > 100) {
+          writeTarEntry(os, "././@LongLink", 'L', (file.getKey() + "\0").getBytes(StandardCharsets.UTF_8));
+        }
+        writeTarEntry(os, StringUtils.left(file.getKey(), 100), '0', content);
+      }
+      os.write(new byte[1024]);
+    }
+    assertEquals(expectedItems(), readItems(tarFile));
+  }
+
+  @Test
+  void testReadTar_Pax() throws IOException {
+    Path tarFile = tempDir.resolve("content-pax.tar");
+    try (OutputStream os = Files.newOutputStream(tarFile)) {
+      writeTarEntry(os, "pax_global_header", 'g', paxRecord("comment", "global").getBytes(StandardCharsets.UTF_8));
+      for (Map.Entry<String, String> file : FILES.entrySet()) {
+        byte[] content = file.getValue().getBytes(StandardCharsets.UTF_8);
+        String records = paxRecord("mtime", "1700000000.5") + paxRecord("path", file.getKey());
+        writeTarEntry(os, "PaxHeaders/entry", 'x', records.getBytes(StandardCharsets.UTF_8));
+        writeTarEntry(os, StringUtils.left(file.getKey(), 100), '0', content);
+      }
+      os.write(new byte[1024]);
+    }
+    assertEquals(expectedItems(), readItems(tarFile));
+  }
+
+  @Test
+  void testReadTar_OldGnu() throws IOException {
+    Path tarFile = tempDir.resolve("content-gnu.tar");
+    try (OutputStream os = Files.newOutputStream(tarFile)) {
+      // old GNU headers store access and change time where ustar has the name prefix
+      writeTarEntry(os, "index.json", '0', "{}".getBytes(StandardCharsets.UTF_8), OLD_GNU_MAGIC, "14530000000");
+      writeTarEntry(os, "de/index.json", '0', "[]".getBytes(StandardCharsets.UTF_8), POSIX_MAGIC, "prefix");
+      os.write(new byte[1024]);
+    }
+    assertEquals(Map.of("index.json", "index:{}", "prefix/de/index.json", "index:[]"), readItems(tarFile));
+  }
+
+  @Test
+  void testReadTar_InvalidPax() throws IOException {
+    Path tarFile = tempDir.resolve("invalid-pax.tar");
+    try (OutputStream os = Files.newOutputStream(tarFile)) {
+      writeTarEntry(os, "PaxHeaders/entry", 'x', "99 path=index.json\n".getBytes(StandardCharsets.UTF_8));
+      writeTarEntry(os, "index.json", '0', "{}".getBytes(StandardCharsets.UTF_8));
+      os.write(new byte[1024]);
+    }
+    assertThrows(IOException.class, () -> ContentItemReader.read(tarFile));
+  }
+
+  @Test
+  void testReadTar_Truncated() throws IOException {
+    Path tarFile = tempDir.resolve("truncated.tar");
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    writeTarEntry(bos, "index.json", '0', new byte[2000]);
+    byte[] data = bos.toByteArray();
+    Files.write(tarFile, Arrays.copyOf(data, 1024));
+    assertThrows(IOException.class, () -> ContentItemReader.read(tarFile));
+  }
+
+  @Test
+  void testUnsupportedInput() throws IOException {
+    Path file = Files.createFile(tempDir.resolve("content.rar"));
+    assertThrows(IllegalArgumentException.class, () -> ContentItemReader.read(file));
+  }
+
+  private static Map<String, String> expectedItems() {
+    Map<String, String> expected = new TreeMap<>();
+    FILES.forEach((path, content) -> {
+      String suffix = ContentItemReader.getSuffix(path);
+      if (suffix != null) {
+        expected.put(path, suffix + ":" + content);
+      }
+    });
+    return expected;
+  }
+
+  private static Map<String, String> readItems(Path input) throws IOException {
+    try (Stream<ContentItem> items = ContentItemReader.read(input)) {
+      return items.collect(Collectors.toMap(ContentItem::getId,
+          item -> item.getSuffix() + ":" + toString(item.getPayload()), (a, b) -> a, TreeMap::new));
+    }
+  }
+
+  private static String toString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeTarEntry(OutputStream os, String name, char type, byte[] content) throws IOException {
+    writeTarEntry(os, name, type, content, POSIX_MAGIC, "");
+  }
+
+  private static void writeTarEntry(OutputStream os, String name, char type, byte[] content,
+      String magic, String prefix) throws IOException {
+    byte[] header = new byte[512];
+    putTarString(header, 0, name);
+    putTarString(header, 100, "0000644");
+    putTarString(header, 124, String.format("%011o", content.length));
+    putTarString(header, 136, String.format("%011o", 0));
+    header[156] = (byte)type;
+    putTarString(header, 257, magic);
+    putTarString(header, 345, prefix);
+    // checksum is calculated with spaces in the checksum field
+    putTarString(header, 148, "        ");
+    int checksum = 0;
+    for (byte b : header) {
+      checksum += b & 0xff;
+    }
+    putTarString(header, 148, String.format("%06o\0 ", checksum));
+    os.write(header);
+    os.write(content);
+    os.write(new byte[(512 - content.length % 512) % 512]);
+  }
+
+  private static String paxRecord(String key, String value) {
+    String record = " " + key + "=" + value + "\n";
+    int length = record.getBytes(StandardCharsets.UTF_8).length;
+    // the length prefix counts its own digits
+    int digits = Integer.toString(length).length();
+    if (Integer.toString(length + digits).length() > digits) {
+      digits++;
+    }
+    return (length + digits) + record;
+  }
+
+  private static void putTarString(byte[] header, int offset, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    System.arraycopy(bytes, 0, header, offset, bytes.length);
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ContentValidatorCliTest {
+
+  private static final String VALID_JSON = "[{\"suffix\":\"content\",\"url\":\"http://localhost/content.json\"}]";
+  private static final String INVALID_JSON = "[{\"suffix\":\"content\"}]";
+
+  @TempDir
+  Path tempDir;
+  private Path inputDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    inputDir = tempDir.resolve("input");
+    Files.createDirectories(inputDir.resolve("de"));
+    write("en.site.v1.api.index.json", VALID_JSON);
+    write("de/index.json", INVALID_JSON);
+    write("en.site.v1.api.unknown.json", VALID_JSON);
+    write("readme.txt", "no json");
+  }
+
+  @Test
+  void testRun() throws Exception {
+    Path jsonReport = tempDir.resolve("report.json");
+    Path junitReport = tempDir.resolve("report.xml");
+
+    ValidationReport report = ContentValidatorCli.run(new String[] {
+        "--spec", Paths.get("src/test/resources/site-api-spec/site-api.yaml").toString(),
+        "--threads", "2",
+        "--json-report", jsonReport.toString(),
+        "--junit-report", junitReport.toString(),
+        inputDir.toString()
+    });
+
+    BatchValidationResult result = report.getResult();
+    assertEquals(1, result.getValidCount());
+    assertEquals(1, result.getInvalidCount());
+    assertEquals(1, result.getSkippedCount());
+    assertTrue(report.getSummary().contains("1 valid, 1 invalid, 1 skipped"));
+
+    JsonNode json = new ObjectMapper().readTree(jsonReport.toFile());
+    assertFalse(json.get("valid").asBoolean());
+    assertEquals(3, json.get("items").asInt());
+    assertTrue(json.has("itemsPerSecond"));
+    JsonNode failure = json.at("/suffixes/index/failures/0");
+    assertEquals("de/index.json", failure.get("id").asText());
+    assertEquals("/0", failure.at("/errors/0/pointer").asText());
+
+    String xml = new String(Files.readAllBytes(junitReport), StandardCharsets.UTF_8);
+    assertTrue(xml.contains("<testsuite name=\"index\" tests=\"2\" failures=\"1\" skipped=\"0\">"), xml);
+    assertTrue(xml.contains("<testcase classname=\"index\" name=\"de/index.json\"><failure"), xml);
+  }
+
+  @Test
+  void testRun_SpecDiscovery() throws Exception {
+    ValidationReport report = ContentValidatorCli.run(new String[] { "--version", "v1", inputDir.toString() });
+    assertEquals(1, report.getResult().getInvalidCount());
+  }
+
+  @Test
+  void testRun_InvalidArgs() {
+    assertThrows(IllegalArgumentException.class, () -> ContentValidatorCli.run(new String[0]));
+    assertThrows(IllegalArgumentException.class, () -> ContentValidatorCli.run(new String[] { "--unknown", "x", "dir" }));
+    assertThrows(IllegalArgumentException.class, () -> ContentValidatorCli.run(new String[] { "dir", "--spec" }));
+    for (String threads : new String[] { "0", "-1", "many" }) {
+      IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+          () -> ContentValidatorCli.run(new String[] { "--threads", threads, "dir" }));
+      assertTrue(ex.getMessage().contains("Usage:"), ex.getMessage());
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> ContentValidatorCli.run(new String[] { "--max-errors", "-1", "dir" }));
+  }
+
+  private void write(String path, String content) throws IOException {
+    Files.write(inputDir.resolve(path), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
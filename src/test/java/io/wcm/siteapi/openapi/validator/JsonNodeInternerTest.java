@@ -0,0 +1,95 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.openapi4j.core.util.TreeUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+class JsonNodeInternerTest {
+
+  private static final String SPEC_V1 = "{\"paths\":{\"/a.json\":{\"schema\":{\"$ref\":\"#/components/schemas/A\"}}},"
+      + "\"components\":{\"schemas\":{\"A\":{\"type\":\"object\",\"required\":[\"id\"]},"
+      + "\"B\":{\"type\":\"string\"}}}}";
+  private static final String SPEC_V2 = "{\"paths\":{\"/a.json\":{\"schema\":{\"$ref\":\"#/components/schemas/A\"}}},"
+      + "\"components\":{\"schemas\":{\"A\":{\"required\":[\"id\"],\"type\":\"object\"},"
+      + "\"B\":{\"type\":\"integer\"}}}}";
+
+  @Test
+  void testShareSubtrees() throws Exception {
+    JsonNodeInterner underTest = new JsonNodeInterner();
+    JsonNode original1 = TreeUtil.json.readTree(SPEC_V1);
+    JsonNode tree1 = underTest.intern(original1);
+    JsonNode tree2 = underTest.intern(TreeUtil.json.readTree(SPEC_V2));
+
+    assertEquals(original1, tree1);
+    // identical component schemas are shared, independent of field order
+    assertSame(tree1.at("/components/schemas/A"), tree2.at("/components/schemas/A"));
+    assertNotSame(tree1.at("/components/schemas/B"), tree2.at("/components/schemas/B"));
+    // subtrees with references are not shared
+    assertNotSame(tree1.at("/paths/~1a.json/schema"), tree2.at("/paths/~1a.json/schema"));
+    assertNotSame(tree1.at("/paths"), tree2.at("/paths"));
+    // equal subtrees within a tree are shared
+    assertSame(tree1.at("/components/schemas/A/type"), tree2.at("/components/schemas/A/type"));
+
+    assertTrue(underTest.getSharedNodes().contains(tree1.at("/components/schemas/A")));
+    assertFalse(underTest.getSharedNodes().contains(tree1.at("/components/schemas/B")));
+  }
+
+  @Test
+  void testRelease() throws Exception {
+    JsonNodeInterner underTest = new JsonNodeInterner();
+    JsonNode tree1 = underTest.intern(TreeUtil.json.readTree(SPEC_V1));
+    int size = underTest.size();
+    assertTrue(underTest.getSharedNodes().isEmpty());
+
+    JsonNode tree2 = underTest.intern(TreeUtil.json.readTree(SPEC_V2));
+    assertTrue(underTest.getSharedNodes().contains(tree2.at("/components/schemas/A")));
+
+    // nodes used only by the released tree are removed, shared nodes stay until all trees are released
+    underTest.release(tree2);
+    assertEquals(size, underTest.size());
+    assertTrue(underTest.getSharedNodes().isEmpty());
+    JsonNode tree3 = underTest.intern(TreeUtil.json.readTree(SPEC_V2));
+    assertSame(tree1.at("/components/schemas/A"), tree3.at("/components/schemas/A"));
+
+    underTest.release(tree1);
+    underTest.release(tree3);
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  void testInternStrings() throws Exception {
+    JsonNodeInterner underTest = new JsonNodeInterner();
+    JsonNode tree1 = underTest.intern(TreeUtil.json.readTree("{\"field\":{\"$ref\":\"#/a\"}}"));
+    JsonNode tree2 = underTest.intern(TreeUtil.json.readTree("{\"field\":{\"$ref\":\"#/a\"}}"));
+    assertNotSame(tree1.get("field"), tree2.get("field"));
+    assertSame(tree1.fieldNames().next(), tree2.fieldNames().next());
+    assertSame(tree1.get("field").get("$ref").textValue(), tree2.get("field").get("$ref").textValue());
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testEmpty() {
+    LatencyHistogram underTest = new LatencyHistogram();
+    assertEquals(0, underTest.getCount());
+    assertEquals(0, underTest.getMean());
+    assertEquals(0, underTest.getValueAtPercentile(99));
+  }
+
+  @Test
+  void testPercentiles() {
+    LatencyHistogram underTest = new LatencyHistogram();
+    for (long value = 1; value <= 10000; value++) {
+      underTest.record(value * 1000);
+    }
+    assertEquals(10000, underTest.getCount());
+    assertEquals(10_000_000, underTest.getMax());
+    assertEquals(5_000_500, underTest.getMean(), 0.001);
+    assertWithinError(5_000_000, underTest.getValueAtPercentile(50));
+    assertWithinError(9_900_000, underTest.getValueAtPercentile(99));
+    assertEquals(10_000_000, underTest.getValueAtPercentile(100));
+  }
+
+  @Test
+  void testNegativeValue() {
+    LatencyHistogram underTest = new LatencyHistogram();
+    underTest.record(-5);
+    assertEquals(1, underTest.getCount());
+    assertEquals(0, underTest.getMax());
+  }
+
+  @Test
+  void testBuckets() {
+    for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 123456789, Long.MAX_VALUE }) {
+      int index = LatencyHistogram.bucketIndex(value);
+      long lowerBound = LatencyHistogram.bucketLowerBound(index);
+      assertTrue(lowerBound <= value, "value " + value);
+      assertTrue(value - lowerBound <= lowerBound / 16, "value " + value);
+    }
+  }
+
+  private static void assertWithinError(long expected, long actual) {
+    assertTrue(Math.abs(expected - actual) <= expected / 16, "expected " + expected + " but was " + actual);
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OpenApiRouterTest {
+
+  private OpenApiSpec spec;
+  private OpenApiRouter underTest;
+
+  @BeforeEach
+  void setUp() {
+    spec = new OpenApiSpec("json-samples/router-spec.yaml", "v1");
+    underTest = spec.router();
+  }
+
+  @Test
+  void testContentPath() {
+    RouteMatch match = underTest.match("/content/page1.site.v1.api/index.json");
+    assertNotNull(match);
+    assertEquals("/{contentPath}.site.v1.api/index.json", match.getPathTemplate());
+    assertEquals(Map.of("contentPath", "/content/page1"), match.getPathParameters());
+    assertEquals("v1", match.getVersion());
+    assertSame(spec, match.getSpec());
+    assertSame(spec.getSchemaValidator("index"), match.getValidator());
+    assertSame(match.getValidator(), underTest.match("/content/page2.site.v1.api/index.json").getValidator());
+  }
+
+  @Test
+  void testFullUrl() {
+    RouteMatch match = underTest.match("https://localhost:8080/content/a/b/c.site.v1.api/index.json?param=1#fragment");
+    assertNotNull(match);
+    assertEquals(Map.of("contentPath", "/content/a/b/c"), match.getPathParameters());
+  }
+
+  @Test
+  void testPathParameters() {
+    RouteMatch match = underTest.match("/content/page1.site.v1.api/items/item1.json");
+    assertNotNull(match);
+    assertEquals("/{contentPath}.site.v1.api/items/{id}.json", match.getPathTemplate());
+    assertEquals(Map.of("contentPath", "/content/page1", "id", "item1"), match.getPathParameters());
+    // parameters in the order of definition in the path
+    assertEquals(List.of("contentPath", "id"), List.copyOf(match.getPathParameters().keySet()));
+    assertTrue(match.getValidator().check("{\"id\":\"item1\"}").isValid());
+    assertFalse(match.getValidator().check("{}").isValid());
+
+    match = underTest.match("/static/group1/name1.json");
+    assertNotNull(match);
+    assertEquals(Map.of("group", "group1", "name", "name1"), match.getPathParameters());
+    assertEquals(List.of("group", "name"), List.copyOf(match.getPathParameters().keySet()));
+  }
+
+  @Test
+  void testLiteralPrecedence() {
+    RouteMatch match = underTest.match("/content/page1.site.v1.api/items/special.json");
+    assertNotNull(match);
+    assertEquals("/{contentPath}.site.v1.api/items/special.json", match.getPathTemplate());
+    assertEquals(Map.of("contentPath", "/content/page1"), match.getPathParameters());
+    assertTrue(match.getValidator().check("{\"special\":true}").isValid());
+  }
+
+  @Test
+  void testNoMatch() {
+    assertNull(underTest.match("/content/page1.site.v2.api/index.json"));
+    assertNull(underTest.match("/content/page1.site.v1.api/unknown.json"));
+    assertNull(underTest.match("/.site.v1.api/index.json"));
+    assertNull(underTest.match("/content/page1.site.v1.api/items/sub/item1.json"));
+    assertNull(underTest.match("/static/group1.json"));
+    assertNull(underTest.match("content/page1.site.v1.api/index.json"));
+    assertNull(underTest.match("https://localhost"));
+    // no JSON schema for HTTP 200 GET response
+    assertNull(underTest.match("/nocontent.json"));
+  }
+
+  @Test
+  void testVersions() {
+    OpenApiRouter versionsRouter = new OpenApiSpecVersions().router();
+    RouteMatch match = versionsRouter.match("/content/page1.site.v1.api/index.json");
+    assertNotNull(match);
+    // all versions in test resources define the same path, latest version wins
+    assertEquals("v2", match.getVersion());
+  }
+
+}
@@ -19,15 +19,30 @@
  */
 package io.wcm.siteapi.openapi.validator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openapi4j.core.util.TreeUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 
 class OpenApiSchemaValidatorTest {
 
@@ -61,10 +76,228 @@ class OpenApiSchemaValidatorTest {
     });
   }
 
+  @Test
+  void validResponse_InputStream() throws ContentValidationException, IOException {
+    byte[] json = readFileBytes("valid-response.json");
+    validator.validate(new ByteArrayInputStream(json));
+  }
+
+  @Test
+  void validResponse_Bytes() throws ContentValidationException, IOException {
+    byte[] json = readFileBytes("valid-response.json");
+    validator.validate(json);
+  }
+
+  @Test
+  void validResponse_ByteBuffer() throws ContentValidationException, IOException {
+    byte[] json = readFileBytes("valid-response.json");
+    ByteBuffer heapBuffer = ByteBuffer.wrap(json);
+    validator.validate(heapBuffer);
+    assertEquals(0, heapBuffer.position());
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(json.length);
+    directBuffer.put(json).flip();
+    validator.validate(directBuffer);
+    assertEquals(0, directBuffer.position());
+  }
+
+  @Test
+  void validResponse_Reader() throws ContentValidationException, IOException {
+    String json = readFile("valid-response.json");
+    validator.validate(new StringReader(json));
+  }
+
+  @Test
+  void streamAndReaderNotClosed() throws IOException {
+    OpenApiSchemaValidator streamingValidator = new OpenApiSpecVersions()
+        .withOptions(OpenApiSpecOptions.DEFAULT.withValidationEngine(ValidationEngine.STREAMING))
+        .getLatest().getSchemaValidator("index");
+    assertTrue(streamingValidator.isStreaming());
+    byte[] json = readFileBytes("valid-response.json");
+    for (OpenApiSchemaValidator underTest : List.of(validator, streamingValidator)) {
+      CloseTrackingInputStream stream = new CloseTrackingInputStream(json);
+      assertTrue(underTest.check(stream).isValid());
+      assertFalse(stream.closed);
+
+      CloseTrackingReader reader = new CloseTrackingReader(new String(json, StandardCharsets.UTF_8));
+      assertTrue(underTest.check(reader).isValid());
+      assertFalse(reader.closed);
+    }
+  }
+
+  @Test
+  void invalidJsonSyntax_Bytes() throws IOException {
+    byte[] json = readFileBytes("invalid-json-syntax.json");
+    assertThrows(ContentValidationException.class, () -> {
+      validator.validate(json);
+    });
+    assertThrows(ContentValidationException.class, () -> {
+      validator.validate(new ByteArrayInputStream(json));
+    });
+  }
+
+  @Test
+  void invalidResponse_Bytes() throws IOException {
+    byte[] json = readFileBytes("invalid-response.json");
+    assertThrows(ContentValidationException.class, () -> {
+      validator.validate(ByteBuffer.wrap(json));
+    });
+  }
+
+  @Test
+  void validResponse_JsonNode() throws ContentValidationException, IOException {
+    JsonNode node = TreeUtil.json.readTree(readFile("valid-response.json"));
+    validator.validate(node);
+  }
+
+  @Test
+  void invalidResponse_JsonNode() throws IOException {
+    JsonNode node = TreeUtil.json.readTree(readFile("invalid-response.json"));
+    assertThrows(ContentValidationException.class, () -> {
+      validator.validate(node);
+    });
+  }
+
+  @Test
+  void validResponse_Object() throws ContentValidationException {
+    List<Map<String, String>> value = List.of(
+        Map.of("suffix", "content", "url", "http://localhost/content/page1.site.api/content.json"));
+    validator.validate(value, TreeUtil.json);
+  }
+
+  @Test
+  void invalidResponse_Object() {
+    Map<String, String> value = Map.of("suffix", "content");
+    assertThrows(ContentValidationException.class, () -> {
+      validator.validate(value, TreeUtil.json);
+    });
+  }
+
+  @Test
+  void check_Valid() throws IOException {
+    ValidationOutcome outcome = validator.check(readFileBytes("valid-response.json"));
+    assertTrue(outcome.isValid());
+    assertEquals("index", outcome.getSuffix());
+    assertTrue(outcome.getItems().isEmpty());
+    assertNull(outcome.getParseError());
+    assertEquals("", outcome.getMessage());
+    assertSame(outcome, validator.check(readFile("valid-response.json")));
+    assertThrows(IllegalStateException.class, outcome::toException);
+  }
+
+  @Test
+  void check_InvalidResponse() throws IOException {
+    ValidationOutcome outcome = validator.check(readFileBytes("invalid-response.json"));
+    assertFalse(outcome.isValid());
+    assertFalse(outcome.getItems().isEmpty());
+    assertNull(outcome.getParseError());
+    assertEquals("", outcome.getItems().get(0).dataJsonPointer());
+    assertNotNull(outcome.getItems().get(0).code());
+    assertTrue(outcome.getMessage().startsWith("JSON invalid for suffix 'index': "));
+
+    ContentValidationException ex = outcome.toException();
+    assertSame(outcome, ex.getOutcome());
+    assertEquals(outcome.getMessage(), ex.getMessage());
+    assertEquals(0, ex.getStackTrace().length);
+  }
+
+  @Test
+  void check_InvalidJsonSyntax() throws IOException {
+    ValidationOutcome outcome = validator.check(readFile("invalid-json-syntax.json"));
+    assertFalse(outcome.isValid());
+    assertNotNull(outcome.getParseError());
+    assertTrue(outcome.getMessage().startsWith("Unable to parse JSON:"));
+    assertSame(outcome.getParseError(), outcome.toException().getCause());
+  }
+
+  @Test
+  void validate_ExceptionOutcome() throws IOException {
+    String json = readFile("invalid-response.json");
+    ContentValidationException ex = assertThrows(ContentValidationException.class, () -> {
+      validator.validate(json);
+    });
+    assertNotNull(ex.getOutcome());
+    assertFalse(ex.getOutcome().getItems().isEmpty());
+  }
+
+  @Test
+  void check_MaxErrors() {
+    JsonNode node = buildInvalidArray(100);
+    assertEquals(0, validator.getMaxErrors());
+    assertEquals(100, validator.check(node).getItems().size());
+
+    OpenApiSchemaValidator limitedValidator = validator.withMaxErrors(5);
+    assertEquals(5, limitedValidator.getMaxErrors());
+    assertEquals("index", limitedValidator.getSuffix());
+    assertEquals(5, limitedValidator.check(node).getItems().size());
+    assertEquals("/4", limitedValidator.check(node).getItems().get(4).dataJsonPointer());
+    assertSame(validator, validator.withMaxErrors(0));
+    assertEquals(0, limitedValidator.withMaxErrors(0).getMaxErrors());
+  }
+
+  @Test
+  void check_FailFast() throws IOException {
+    OpenApiSchemaValidator failFastValidator = validator.failFast();
+    assertEquals(1, failFastValidator.getMaxErrors());
+
+    ValidationOutcome outcome = failFastValidator.check(buildInvalidArray(100));
+    assertFalse(outcome.isValid());
+    assertEquals(1, outcome.getItems().size());
+    assertEquals("/0", outcome.getItems().get(0).dataJsonPointer());
+
+    assertTrue(failFastValidator.check(readFile("valid-response.json")).isValid());
+  }
+
+  private static JsonNode buildInvalidArray(int size) {
+    ArrayNode array = TreeUtil.json.createArrayNode();
+    for (int i = 0; i < size; i++) {
+      array.addObject().put("suffix", "suffix" + i);
+    }
+    return array;
+  }
+
   private String readFile(String file) throws IOException {
     try (InputStream is = getClass().getClassLoader().getResourceAsStream("json-samples/" + file)) {
       return IOUtils.toString(is, StandardCharsets.UTF_8);
     }
   }
 
+  private byte[] readFileBytes(String file) throws IOException {
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("json-samples/" + file)) {
+      return IOUtils.toByteArray(is);
+    }
+  }
+
+  private static final class CloseTrackingInputStream extends ByteArrayInputStream {
+
+    private boolean closed;
+
+    CloseTrackingInputStream(byte[] buf) {
+      super(buf);
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+
+  }
+
+  private static final class CloseTrackingReader extends StringReader {
+
+    private boolean closed;
+
+    CloseTrackingReader(String value) {
+      super(value);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+      super.close();
+    }
+
+  }
+
 }
@@ -0,0 +1,90 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static io.wcm.siteapi.openapi.validator.OpenApiSpecVersions.DEFAULT_FILENAME_PATTERN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiSpecIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    Path specDir = Files.createDirectory(tempDir.resolve("specs"));
+    Files.writeString(specDir.resolve("site-api-v2.yaml"), "", StandardCharsets.UTF_8);
+    Files.writeString(specDir.resolve("site-api-v1.yaml"), "", StandardCharsets.UTF_8);
+    Files.writeString(specDir.resolve("other.yaml"), "", StandardCharsets.UTF_8);
+
+    OpenApiSpecIndex.main(new String[] { specDir.toString() });
+
+    Path indexFile = specDir.resolve(OpenApiSpecIndex.INDEX_FILENAME);
+    List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+    assertEquals(List.of("site-api-v1.yaml", "site-api-v2.yaml"), lines.subList(1, lines.size()));
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, null)) {
+      Map<String, URL> urls = OpenApiSpecIndex.read(classLoader, "specs", DEFAULT_FILENAME_PATTERN);
+      assertEquals(specDir.resolve("site-api-v1.yaml").toUri().toURL(), urls.get("v1"));
+      assertEquals(specDir.resolve("site-api-v2.yaml").toUri().toURL(), urls.get("v2"));
+      assertEquals(2, urls.size());
+    }
+  }
+
+  @Test
+  void testReadMultipleClasspathEntries() throws IOException {
+    Path root1 = Files.createDirectories(tempDir.resolve("root1/specs"));
+    Path root2 = Files.createDirectories(tempDir.resolve("root2/specs"));
+    Path root3 = Files.createDirectories(tempDir.resolve("root3/specs"));
+    Files.writeString(root1.resolve("site-api-v1.yaml"), "", StandardCharsets.UTF_8);
+    Files.writeString(root2.resolve("site-api-v2.yaml"), "", StandardCharsets.UTF_8);
+    Files.writeString(root3.resolve("site-api-v3.yaml"), "", StandardCharsets.UTF_8);
+    OpenApiSpecIndex.write(root1, DEFAULT_FILENAME_PATTERN);
+    OpenApiSpecIndex.write(root2, DEFAULT_FILENAME_PATTERN);
+
+    URL[] classpath = new URL[] { root1.getParent().toUri().toURL(), root2.getParent().toUri().toURL(),
+        root3.getParent().toUri().toURL() };
+    try (URLClassLoader classLoader = new URLClassLoader(classpath, null)) {
+      Map<String, URL> urls = OpenApiSpecIndex.read(classLoader, "specs/", DEFAULT_FILENAME_PATTERN);
+      // index files are merged, entries without index are not scanned
+      assertEquals(Set.of("v1", "v2"), urls.keySet());
+    }
+  }
+
+  @Test
+  void testReadNoIndex() throws IOException {
+    assertNull(OpenApiSpecIndex.read(getClass().getClassLoader(), "site-api-spec", DEFAULT_FILENAME_PATTERN));
+  }
+
+}
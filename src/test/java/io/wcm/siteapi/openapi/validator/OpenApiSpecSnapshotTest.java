@@ -0,0 +1,147 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OpenApiSpecSnapshotTest {
+
+  private static final String VALID_JSON = "[{\"suffix\":\"content\",\"url\":\"http://localhost/content.json\"}]";
+  private static final String INVALID_JSON = "[{\"suffix\":\"content\"}]";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api-v1.yaml", "v1");
+    Path snapshotFile = tempDir.resolve("site-api-v1.snapshot");
+    try (OutputStream os = Files.newOutputStream(snapshotFile)) {
+      OpenApiSpecSnapshot.write(spec, os);
+    }
+
+    OpenApiSpec underTest = OpenApiSpecSnapshot.read(snapshotFile.toUri().toURL());
+    assertEquals("v1", underTest.getVersion());
+    assertEquals(Set.of("index"), underTest.getAvailableSuffixes());
+    assertEquals(spec.getRootNode().get("components"), underTest.getRootNode().get("components"));
+
+    OpenApiSchemaValidator validator = underTest.getSchemaValidator("index");
+    assertTrue(validator.check(VALID_JSON).isValid());
+    assertFalse(validator.check(INVALID_JSON).isValid());
+  }
+
+  @Test
+  void testMain() throws Exception {
+    URL specUrl = getClass().getClassLoader().getResource("site-api-spec/site-api-v2.yaml");
+    Path snapshotFile = tempDir.resolve("site-api-v2.snapshot");
+    OpenApiSpecSnapshot.main(new String[] { Paths.get(specUrl.toURI()).toString(), snapshotFile.toString(), "v2" });
+
+    OpenApiSpec underTest = OpenApiSpecSnapshot.read(snapshotFile.toUri().toURL());
+    assertEquals("v2", underTest.getVersion());
+  }
+
+  @Test
+  void testCorruptSnapshot() throws IOException {
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api.yaml", "");
+    Path snapshotFile = tempDir.resolve("site-api.snapshot");
+    try (OutputStream os = Files.newOutputStream(snapshotFile)) {
+      OpenApiSpecSnapshot.write(spec, os);
+    }
+    byte[] data = Files.readAllBytes(snapshotFile);
+    data[data.length - 10] ^= 0xff;
+    Files.write(snapshotFile, data);
+
+    URL snapshotUrl = snapshotFile.toUri().toURL();
+    assertThrows(SpecInvalidException.class, () -> OpenApiSpecSnapshot.read(snapshotUrl));
+  }
+
+  @Test
+  void testInvalidPayloadLength() throws IOException {
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api.yaml", "");
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    OpenApiSpecSnapshot.write(spec, bos);
+    byte[] data = bos.toByteArray();
+    // length field is located after magic, format version, empty version string and checksum
+    int lengthOffset = 4 + 4 + 2 + 8;
+    for (int length : new int[] { Integer.MAX_VALUE, -1, data.length }) {
+      ByteBuffer.wrap(data).putInt(lengthOffset, length);
+      Path snapshotFile = tempDir.resolve("site-api.snapshot");
+      Files.write(snapshotFile, data);
+      URL snapshotUrl = snapshotFile.toUri().toURL();
+      assertThrows(SpecInvalidException.class, () -> OpenApiSpecSnapshot.read(snapshotUrl));
+    }
+  }
+
+  @Test
+  void testWriteWithoutConformanceCheck() throws IOException {
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api.yaml", "",
+        OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.DISABLED));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    assertThrows(IllegalArgumentException.class, () -> OpenApiSpecSnapshot.write(spec, bos));
+    assertEquals(0, bos.size());
+  }
+
+  @Test
+  void testWriteWithBackgroundConformanceCheck() throws IOException {
+    // spec content not validated by other tests, so the result is not taken from the conformance cache
+    Path specFile = tempDir.resolve("site-api.yaml");
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("site-api-spec/site-api.yaml")) {
+      Files.writeString(specFile, IOUtils.toString(is, StandardCharsets.UTF_8) + "\n# " + UUID.randomUUID());
+    }
+    CompletableFuture<Runnable> pending = new CompletableFuture<>();
+    OpenApiSpec spec = new OpenApiSpec(specFile.toUri().toURL(), "",
+        OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.BACKGROUND)
+            .withConformanceExecutor(pending::complete));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    assertThrows(IllegalStateException.class, () -> OpenApiSpecSnapshot.write(spec, bos));
+
+    pending.join().run();
+    OpenApiSpecSnapshot.write(spec, bos);
+    assertTrue(bos.size() > 0);
+  }
+
+  @Test
+  void testNoSnapshot() {
+    URL specUrl = getClass().getClassLoader().getResource("site-api-spec/site-api.yaml");
+    assertThrows(SpecInvalidException.class, () -> OpenApiSpecSnapshot.read(specUrl));
+  }
+
+}
@@ -20,12 +20,30 @@
 package io.wcm.siteapi.openapi.validator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OpenApiSpecTest {
 
@@ -44,6 +62,62 @@ class OpenApiSpecTest {
     });
   }
 
+  @Test
+  void testInvalidSpec_ConformanceCheckDisabled() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/invalid-spec.yaml", "",
+        OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.DISABLED));
+    assertTrue(underTest.getConformanceValidation().isDone());
+  }
+
+  @Test
+  void testInvalidSpec_ConformanceCheckBackground() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/invalid-spec.yaml", "",
+        OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.BACKGROUND));
+    CompletionException ex = assertThrows(CompletionException.class, () -> underTest.getConformanceValidation().join());
+    assertTrue(ex.getCause() instanceof SpecInvalidException);
+  }
+
+  @Test
+  void testValidSpec_ConformanceCacheDirectory(@TempDir Path cacheDir) throws IOException {
+    ConformanceCache.clear();
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withConformanceCacheDirectory(cacheDir);
+    new OpenApiSpec("site-api-spec/site-api.yaml", "", options);
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      assertEquals(1, files.count());
+    }
+
+    // validation result is read from cache directory
+    ConformanceCache.clear();
+    OpenApiSpec underTest = new OpenApiSpec("site-api-spec/site-api.yaml", "",
+        options.withConformanceCheck(ConformanceCheck.BACKGROUND).withConformanceExecutor(command -> {
+          throw new IllegalStateException("Validation not expected.");
+        }));
+    assertTrue(underTest.getConformanceValidation().isDone());
+  }
+
+  @Test
+  void testExternalReferencesNotCached(@TempDir Path dir) throws IOException {
+    ConformanceCache.clear();
+    Path cacheDir = dir.resolve("cache");
+    Path specFile = dir.resolve("site-api.yaml");
+    String specContent;
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("site-api-spec/site-api.yaml")) {
+      specContent = IOUtils.toString(is, StandardCharsets.UTF_8)
+          .replace("'#/components/schemas/ContentPath'", "'common.yaml#/ContentPath'");
+    }
+    Files.writeString(specFile, specContent);
+    Files.writeString(dir.resolve("common.yaml"), "ContentPath:\n  type: string\n");
+
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withConformanceCacheDirectory(cacheDir);
+    new OpenApiSpec(specFile.toUri().toURL(), "", options);
+    assertFalse(Files.exists(cacheDir));
+
+    // changed referenced file is detected although the spec content is unchanged
+    Files.writeString(dir.resolve("common.yaml"), "ContentPath:\n  type: invalid\n");
+    URL specUrl = specFile.toUri().toURL();
+    assertThrows(SpecInvalidException.class, () -> new OpenApiSpec(specUrl, "", options));
+  }
+
   @Test
   void testInvalidFile() {
     assertThrows(IllegalArgumentException.class, () -> {
@@ -58,6 +132,41 @@ class OpenApiSpecTest {
     assertNotNull(validator);
   }
 
+  @Test
+  void testGetAvailableSuffixes() {
+    OpenApiSpec underTest = new OpenApiSpecVersions().getLatest();
+    assertEquals(Set.of("index"), underTest.getAvailableSuffixes());
+  }
+
+  @Test
+  void testPrecompileAll() {
+    OpenApiSpec underTest = new OpenApiSpecVersions().getLatest();
+    underTest.precompileAll();
+    OpenApiSchemaValidator validator = underTest.getSchemaValidator("index");
+    assertSame(validator, underTest.getSchemaValidator("index"));
+  }
+
+  @Test
+  void testPrecompileAll_Executor() {
+    OpenApiSpec underTest = new OpenApiSpecVersions().getLatest();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      underTest.precompileAll(executor).join();
+    }
+    finally {
+      executor.shutdown();
+    }
+    assertNotNull(underTest.getSchemaValidator("index"));
+  }
+
+  @Test
+  void testGetSchemaValidator_MaxErrors() {
+    OpenApiSpec underTest = new OpenApiSpecVersions().getLatest();
+    OpenApiSchemaValidator validator = underTest.getSchemaValidator("index", 1);
+    assertEquals(1, validator.getMaxErrors());
+    assertEquals(0, underTest.getSchemaValidator("index").getMaxErrors());
+  }
+
   @Test
   void testGetSchemaValidator_InvalidSuffix() {
     OpenApiSpec underTest = new OpenApiSpecVersions().getLatest();
@@ -66,4 +175,151 @@ class OpenApiSpecTest {
     });
   }
 
+  @Test
+  void testGetSchemaValidator_ResponseKey() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/responses-spec.yaml", "");
+    assertSame(underTest.getSchemaValidator("index"), underTest.getSchemaValidator(ResponseKey.of("index")));
+    assertSame(underTest.getSchemaValidator("index"),
+        underTest.getSchemaValidator("index", "GET", 200, "application/json; charset=utf-8"));
+
+    OpenApiSchemaValidator hal = underTest.getSchemaValidator("index", "get", 200, "application/hal+json");
+    assertSame(hal, underTest.getSchemaValidator(ResponseKey.of("index", "get", 200, "application/hal+json")));
+    assertTrue(hal.check("{\"_links\":{}}").isValid());
+    assertFalse(hal.check("[]").isValid());
+
+    OpenApiSchemaValidator created = underTest.getSchemaValidator("index", "post", 201, "application/json");
+    assertTrue(created.check("{\"id\":\"1\"}").isValid());
+  }
+
+  @Test
+  void testGetSchemaValidator_DefaultResponseWithFallback() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/responses-spec.yaml", "");
+    // no strict GET 200 application/json definition
+    assertThrows(IllegalArgumentException.class, () -> underTest.getSchemaValidator("teaser"));
+
+    // status code range and media type range are used as fallback
+    OpenApiSchemaValidator teaser = underTest.getSchemaValidator(ResponseKey.of("teaser"));
+    assertTrue(teaser.check("{\"title\":\"Teaser\"}").isValid());
+    assertFalse(teaser.check("{}").isValid());
+    assertSame(teaser, underTest.getSchemaValidator("teaser", "get", 200, "application/json"));
+  }
+
+  @Test
+  void testGetSchemaValidator_ErrorResponses() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/responses-spec.yaml", "");
+    String error = "{\"status\":500,\"message\":\"Error\"}";
+
+    // response reference
+    OpenApiSchemaValidator notFound = underTest.getSchemaValidator("index", "get", 404, "application/json");
+    assertTrue(notFound.check(error).isValid());
+    assertFalse(notFound.check("{}").isValid());
+
+    // status code range with media type range
+    OpenApiSchemaValidator clientError = underTest.getSchemaValidator("index", "get", 400, "text/plain");
+    assertTrue(clientError.check("{\"clientError\":true}").isValid());
+
+    // default response
+    OpenApiSchemaValidator serverError = underTest.getSchemaValidator("index", "get", 500, "application/json");
+    assertTrue(serverError.check(error).isValid());
+    assertFalse(serverError.check("{}").isValid());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> underTest.getSchemaValidator("index", "get", 500, "text/html"));
+    assertThrows(IllegalArgumentException.class,
+        () -> underTest.getSchemaValidator("index", "delete", 200, "application/json"));
+  }
+
+  @Test
+  void testValidatorCacheStats() {
+    OpenApiSpec underTest = new OpenApiSpec("site-api-spec/site-api.yaml", "",
+        OpenApiSpecOptions.DEFAULT.withValidatorCacheSize(2));
+    underTest.getSchemaValidator("index");
+    underTest.getSchemaValidator("index");
+    for (int i = 0; i < 5; i++) {
+      String suffix = "unknown" + i;
+      assertThrows(IllegalArgumentException.class, () -> underTest.getSchemaValidator(suffix));
+    }
+    // unknown status codes and media types of a known suffix do not evict the cached validator either
+    for (int i = 0; i < 5; i++) {
+      int status = 400 + i;
+      assertThrows(IllegalArgumentException.class,
+          () -> underTest.getSchemaValidator("index", "get", status, "application/json"));
+    }
+    // recent failures are cached
+    assertThrows(IllegalArgumentException.class,
+        () -> underTest.getSchemaValidator("index", "get", 404, "application/json"));
+    underTest.getSchemaValidator("index");
+    ValidatorCacheStats stats = underTest.getValidatorCacheStats();
+    assertEquals(1, stats.getSize());
+    assertEquals(3, stats.getHitCount());
+    assertEquals(11, stats.getMissCount());
+    assertEquals(1, stats.getNegativeHitCount());
+    assertEquals(1, stats.getLoadCount());
+    assertEquals(10, stats.getLoadFailureCount());
+    assertEquals(0, stats.getEvictionCount());
+  }
+
+  @Test
+  void testValidatorCacheSharedForFallbacks() {
+    OpenApiSpec underTest = new OpenApiSpec("json-samples/responses-spec.yaml", "");
+    OpenApiSchemaValidator clientError = underTest.getSchemaValidator("index", "get", 400, "application/json");
+    // all status codes and media types falling back to the same schema definition share the validator
+    for (int status = 401; status < 500; status++) {
+      if (status != 404) {
+        assertSame(clientError, underTest.getSchemaValidator("index", "get", status, "application/json"));
+        assertSame(clientError, underTest.getSchemaValidator("index", "get", status, "text/plain" + status));
+      }
+    }
+    assertEquals(1, underTest.getValidatorCacheStats().getSize());
+    assertEquals(1, underTest.getValidatorCacheStats().getLoadCount());
+  }
+
+  @Test
+  void testPatternStepLimit() {
+    String valid = "[{\"suffix\":\"index\",\"url\":\"https://www.wcm.io\"}]";
+    String invalid = "[{\"suffix\":\"index\",\"url\":\"ftp://www.wcm.io\"}]";
+    String tooLong = "[{\"suffix\":\"index\",\"url\":\"https://" + StringUtils.repeat('x', 100) + "\"}]";
+    for (ValidationEngine engine : ValidationEngine.values()) {
+      OpenApiSpec underTest = new OpenApiSpec("site-api-spec/site-api.yaml", "",
+          OpenApiSpecOptions.DEFAULT.withValidationEngine(engine).withPatternStepLimit(50));
+      OpenApiSchemaValidator validator = underTest.getSchemaValidator("index");
+      assertTrue(validator.check(valid).isValid(), engine.name());
+      ValidationOutcome invalidOutcome = validator.check(invalid);
+      assertEquals(1, invalidOutcome.getItems().size(), engine.name());
+      assertEquals(1025, invalidOutcome.getItems().get(0).code(), engine.name());
+      ValidationOutcome tooLongOutcome = validator.check(tooLong);
+      assertEquals(1, tooLongOutcome.getItems().size(), engine.name());
+      assertEquals(1025, tooLongOutcome.getItems().get(0).code(), engine.name());
+      assertTrue(tooLongOutcome.getItems().get(0).message().endsWith("within the step limit."), engine.name());
+    }
+  }
+
+  @Test
+  void testPatternsSharedBetweenVersions() {
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withValidationEngine(ValidationEngine.COMPILED);
+    OpenApiSpecVersions specVersions = new OpenApiSpecVersions().withOptions(options);
+    OpenApiSchemaValidator v1 = specVersions.get("v1").getSchemaValidator("index");
+    OpenApiSchemaValidator v2 = specVersions.get("v2").getSchemaValidator("index");
+    assertTrue(v1.isCompiled() && v2.isCompiled());
+
+    // derived options share the cache
+    OpenApiSpecOptions derivedOptions = options.withPatternStepLimit(1000);
+    assertSame(options.getPatternCache(), derivedOptions.getPatternCache());
+  }
+
+  @Test
+  void testPatternsCompiledOnLoad() {
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.DISABLED);
+    OpenApiSpec v1 = new OpenApiSpec("site-api-spec/site-api.yaml", "v1", options);
+    // url and content path patterns are compiled before any validator is built
+    assertEquals(Set.of("^http(|s)://.+", "(/[^/]+)+"),
+        v1.getPatterns().stream().map(Pattern::pattern).collect(Collectors.toSet()));
+
+    // specs loaded with derived options reuse the compiled patterns, also with the tree engine
+    OpenApiSpec v2 = new OpenApiSpec("site-api-spec/site-api.yaml", "v2", options.withPatternStepLimit(1000));
+    assertEquals(v1.getPatterns(), v2.getPatterns());
+    assertFalse(v1.getSchemaValidator("index").check("[{\"suffix\":\"index\",\"url\":\"ftp://x\"}]").isValid());
+    assertTrue(v2.getSchemaValidator("index").check("[{\"suffix\":\"index\",\"url\":\"http://x\"}]").isValid());
+  }
+
 }
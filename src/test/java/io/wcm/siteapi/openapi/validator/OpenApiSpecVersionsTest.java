@@ -21,9 +21,17 @@ package io.wcm.siteapi.openapi.validator;
 
 import static io.wcm.siteapi.openapi.validator.OpenApiSpecVersions.DEFAULT_FILENAME_PATTERN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.net.URL;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,6 +51,46 @@ class OpenApiSpecVersionsTest {
     assertEquals("v1", spec.getVersion());
   }
 
+  @Test
+  void testGetCached() {
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions();
+    OpenApiSpec spec = underTest.get("v1");
+    assertSame(spec, underTest.get("v1"));
+    assertSame(underTest.get("v2"), underTest.getLatest());
+  }
+
+  @Test
+  void testLoadAll() {
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions();
+    OpenApiSpec v1 = underTest.get("v1");
+    Map<String, OpenApiSpec> specs = underTest.loadAll();
+    assertEquals(List.of("", "v1", "v2"), List.copyOf(specs.keySet()));
+    assertSame(v1, specs.get("v1"));
+    assertSame(specs.get("v2"), underTest.get("v2"));
+  }
+
+  @Test
+  void testLoadAll_Executor() {
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Map<String, OpenApiSpec> specs = underTest.loadAll(executor);
+      assertEquals(3, specs.size());
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testWithOptions() {
+    OpenApiSpecVersions specVersions = new OpenApiSpecVersions();
+    OpenApiSpecVersions underTest = specVersions
+        .withOptions(OpenApiSpecOptions.DEFAULT.withConformanceCheck(ConformanceCheck.DISABLED));
+    assertEquals(List.copyOf(specVersions.getAllVersions()), List.copyOf(underTest.getAllVersions()));
+    assertNotSame(specVersions.get("v1"), underTest.get("v1"));
+  }
+
   @Test
   void testGetInvalid() {
     OpenApiSpecVersions underTest = new OpenApiSpecVersions();
@@ -51,6 +99,32 @@ class OpenApiSpecVersionsTest {
     });
   }
 
+  @Test
+  void testIndexFile() {
+    // site-api-v9.yaml is not listed in index file
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions("site-api-spec-indexed", DEFAULT_FILENAME_PATTERN, null);
+    assertEquals(List.of("v1"), List.copyOf(underTest.getAllVersions()));
+    assertEquals("v1", underTest.getLatest().getVersion());
+  }
+
+  @Test
+  void testUrls() {
+    URL url = getClass().getClassLoader().getResource("site-api-spec/site-api-v1.yaml");
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions(Map.of("v1", url, "v10", url),
+        Comparator.comparing(version -> Integer.parseInt(version.substring(1))));
+    assertEquals(List.of("v1", "v10"), List.copyOf(underTest.getAllVersions()));
+    assertEquals("v10", underTest.getLatestVersion());
+    assertEquals(url, underTest.get("v1").getURL());
+  }
+
+  @Test
+  void testUrlsEmpty() {
+    Map<String, URL> urls = Map.of();
+    assertThrows(IllegalArgumentException.class, () -> {
+      new OpenApiSpecVersions(urls);
+    });
+  }
+
   @Test
   void testNoFilesFound() {
     assertThrows(IllegalArgumentException.class, () -> {
@@ -58,4 +132,29 @@ class OpenApiSpecVersionsTest {
     });
   }
 
+  @Test
+  void testNodeInterning() {
+    OpenApiSpecVersions underTest = new OpenApiSpecVersions()
+        .withOptions(OpenApiSpecOptions.DEFAULT.withNodeInterning(true));
+    OpenApiSpec v1 = underTest.get("v1");
+    // nothing is shared while only a single spec is loaded
+    SpecMemoryUsage singleUsage = v1.getMemoryUsage();
+    assertEquals(0, singleUsage.getSharedSize());
+    assertEquals(singleUsage.getEstimatedSize(), singleUsage.getRetainedSize());
+
+    OpenApiSpec v2 = underTest.get("v2");
+    assertSame(v1.getRootNode().at("/components/schemas/ContentPath"),
+        v2.getRootNode().at("/components/schemas/ContentPath"));
+    assertTrue(v2.getSchemaValidator("index").check("[{\"suffix\":\"a\",\"url\":\"http://a\"}]").isValid());
+
+    SpecMemoryUsage usage = v2.getMemoryUsage();
+    assertTrue(usage.getSharedSize() > 0);
+    assertTrue(usage.getRetainedSize() < usage.getEstimatedSize());
+
+    SpecMemoryUsage usageWithoutInterning = new OpenApiSpecVersions().get("v2").getMemoryUsage();
+    assertEquals(0, usageWithoutInterning.getSharedSize());
+    assertEquals(usageWithoutInterning.getEstimatedSize(), usageWithoutInterning.getRetainedSize());
+    assertTrue(usage.getRetainedSize() < usageWithoutInterning.getRetainedSize());
+  }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReloadingSpecVersionsTest {
+
+  private static final String JSON_WITHOUT_URL = "[{\"suffix\":\"content\"}]";
+
+  @TempDir
+  Path tempDir;
+
+  private Path specFile;
+  private String specContent;
+  private OpenApiSpecVersions specVersions;
+  private List<String> reloaded;
+  private List<RuntimeException> failures;
+  private SpecReloadListener listener;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    try (InputStream is = getClass().getClassLoader().getResourceAsStream("site-api-spec/site-api.yaml")) {
+      specContent = IOUtils.toString(is, StandardCharsets.UTF_8);
+    }
+    specFile = tempDir.resolve("site-api-v1.yaml");
+    Files.writeString(specFile, specContent);
+    specVersions = new OpenApiSpecVersions(Map.of("v1", specFile.toUri().toURL()));
+    reloaded = new CopyOnWriteArrayList<>();
+    failures = new CopyOnWriteArrayList<>();
+    listener = new SpecReloadListener() {
+      @Override
+      public void reloaded(@NotNull String version, @NotNull OpenApiSpec spec) {
+        reloaded.add(version);
+      }
+      @Override
+      public void reloadFailed(@NotNull String version, @NotNull RuntimeException ex) {
+        failures.add(ex);
+      }
+    };
+  }
+
+  @Test
+  void testReload() throws IOException {
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions, listener)) {
+      OpenApiSpec spec = underTest.get("v1");
+      assertSame(spec, underTest.getLatest());
+      assertFalse(spec.getSchemaValidator("index").check(JSON_WITHOUT_URL).isValid());
+      assertFalse(underTest.reload("v1"));
+
+      Files.writeString(specFile, makeUrlOptional(specContent));
+      assertTrue(underTest.reload("v1"));
+      OpenApiSpec newSpec = underTest.get("v1");
+      assertNotSame(spec, newSpec);
+      assertTrue(newSpec.getSchemaValidator("index").check(JSON_WITHOUT_URL).isValid());
+      assertEquals(List.of("v1"), reloaded);
+
+      // previous instance is still usable
+      assertFalse(spec.getSchemaValidator("index").check(JSON_WITHOUT_URL).isValid());
+    }
+  }
+
+  @Test
+  void testReloadInvalid() throws IOException {
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions, listener)) {
+      OpenApiSpec spec = underTest.get("v1");
+      Files.writeString(specFile, "openapi: \"3.0.0\"\npaths: [");
+      assertThrows(SpecInvalidException.class, () -> underTest.reload("v1"));
+      assertSame(spec, underTest.get("v1"));
+
+      assertEquals(Set.of(), underTest.reloadChanged());
+      assertEquals(1, failures.size());
+    }
+  }
+
+  @Test
+  void testFailingListener() throws IOException {
+    SpecReloadListener failingListener = new SpecReloadListener() {
+      @Override
+      public void reloaded(@NotNull String version, @NotNull OpenApiSpec spec) {
+        reloaded.add(version);
+        throw new IllegalStateException("reloaded");
+      }
+      @Override
+      public void reloadFailed(@NotNull String version, @NotNull RuntimeException ex) {
+        failures.add(ex);
+        throw new IllegalStateException("reloadFailed");
+      }
+    };
+    List<Throwable> listenerExceptions = new CopyOnWriteArrayList<>();
+    Thread thread = Thread.currentThread();
+    Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+    thread.setUncaughtExceptionHandler((t, ex) -> listenerExceptions.add(ex));
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions, failingListener)) {
+      Files.writeString(specFile, "openapi: \"3.0.0\"\npaths: [");
+      assertEquals(Set.of(), underTest.reloadChanged());
+      assertEquals(1, failures.size());
+
+      // reloading continues after the listener failed
+      Files.writeString(specFile, makeUrlOptional(specContent));
+      assertEquals(Set.of("v1"), underTest.reloadChanged());
+      assertEquals(List.of("v1"), reloaded);
+      assertEquals(1, failures.size());
+      assertEquals(2, listenerExceptions.size());
+    }
+    finally {
+      thread.setUncaughtExceptionHandler(handler);
+    }
+  }
+
+  @Test
+  void testReloadReleasesSharedNodes() throws IOException {
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withNodeInterning(true);
+    specVersions = specVersions.withOptions(options);
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions, listener)) {
+      int poolSize = options.getNodeInterner().size();
+      for (int i = 0; i < 4; i++) {
+        Files.writeString(specFile, i % 2 == 0 ? makeUrlOptional(specContent) : specContent);
+        assertTrue(underTest.reload("v1"));
+      }
+      assertEquals(poolSize, options.getNodeInterner().size());
+      assertEquals(0, underTest.get("v1").getMemoryUsage().getSharedSize());
+    }
+  }
+
+  @Test
+  void testInvalidVersion() {
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions)) {
+      assertThrows(IllegalArgumentException.class, () -> underTest.get("v2"));
+      assertThrows(IllegalArgumentException.class, () -> underTest.reload("v2"));
+    }
+  }
+
+  @Test
+  void testWatch() throws IOException, InterruptedException {
+    try (ReloadingSpecVersions underTest = new ReloadingSpecVersions(specVersions, listener)) {
+      OpenApiSpec spec = underTest.get("v1");
+      underTest.startWatching();
+      Files.writeString(specFile, makeUrlOptional(specContent));
+
+      long timeout = System.currentTimeMillis() + 20000;
+      while (underTest.get("v1") == spec && System.currentTimeMillis() < timeout) {
+        Thread.sleep(20);
+      }
+      assertNotSame(spec, underTest.get("v1"));
+      assertTrue(underTest.get("v1").getSchemaValidator("index").check(JSON_WITHOUT_URL).isValid());
+    }
+  }
+
+  private static String makeUrlOptional(String content) {
+    return content.replace("required: [\"suffix\", \"url\"]", "required: [\"suffix\"]");
+  }
+
+}
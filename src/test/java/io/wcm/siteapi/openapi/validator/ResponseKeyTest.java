@@ -0,0 +1,57 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ResponseKeyTest {
+
+  @Test
+  void testNormalize() {
+    ResponseKey underTest = ResponseKey.of("index", "GET", 404, "Application/JSON; charset=UTF-8");
+    assertEquals("index", underTest.getSuffix());
+    assertEquals("get", underTest.getMethod());
+    assertEquals(404, underTest.getStatus());
+    assertEquals("application/json", underTest.getMediaType());
+    assertEquals("index GET 404 application/json", underTest.toString());
+  }
+
+  @Test
+  void testEquals() {
+    assertEquals(ResponseKey.of("index"), ResponseKey.of("index", "get", 200, "application/json"));
+    assertEquals(ResponseKey.of("index").hashCode(), ResponseKey.of("index", "GET", 200, "application/json").hashCode());
+    assertNotEquals(ResponseKey.of("index"), ResponseKey.of("index", "get", 404, "application/json"));
+    assertNotEquals(ResponseKey.of("index"), ResponseKey.of("index", "post", 200, "application/json"));
+    assertNotEquals(ResponseKey.of("index"), ResponseKey.of("index", "get", 200, "application/hal+json"));
+    assertNotEquals(ResponseKey.of("index"), ResponseKey.of("other"));
+  }
+
+  @Test
+  void testDefaultResponse() {
+    assertTrue(ResponseKey.of("index").isDefaultResponse());
+    assertFalse(ResponseKey.of("index", "get", 500, "application/json").isDefaultResponse());
+  }
+
+}
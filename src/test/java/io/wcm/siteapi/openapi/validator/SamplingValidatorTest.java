@@ -0,0 +1,160 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SamplingValidatorTest {
+
+  private static final byte[] VALID_JSON = "[{\"suffix\":\"content\",\"url\":\"http://localhost/content.json\"}]"
+      .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] INVALID_JSON = "[{\"suffix\":\"content\"}]".getBytes(StandardCharsets.UTF_8);
+
+  private OpenApiSpec spec;
+  private List<ValidationOutcome> failures;
+
+  @BeforeEach
+  void setUp() {
+    spec = new OpenApiSpec("site-api-spec/site-api.yaml", "");
+    failures = new CopyOnWriteArrayList<>();
+  }
+
+  @Test
+  void testSampleAll() throws InterruptedException {
+    try (SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(1), (suffix, outcome) -> failures.add(outcome))) {
+      for (int i = 0; i < 10; i++) {
+        assertTrue(underTest.submit("index", i % 2 == 0 ? VALID_JSON : INVALID_JSON));
+      }
+      await(() -> underTest.getValidatedCount() == 10);
+      assertEquals(10, underTest.getSampledCount());
+      assertEquals(5, underTest.getFailedCount());
+      await(() -> failures.size() == 5);
+      assertEquals("index", failures.get(0).getSuffix());
+      assertEquals("/0", failures.get(0).getItems().get(0).dataJsonPointer());
+    }
+  }
+
+  @Test
+  void testRatePerSuffix() throws InterruptedException {
+    try (SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(0).withRate("index", 1), (suffix, outcome) -> failures.add(outcome))) {
+      assertFalse(underTest.submit("other", VALID_JSON));
+      assertTrue(underTest.submit("index", VALID_JSON));
+      await(() -> underTest.getValidatedCount() == 1);
+      assertEquals(1, underTest.getSampledCount());
+    }
+  }
+
+  @Test
+  void testUnknownSuffix() throws InterruptedException {
+    try (SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(1), (suffix, outcome) -> failures.add(outcome))) {
+      assertTrue(underTest.submit("unknown", VALID_JSON));
+      await(() -> underTest.getSkippedCount() == 1);
+      assertEquals(0, underTest.getValidatedCount());
+    }
+  }
+
+  @Test
+  void testQueueFull() throws InterruptedException {
+    CountDownLatch callbackEntered = new CountDownLatch(1);
+    CountDownLatch releaseCallback = new CountDownLatch(1);
+    try (SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(1).withQueueCapacity(1),
+        (suffix, outcome) -> {
+          callbackEntered.countDown();
+          try {
+            releaseCallback.await();
+          }
+          catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        })) {
+      // worker thread blocks in failure callback
+      assertTrue(underTest.submit("index", INVALID_JSON));
+      assertTrue(callbackEntered.await(5, TimeUnit.SECONDS));
+
+      assertTrue(underTest.submit("index", VALID_JSON));
+      assertFalse(underTest.submit("index", VALID_JSON));
+      assertFalse(underTest.submit("index", VALID_JSON));
+      assertEquals(2, underTest.getSampledCount());
+      assertEquals(2, underTest.getDroppedCount());
+
+      releaseCallback.countDown();
+      await(() -> underTest.getValidatedCount() == 2);
+    }
+  }
+
+  @Test
+  void testBackoff() throws InterruptedException {
+    try (SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(1).withCpuBudget(0.000001).withBudgetWindow(Duration.ofMillis(1)),
+        (suffix, outcome) -> failures.add(outcome))) {
+      assertEquals(1d, underTest.getBackoffFactor());
+      for (int i = 0; i < 5; i++) {
+        underTest.submit("index", VALID_JSON);
+        Thread.sleep(5);
+      }
+      await(() -> underTest.getBackoffFactor() < 1d);
+    }
+  }
+
+  @Test
+  void testClose() {
+    SamplingValidator underTest = new SamplingValidator(spec,
+        SamplingOptions.DEFAULT.withDefaultRate(1), (suffix, outcome) -> failures.add(outcome));
+    underTest.close();
+    assertFalse(underTest.submit("index", VALID_JSON));
+  }
+
+  @Test
+  void testInvalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> SamplingOptions.DEFAULT.withDefaultRate(1.5));
+    assertThrows(IllegalArgumentException.class, () -> SamplingOptions.DEFAULT.withRate("index", -1));
+    assertThrows(IllegalArgumentException.class, () -> SamplingOptions.DEFAULT.withQueueCapacity(0));
+    assertThrows(IllegalArgumentException.class, () -> SamplingOptions.DEFAULT.withWorkerThreads(0));
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > timeout) {
+        throw new AssertionError("Timeout.");
+      }
+      Thread.sleep(5);
+    }
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openapi4j.core.model.v3.OAI3Context;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults.ValidationItem;
+import org.openapi4j.schema.validator.ValidationContext;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Schemas and documents for comparing the validation engines with the openapi4j schema validator.
+ */
+final class SchemaTestFixtures {
+
+  static final String SPEC = "{'components':{'schemas':{"
+      + "'Root':{'type':'object','required':['id','items'],'additionalProperties':false,'properties':{"
+      + "'id':{'type':'string','pattern':'^[a-z]+$','description':'ID'},"
+      + "'count':{'type':'integer','minimum':0,'maximum':10,'exclusiveMaximum':true},"
+      + "'ratio':{'type':'number','nullable':true,'minimum':0.5,'exclusiveMinimum':true,'maximum':2.5},"
+      + "'flag':{'type':'boolean','x-custom':'value'},"
+      + "'title':{'type':'string','minLength':2,'maxLength':5},"
+      + "'items':{'type':'array','items':{'$ref':'#/components/schemas/Item'}},"
+      + "'matrix':{'type':'array','items':{'type':'array','items':{'type':'integer'}}},"
+      + "'map':{'type':'object','additionalProperties':{'$ref':'#/components/schemas/Item'}},"
+      + "'alias':{'$ref':'#/components/schemas/Alias'},"
+      + "'any':{}}},"
+      + "'Item':{'type':'object','required':['name'],'properties':{"
+      + "'name':{'type':'string'},"
+      + "'children':{'type':'array','items':{'$ref':'#/components/schemas/Item'}}}},"
+      + "'Alias':{'$ref':'#/components/schemas/Item'},"
+      + "'WithFormat':{'type':'string','format':'date-time'},"
+      + "'WithNestedEnum':{'type':'object','properties':{'a':{'type':'string','enum':['x']}}},"
+      + "'WithRefSibling':{'$ref':'#/components/schemas/Item','nullable':true}"
+      + "}}}";
+
+  static final String[] DOCUMENTS = {
+      "{'id':'abc','items':[]}",
+      "{'id':'abc','count':5,'ratio':1,'flag':true,'title':'ab','items':[{'name':'a','children':[{'name':'b'}]}],"
+          + "'matrix':[[1,2],[3]],'map':{'x':{'name':'c'}},'alias':{'name':'d'},'any':{'deep':[1,{'a':null}]}}",
+      "{'id':'ABC','count':1.5,'ratio':'x','flag':'true','title':'abcdef','items':{},'other':1}",
+      "{'id':null,'count':null,'ratio':null,'items':[null,1,{},{'name':1,'children':[{'children':[{}]}]}]}",
+      "{'items':[],'matrix':[[1,'a'],3,[null]],'map':{'x':{},'y':null,'z':[1]},'alias':{'children':[1]}}",
+      "{'id':12,'items':[{'name':'a','extra':{'id':'x'}}],'extra':[1,2,{'a':'b'}]}",
+      "{'id':'a','items':[],'count':-1,'ratio':0.5,'title':'a'}",
+      "{'id':'a','items':[],'count':10,'ratio':2.50,'title':'\\ud83d\\ude00\\ud83d\\ude00'}",
+      "{'id':'a','items':[],'count':12345678901234567890,'ratio':3.0,'title':12}",
+      "[1,2,3]",
+      "'text'",
+      "null",
+      "42"
+  };
+
+  private SchemaTestFixtures() {
+    // static methods only
+  }
+
+  static JsonNode rootNode() {
+    return json(SPEC);
+  }
+
+  static String document(int index) {
+    return DOCUMENTS[index].replace('\'', '"');
+  }
+
+  static SchemaValidator treeValidator(JsonNode rootNode, String name) throws Exception {
+    OAI3Context context = new OAI3Context(new URL("file:/spec.yaml"), rootNode);
+    return new SchemaValidator(new ValidationContext<>(context), null, rootNode.at("/components/schemas/" + name));
+  }
+
+  /**
+   * Converts items for comparing them independent of order, openapi4j reports errors in the order of the
+   * schema keywords.
+   */
+  static List<String> toStrings(List<ValidationItem> items) {
+    return items.stream()
+        .map(item -> item.code() + " " + item.dataJsonPointer() + " " + item.schemaCrumbs() + " " + item.message())
+        .sorted()
+        .collect(Collectors.toList());
+  }
+
+  static JsonNode json(String value) {
+    try {
+      return TreeUtil.json.readTree(value.replace('\'', '"'));
+    }
+    catch (IOException ex) {
+      throw new IllegalArgumentException(ex);
+    }
+  }
+
+}
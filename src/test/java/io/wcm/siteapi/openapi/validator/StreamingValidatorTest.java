@@ -0,0 +1,128 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.DOCUMENTS;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.document;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.json;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.toStrings;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.treeValidator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+class StreamingValidatorTest {
+
+  private final JsonNode rootNode = SchemaTestFixtures.rootNode();
+
+  @Test
+  void testSameResultsAsTreeValidator() throws Exception {
+    SchemaValidator treeValidator = treeValidator(rootNode, "Root");
+    StreamingValidator streamingValidator = streamingValidator("Root");
+    for (int i = 0; i < DOCUMENTS.length; i++) {
+      String json = document(i);
+      ValidationData<Void> validation = new ValidationData<>();
+      treeValidator.validate(TreeUtil.json.readTree(json), validation);
+      ValidationResults results = validate(streamingValidator, json, null);
+      assertEquals(toStrings(validation.results().items()), toStrings(results.items()), json);
+      assertEquals(validation.isValid(), results.isValid(), json);
+    }
+  }
+
+  @Test
+  void testMaxErrors() throws IOException {
+    StreamingValidator streamingValidator = streamingValidator("Root");
+    String json = document(3);
+    assertTrue(validate(streamingValidator, json, null).size() > 2);
+    assertEquals(2, validate(streamingValidator, json, 2).size());
+  }
+
+  @Test
+  void testUnsupportedKeywords() {
+    assertNull(CompiledSchema.compile(rootNode.at("/components/schemas/WithFormat"), rootNode));
+    assertNull(CompiledSchema.compile(rootNode.at("/components/schemas/WithNestedEnum"), rootNode));
+    assertNull(CompiledSchema.compile(rootNode.at("/components/schemas/WithRefSibling"), rootNode));
+    assertNull(CompiledSchema.compile(json("{'$ref':'other.yaml#/components/schemas/Item'}"), rootNode));
+    JsonNode cycle = json("{'a':{'$ref':'#/b'},'b':{'$ref':'#/a'}}");
+    assertNull(CompiledSchema.compile(cycle.get("a"), cycle));
+    assertNotNull(CompiledSchema.compile(rootNode.at("/components/schemas/Root"), rootNode));
+  }
+
+  @Test
+  void testSpecWithStreamingEngine() throws Exception {
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withValidationEngine(ValidationEngine.STREAMING);
+    OpenApiSpec spec = new OpenApiSpecVersions().withOptions(options).getLatest();
+    OpenApiSchemaValidator validator = spec.getSchemaValidator("index");
+    assertTrue(validator.isStreaming());
+    assertFalse(new OpenApiSpecVersions().getLatest().getSchemaValidator("index").isStreaming());
+
+    String valid = readFile("valid-response.json");
+    String invalid = readFile("invalid-response.json");
+    assertTrue(validator.check(valid).isValid());
+    assertTrue(validator.check(valid.getBytes(StandardCharsets.UTF_8)).isValid());
+    ValidationOutcome outcome = validator.check(invalid);
+    assertFalse(outcome.isValid());
+    assertEquals(toStrings(validator.check(TreeUtil.json.readTree(invalid)).getItems()),
+        toStrings(outcome.getItems()));
+    assertEquals(1, validator.failFast().check(invalid).getItems().size());
+
+    // syntax errors are reported as parse errors, also after validating parts of the content
+    assertFalse(validator.check(readFile("invalid-json-syntax.json")).isValid());
+    assertFalse(validator.check("{\"unexpected\":1,").isValid());
+    assertEquals(validator.check(TreeUtil.json.missingNode()).isValid(), validator.check("").isValid());
+  }
+
+  private StreamingValidator streamingValidator(String name) {
+    CompiledSchema schema = CompiledSchema.compile(rootNode.at("/components/schemas/" + name), rootNode);
+    assertNotNull(schema);
+    return new StreamingValidator(schema);
+  }
+
+  private static ValidationResults validate(StreamingValidator validator, String json, Integer maxErrors)
+      throws IOException {
+    try (JsonParser parser = TreeUtil.json.createParser(json)) {
+      parser.nextToken();
+      return validator.validate(parser, maxErrors);
+    }
+  }
+
+  private static String readFile(String fileName) throws IOException {
+    try (InputStream is = StreamingValidatorTest.class.getResourceAsStream("/json-samples/" + fileName)) {
+      return IOUtils.toString(is, StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.openapi4j.core.util.TreeUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+
+class SubtreeCacheTest {
+
+  private final SubtreeCache underTest = new SubtreeCache(16);
+  private final long schemaKey = underTest.schemaKey("#/components/schemas/Link");
+
+  @Test
+  void testStructuralKey() throws Exception {
+    assertEquals(key("{'a':1,'b':['x',true,null]}"), key("{'b':['x',true,null],'a':1}"));
+    assertNotEquals(key("{'a':1}"), key("{'a':1.0}"));
+    assertNotEquals(key("{'a':'1'}"), key("{'a':1}"));
+    assertNotEquals(key("['x','y']"), key("['y','x']"));
+    // same String.hashCode
+    assertNotEquals(key("'Aa'"), key("'BB'"));
+    assertNotEquals(key("{'a':{}}"), key("{'a':[]}"));
+    assertNotEquals(key("{'a':1}"), underTest.key(underTest.schemaKey("#/components/schemas/Other"), node("{'a':1}")));
+  }
+
+  @Test
+  void testHashesRememberedPerRun() throws Exception {
+    JsonNode node = node("{'a':{'b':[1,2]},'c':'x'}");
+    Map<JsonNode, Long> hashes = new IdentityHashMap<>();
+    long key = underTest.key(schemaKey, node, hashes);
+    assertEquals(key("{'a':{'b':[1,2]},'c':'x'}"), key);
+    // root object, nested object and array
+    assertEquals(3, hashes.size());
+    assertTrue(hashes.containsKey(node.get("a").get("b")));
+
+    // nested subtrees are not hashed again
+    hashes.put(node.get("a"), 42L);
+    hashes.remove(node);
+    assertNotEquals(key, underTest.key(schemaKey, node, hashes));
+  }
+
+  @Test
+  void testAddContains() throws Exception {
+    long key = key("{'url':'/content/page.html'}");
+    assertFalse(underTest.contains(key));
+    underTest.add(key);
+    assertTrue(underTest.contains(key));
+    assertEquals(1, underTest.getHitCount());
+    assertEquals(1, underTest.getMissCount());
+  }
+
+  @Test
+  void testUnsupportedNode() {
+    assertThrows(IllegalArgumentException.class,
+        () -> underTest.key(schemaKey, TreeUtil.json.createArrayNode().add(BinaryNode.valueOf(new byte[1]))));
+  }
+
+  private long key(String json) throws Exception {
+    return underTest.key(schemaKey, node(json));
+  }
+
+  private static JsonNode node(String json) throws Exception {
+    return TreeUtil.json.readTree(json.replace('\'', '"'));
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+class ValidationMetricsRecorderTest {
+
+  private static final String VALID_JSON = "[{\"suffix\":\"content\",\"url\":\"http://localhost/content.json\"}]";
+  private static final String INVALID_JSON = "[{\"suffix\":\"content\"}]";
+
+  @Test
+  void testRecordMetrics() {
+    ValidationMetricsRecorder underTest = new ValidationMetricsRecorder();
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api.yaml", "v1",
+        OpenApiSpecOptions.DEFAULT.withMetricsListener(underTest));
+    assertEquals(Set.of("v1"), underTest.getSpecLoadNanos().keySet());
+    assertTrue(underTest.getSpecLoadNanos().get("v1") > 0);
+    assertNull(underTest.getSuffixMetrics("index"));
+
+    OpenApiSchemaValidator validator = spec.getSchemaValidator("index");
+    validator.check(VALID_JSON);
+    validator.check(VALID_JSON);
+    validator.check(INVALID_JSON);
+    validator.failFast().check("{");
+    validator.check(JsonNodeFactory.instance.arrayNode());
+
+    SuffixMetrics metrics = underTest.getSuffixMetrics("index");
+    assertEquals(Set.of("index"), underTest.getSuffixMetrics().keySet());
+    assertEquals(1, metrics.getCompileCount());
+    assertTrue(metrics.getCompileNanos() > 0);
+    assertEquals(5, metrics.getValidationCount());
+    assertEquals(1, metrics.getInvalidCount());
+    assertEquals(1, metrics.getParseErrorCount());
+    assertEquals(0.4, metrics.getFailureRate(), 0.0001);
+    // JSON tree is not parsed
+    assertEquals(4, metrics.getParseTime().getCount());
+    // parse error is not validated
+    assertEquals(4, metrics.getValidationTime().getCount());
+  }
+
+  @Test
+  void testNoopListener() {
+    OpenApiSpec spec = new OpenApiSpec("site-api-spec/site-api.yaml", "");
+    assertTrue(spec.getSchemaValidator("index").check(VALID_JSON).isValid());
+    assertEquals(ValidationMetricsListener.NOOP, OpenApiSpecOptions.DEFAULT.getMetricsListener());
+  }
+
+}
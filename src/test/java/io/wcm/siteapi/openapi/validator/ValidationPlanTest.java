@@ -0,0 +1,227 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.DOCUMENTS;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.document;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.toStrings;
+import static io.wcm.siteapi.openapi.validator.SchemaTestFixtures.treeValidator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.openapi4j.core.util.TreeUtil;
+import org.openapi4j.core.validation.ValidationResults;
+import org.openapi4j.schema.validator.ValidationData;
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class ValidationPlanTest {
+
+  private final JsonNode rootNode = SchemaTestFixtures.rootNode();
+
+  @Test
+  void testSameResultsAsTreeValidator() throws Exception {
+    SchemaValidator treeValidator = treeValidator(rootNode, "Root");
+    ValidationPlan plan = plan("Root");
+    for (int i = 0; i < DOCUMENTS.length; i++) {
+      JsonNode node = TreeUtil.json.readTree(document(i));
+      ValidationData<Void> validation = new ValidationData<>();
+      treeValidator.validate(node, validation);
+      ValidationResults results = plan.validate(node, null);
+      assertNotNull(results);
+      assertEquals(toStrings(validation.results().items()), toStrings(results.items()), document(i));
+      assertEquals(validation.isValid(), results.isValid(), document(i));
+    }
+  }
+
+  @Test
+  void testSameResultsWithSubtreeCache() throws Exception {
+    ValidationPlan plan = plan("Root");
+    SubtreeCache cache = new SubtreeCache(64);
+    ValidationPlan cachedPlan = ValidationPlan.compile(
+        CompiledSchema.compile(rootNode.at("/components/schemas/Root"), rootNode), cache);
+    // validate twice, the second pass uses the cached subtrees of the first one
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < DOCUMENTS.length; i++) {
+        JsonNode node = TreeUtil.json.readTree(document(i));
+        ValidationResults expected = plan.validate(node, null);
+        ValidationResults results = cachedPlan.validate(node, null);
+        assertNotNull(results);
+        assertEquals(toStrings(expected.items()), toStrings(results.items()), document(i));
+      }
+    }
+    assertTrue(cache.getHitCount() > 0);
+  }
+
+  @Test
+  void testSubtreeCacheSkipsRepeatedSubtrees() throws IOException {
+    SubtreeCache cache = new SubtreeCache(64);
+    ValidationPlan plan = ValidationPlan.compile(
+        CompiledSchema.compile(rootNode.at("/components/schemas/Root"), rootNode), cache);
+    JsonNode node = TreeUtil.json.readTree("{\"id\":\"a\",\"items\":[{\"name\":\"x\"},{\"name\":\"x\"},"
+        + "{\"name\":\"y\"}]}");
+    assertTrue(plan.validate(node, null).isValid());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+
+    // invalid subtrees are not cached
+    JsonNode invalid = TreeUtil.json.readTree("{\"id\":\"a\",\"items\":[{},{}]}");
+    assertEquals(2, plan.validate(invalid, null).size());
+    assertEquals(2, plan.validate(invalid, null).size());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  void testSubtreeCacheNestedReferences() throws IOException {
+    int depth = 200;
+    StringBuilder item = new StringBuilder("{\"name\":\"leaf\"}");
+    for (int i = 0; i < depth; i++) {
+      item = new StringBuilder("{\"name\":\"n").append(i).append("\",\"children\":[").append(item).append("]}");
+    }
+    JsonNode node = TreeUtil.json.readTree("{\"id\":\"a\",\"items\":[" + item + "]}");
+    JsonNode invalidNode = node.deepCopy();
+    JsonNode leaf = invalidNode.at("/items/0");
+    while (leaf.has("children")) {
+      leaf = leaf.get("children").get(0);
+    }
+    ((ObjectNode)leaf).remove("name");
+
+    SubtreeCache cache = new SubtreeCache(1024);
+    ValidationPlan plan = ValidationPlan.compile(
+        CompiledSchema.compile(rootNode.at("/components/schemas/Root"), rootNode), cache);
+    // each nested reference is probed once
+    assertTrue(plan.validate(node, null).isValid());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(depth + 1, cache.getMissCount());
+    // the outermost reference is found on the next run
+    assertTrue(plan.validate(node, null).isValid());
+    assertEquals(1, cache.getHitCount());
+
+    // the invalid leaf is reported through all nested references
+    ValidationResults results = plan.validate(invalidNode, null);
+    assertEquals(toStrings(plan("Root").validate(invalidNode, null).items()), toStrings(results.items()));
+    assertEquals(1, results.size());
+  }
+
+  @Test
+  void testValidateChanges() throws IOException {
+    ValidationPlan plan = plan("Root");
+    JsonNode previous = TreeUtil.json.readTree(document(1));
+    assertTrue(plan.validate(previous, null).isValid());
+    assertTrue(plan.validate(previous.deepCopy(), previous, null).isValid());
+
+    // changed subtrees are reported with the same errors as with full validation
+    for (int i = 0; i < DOCUMENTS.length; i++) {
+      JsonNode node = TreeUtil.json.readTree(document(i));
+      ValidationResults results = plan.validate(node, previous, null);
+      assertNotNull(results);
+      assertEquals(toStrings(plan.validate(node, null).items()), toStrings(results.items()), document(i));
+    }
+  }
+
+  @Test
+  void testValidateChangesSkipsUnchangedSubtrees() throws IOException {
+    ValidationPlan plan = plan("Root");
+    JsonNode previous = TreeUtil.json.readTree("{\"id\":\"abc\",\"items\":[{\"name\":\"a\"}]}");
+    // errors in unchanged subtrees are not reported, because the previous tree is expected to be valid
+    JsonNode invalidPrevious = TreeUtil.json.readTree("{\"id\":\"ABC\",\"items\":[{\"name\":\"a\"}]}");
+    JsonNode node = TreeUtil.json.readTree("{\"id\":\"ABC\",\"items\":[{\"name\":\"a\"},{}]}");
+
+    assertEquals(2, plan.validate(node, previous, null).size());
+    assertEquals(1, plan.validate(node, invalidPrevious, null).size());
+  }
+
+  @Test
+  void testMaxErrors() throws IOException {
+    ValidationPlan plan = plan("Root");
+    JsonNode node = TreeUtil.json.readTree(document(3));
+    assertTrue(plan.validate(node, null).size() > 2);
+    assertEquals(2, plan.validate(node, 2).size());
+  }
+
+  @Test
+  void testUnsupportedNodes() {
+    assertNull(plan("Root").validate(TreeUtil.json.missingNode(), null));
+    assertNull(plan("Item").validate(TreeUtil.json.createObjectNode().set("name", BinaryNode.valueOf(new byte[1])),
+        null));
+  }
+
+  @Test
+  void testPropertyTable() {
+    String[] names = new String[100];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = "property" + i;
+    }
+    ValidationPlan.PropertyTable table = new ValidationPlan.PropertyTable(names);
+    for (int i = 0; i < names.length; i++) {
+      assertEquals(i, table.indexOf(names[i]));
+    }
+    assertEquals(-1, table.indexOf("other"));
+    assertEquals(-1, new ValidationPlan.PropertyTable(new String[0]).indexOf("other"));
+  }
+
+  @Test
+  void testSpecWithCompiledEngine() throws Exception {
+    OpenApiSpecOptions options = OpenApiSpecOptions.DEFAULT.withValidationEngine(ValidationEngine.COMPILED);
+    OpenApiSchemaValidator validator = new OpenApiSpecVersions().withOptions(options).getLatest()
+        .getSchemaValidator("index");
+    OpenApiSchemaValidator treeValidator = new OpenApiSpecVersions().getLatest().getSchemaValidator("index");
+    assertTrue(validator.isCompiled());
+    assertFalse(validator.isStreaming());
+    assertFalse(treeValidator.isCompiled());
+
+    assertTrue(validator.check(readFile("valid-response.json")).isValid());
+    String invalid = readFile("invalid-response.json");
+    ValidationOutcome outcome = validator.check(invalid);
+    assertFalse(outcome.isValid());
+    assertEquals(toStrings(treeValidator.check(invalid).getItems()), toStrings(outcome.getItems()));
+    assertEquals(1, validator.failFast().check(invalid).getItems().size());
+    JsonNode validNode = TreeUtil.json.readTree(readFile("valid-response.json"));
+    assertEquals(toStrings(outcome.getItems()),
+        toStrings(validator.checkChanges(validNode, TreeUtil.json.readTree(invalid)).getItems()));
+    assertTrue(treeValidator.checkChanges(validNode, validNode).isValid());
+    assertEquals(treeValidator.check("").isValid(), validator.check("").isValid());
+  }
+
+  private ValidationPlan plan(String name) {
+    CompiledSchema schema = CompiledSchema.compile(rootNode.at("/components/schemas/" + name), rootNode);
+    assertNotNull(schema);
+    return ValidationPlan.compile(schema);
+  }
+
+  private static String readFile(String fileName) throws IOException {
+    try (InputStream is = ValidationPlanTest.class.getResourceAsStream("/json-samples/" + fileName)) {
+      return IOUtils.toString(is, StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * #%L
+ * wcm.io
+ * %%
+ * Copyright (C) 2026 wcm.io
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.wcm.siteapi.openapi.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValidatorCacheTest {
+
+  private OpenApiSchemaValidator validator;
+  private ConcurrentMap<String, AtomicInteger> loadCounts;
+
+  @BeforeEach
+  void setUp() {
+    validator = new OpenApiSpec("site-api-spec/site-api.yaml", "").getSchemaValidator("index");
+    loadCounts = new ConcurrentHashMap<>();
+  }
+
+  private OpenApiSchemaValidator load(String key) {
+    loadCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    return validator.withMaxErrors(key.length());
+  }
+
+  private String resolve(String lookupKey) {
+    loadCounts.computeIfAbsent("resolve:" + lookupKey, k -> new AtomicInteger()).incrementAndGet();
+    if (lookupKey.startsWith("unknown")) {
+      throw new IllegalArgumentException("No matching path definition found for suffix: " + lookupKey);
+    }
+    // lookup keys with fallback share the cache key
+    return StringUtils.substringBefore(lookupKey, "-");
+  }
+
+  private ValidatorCache<String> cache(int maxSize) {
+    return new ValidatorCache<>(maxSize, this::load);
+  }
+
+  @Test
+  void testHitsAndMisses() {
+    ValidatorCache<String> underTest = cache(10);
+    OpenApiSchemaValidator first = underTest.get("a");
+    assertSame(first, underTest.get("a"));
+    assertSame(first, underTest.get("a"));
+
+    ValidatorCacheStats stats = underTest.getStats();
+    assertEquals(1, stats.getSize());
+    assertEquals(2, stats.getHitCount());
+    assertEquals(1, stats.getMissCount());
+    assertEquals(1, stats.getLoadCount());
+    assertEquals(2d / 3, stats.getHitRate(), 0.0001);
+    assertEquals(1, loadCounts.get("a").get());
+  }
+
+  @Test
+  void testResolvedKeysShareValidator() {
+    ValidatorCache<String> underTest = cache(10);
+    OpenApiSchemaValidator first = underTest.get("a-1", this::resolve);
+    for (int i = 2; i < 100; i++) {
+      assertSame(first, underTest.get("a-" + i, this::resolve));
+    }
+    assertEquals(1, underTest.size());
+    assertEquals(1, loadCounts.get("a").get());
+    assertEquals(1, underTest.getStats().getLoadCount());
+  }
+
+  @Test
+  void testNegativeCaching() {
+    ValidatorCache<String> underTest = cache(10);
+    for (int i = 0; i < 3; i++) {
+      IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+          () -> underTest.get("unknown", this::resolve));
+      assertEquals("No matching path definition found for suffix: unknown", ex.getMessage());
+    }
+    // negative hits do not capture a stack trace
+    assertEquals(0, assertThrows(IllegalArgumentException.class,
+        () -> underTest.get("unknown", this::resolve)).getStackTrace().length);
+    assertEquals(1, loadCounts.get("resolve:unknown").get());
+
+    ValidatorCacheStats stats = underTest.getStats();
+    assertEquals(0, stats.getSize());
+    assertEquals(1, stats.getLoadFailureCount());
+    assertEquals(3, stats.getNegativeHitCount());
+    assertEquals(0, stats.getLoadCount());
+  }
+
+  @Test
+  void testEvictLeastRecentlyUsed() throws InterruptedException {
+    ValidatorCache<String> underTest = cache(2);
+    underTest.get("a");
+    Thread.sleep(5);
+    underTest.get("bb");
+    Thread.sleep(5);
+    underTest.get("a");
+    Thread.sleep(5);
+    underTest.get("ccc");
+
+    assertEquals(2, underTest.size());
+    assertEquals(1, underTest.getStats().getEvictionCount());
+    underTest.get("a");
+    underTest.get("ccc");
+    assertEquals(1, loadCounts.get("a").get());
+    assertEquals(1, loadCounts.get("ccc").get());
+    // evicted entry is loaded again
+    underTest.get("bb");
+    assertEquals(2, loadCounts.get("bb").get());
+  }
+
+  @Test
+  void testEvictInBatches() {
+    ValidatorCache<String> underTest = cache(20);
+    for (int i = 0; i < 21; i++) {
+      underTest.get("a" + i);
+    }
+    assertEquals(18, underTest.size());
+    assertEquals(3, underTest.getStats().getEvictionCount());
+    underTest.get("b");
+    underTest.get("c");
+    assertEquals(20, underTest.size());
+    assertEquals(3, underTest.getStats().getEvictionCount());
+  }
+
+  @Test
+  void testUnknownKeysDoNotEvictValidators() {
+    ValidatorCache<String> underTest = cache(5);
+    underTest.get("a", this::resolve);
+    for (int i = 0; i < 100; i++) {
+      String key = "unknown" + i;
+      IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+          () -> underTest.get(key, this::resolve));
+      assertEquals("No matching path definition found for suffix: " + key, ex.getMessage());
+    }
+    assertEquals(1, underTest.size());
+    assertEquals(0, underTest.getStats().getEvictionCount());
+    assertEquals(100, underTest.getStats().getLoadFailureCount());
+    underTest.get("a", this::resolve);
+    assertEquals(1, loadCounts.get("a").get());
+  }
+
+  @Test
+  void testConcurrentLoadOnce() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    ValidatorCache<String> underTest = new ValidatorCache<>(10, key -> {
+      try {
+        start.await();
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return load(key);
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<OpenApiSchemaValidator>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(CompletableFuture.supplyAsync(() -> underTest.get("a"), executor));
+      }
+      start.countDown();
+      OpenApiSchemaValidator first = futures.get(0).get();
+      for (CompletableFuture<OpenApiSchemaValidator> future : futures) {
+        assertSame(first, future.get());
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+    assertEquals(1, loadCounts.get("a").get());
+  }
+
+}